@@ -0,0 +1,20 @@
+/**
+ * Аутентифицированное шифрование с отдельным тегом (режимы GCM и OCB).
+ */
+public interface AuthenticatedCipher {
+    int tagLength();
+
+    /**
+     * @param iv вектор инициализации (nonce)
+     * @param associatedData аутентифицируемые, но не шифруемые данные (может быть null)
+     * @param plaintext открытый текст произвольной длины
+     * @param tag массив длины tagLength() для тега
+     * @return шифртекст той же длины, что и plaintext
+     */
+    byte[] encrypt(byte[] iv, byte[] associatedData, byte[] plaintext, byte[] tag);
+
+    /**
+     * @return открытый текст; при несовпадении тега бросается IllegalArgumentException
+     */
+    byte[] decrypt(byte[] iv, byte[] associatedData, byte[] ciphertext, byte[] tag);
+}
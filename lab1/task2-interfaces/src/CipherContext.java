@@ -13,6 +13,7 @@ public class CipherContext {
     private final byte[] iv;
     private final int blockSize;
     private final ExecutorService executor;
+    private final AuthenticatedCipher authenticated;
 
     /**
      * Конструктор в соответствии с заданием (принимает ключ шифрования).
@@ -52,6 +53,7 @@ public class CipherContext {
         if (mode.requiresIV() && (iv == null || iv.length == 0)) {
             throw new IllegalArgumentException("IV is required for " + mode + " mode");
         }
+        checkNonceLength(mode, iv);
 
         // Настраиваем ключи шифрования
         cipher.setEncryptionKey(key);
@@ -63,6 +65,7 @@ public class CipherContext {
         this.blockSize = blockSize;
         this.iv = iv != null ? Arrays.copyOf(iv, iv.length) : null;
         this.executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        this.authenticated = mode.authenticator(cipher);
     }
 
     public CipherContext(
@@ -76,30 +79,113 @@ public class CipherContext {
     }
 
     public CompletableFuture<Void> encryptAsync(byte[] data, byte[][] result) {
+        return CompletableFuture.runAsync(() -> result[0] = encrypt(data), executor);
+    }
+
+    public CompletableFuture<Void> decryptAsync(byte[] data, byte[][] result) {
+        return CompletableFuture.runAsync(() -> result[0] = decrypt(data), executor);
+    }
+
+    /**
+     * Шифрование независимых сообщений с собственными IV одним вызовом.
+     * В режиме CBC с BatchCipher цепочки сообщений продвигаются синхронно,
+     * и блоки разных сообщений шифруются общими пакетами.
+     *
+     * @param data сообщения
+     * @param ivs вектор инициализации для каждого сообщения (null, если режим не требует IV)
+     * @param result массив длины data.length для зашифрованных сообщений
+     */
+    public CompletableFuture<Void> encryptAllAsync(byte[][] data, byte[][] ivs, byte[][] result) {
+        checkMessageIVs(data, ivs);
         return CompletableFuture.runAsync(() -> {
-            byte[] paddedData = padding.pad(data, blockSize);
-            byte[][] blocks = splitIntoBlocks(paddedData, blockSize);
-            byte[][] encryptedBlocks = mode.encrypt(blocks, cipher, iv);
-            result[0] = mergeBlocks(encryptedBlocks);
+            byte[][][] messages = new byte[data.length][][];
+            for (int m = 0; m < data.length; m++) {
+                messages[m] = splitIntoBlocks(padding.pad(data[m], blockSize), blockSize);
+            }
+            byte[][][] encrypted = authenticated != null
+                    ? mode.encrypt(messages, authenticated, ivs)
+                    : mode.encrypt(messages, cipher, ivs);
+            for (int m = 0; m < data.length; m++) {
+                result[m] = mergeBlocks(encrypted[m]);
+            }
         }, executor);
     }
 
-    public CompletableFuture<Void> decryptAsync(byte[] data, byte[][] result) {
+    public CompletableFuture<Void> decryptAllAsync(byte[][] data, byte[][] ivs, byte[][] result) {
+        checkMessageIVs(data, ivs);
         return CompletableFuture.runAsync(() -> {
-            byte[][] blocks = splitIntoBlocks(data, blockSize);
-            byte[][] decryptedBlocks = mode.decrypt(blocks, cipher, iv);
-            byte[] merged = mergeBlocks(decryptedBlocks);
-            result[0] = padding.unpad(merged, blockSize);
+            byte[][][] messages = new byte[data.length][][];
+            for (int m = 0; m < data.length; m++) {
+                messages[m] = splitIntoBlocks(data[m], mode.ciphertextBlockSize(blockSize));
+            }
+            byte[][][] decrypted = authenticated != null
+                    ? mode.decrypt(messages, authenticated, ivs)
+                    : mode.decrypt(messages, cipher, ivs);
+            for (int m = 0; m < data.length; m++) {
+                result[m] = padding.unpad(mergeBlocks(decrypted[m]), blockSize);
+            }
         }, executor);
     }
 
+    /**
+     * Аутентифицированное шифрование (режимы GCM и OCB) без набивки.
+     *
+     * @param data открытый текст произвольной длины
+     * @param associatedData аутентифицируемые, но не шифруемые данные (может быть null)
+     * @param result result[0] - шифртекст длины data.length, result[1] - тег (16 байт)
+     */
+    public CompletableFuture<Void> encryptAuthenticatedAsync(byte[] data, byte[] associatedData, byte[][] result) {
+        checkAuthenticatedMode();
+        return CompletableFuture.runAsync(() -> {
+            byte[] tag = new byte[authenticated.tagLength()];
+            result[0] = authenticated.encrypt(iv, associatedData, data, tag);
+            result[1] = tag;
+        }, executor);
+    }
+
+    /**
+     * Дешифрование с проверкой тега; при несовпадении future завершается
+     * с IllegalArgumentException, а result[0] не заполняется.
+     */
+    public CompletableFuture<Void> decryptAuthenticatedAsync(byte[] data, byte[] tag, byte[] associatedData,
+                                                             byte[][] result) {
+        checkAuthenticatedMode();
+        return CompletableFuture.runAsync(() -> result[0] = authenticated.decrypt(iv, associatedData, data, tag), executor);
+    }
+
+    /**
+     * Поток ключей OFB для потоковой обработки: фоновый поток вычисляет его заранее
+     * в кольцевой буфер, пока данные еще не поступили. Набивка не применяется.
+     *
+     * @param capacityBlocks размер буфера в блоках
+     */
+    public OfbKeystream ofbKeystream(int capacityBlocks) {
+        if (mode != CipherMode.OFB) {
+            throw new IllegalArgumentException("Keystream precomputation requires OFB mode");
+        }
+        return new OfbKeystream(cipher, iv, capacityBlocks);
+    }
+
+    /**
+     * Чтение произвольных диапазонов файла, зашифрованного этим контекстом в режиме CTR,
+     * без дешифрования всего файла.
+     *
+     * @param path путь к зашифрованному файлу
+     */
+    public CtrFileReader openCtrReader(String path) throws IOException {
+        if (mode != CipherMode.CTR) {
+            throw new IllegalArgumentException("Range reads require CTR mode");
+        }
+        return new CtrFileReader(cipher, iv, padding, blockSize, Paths.get(path));
+    }
+
+    // Файловые операции выполняют работу в своей задаче: ожидание вложенной задачи того же пула
+    // при одном потоке (один процессор) привело бы к взаимной блокировке
     public CompletableFuture<Void> encryptFileAsync(String inputPath, String outputPath) {
         return CompletableFuture.runAsync(() -> {
             try {
                 byte[] inputData = Files.readAllBytes(Paths.get(inputPath));
-                byte[][] result = new byte[1][];
-                encryptAsync(inputData, result).join();
-                Files.write(Paths.get(outputPath), result[0]);
+                Files.write(Paths.get(outputPath), encrypt(inputData));
             } catch (IOException e) {
                 throw new RuntimeException("Error processing file: " + e.getMessage(), e);
             }
@@ -110,15 +196,119 @@ public class CipherContext {
         return CompletableFuture.runAsync(() -> {
             try {
                 byte[] inputData = Files.readAllBytes(Paths.get(inputPath));
-                byte[][] result = new byte[1][];
-                decryptAsync(inputData, result).join();
-                Files.write(Paths.get(outputPath), result[0]);
+                Files.write(Paths.get(outputPath), decrypt(inputData));
+            } catch (IOException e) {
+                throw new RuntimeException("Error processing file: " + e.getMessage(), e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Шифрование файла с аутентификацией (encrypt-then-MAC): файл читается один раз,
+     * MAC вычисляется по шифртексту в памяти и дописывается в конец выходного файла,
+     * поэтому отдельный проход для контрольной суммы не нужен.
+     *
+     * @param mac Cmac или Pmac с отдельным экземпляром шифра и отдельным ключом
+     */
+    public CompletableFuture<Void> encryptFileAsync(String inputPath, String outputPath, Mac mac) {
+        checkMac(mac);
+        return CompletableFuture.runAsync(() -> {
+            try {
+                byte[] encrypted = encrypt(Files.readAllBytes(Paths.get(inputPath)));
+                byte[] output = Arrays.copyOf(encrypted, encrypted.length + mac.macLength());
+                System.arraycopy(mac.compute(encrypted), 0, output, encrypted.length, mac.macLength());
+                Files.write(Paths.get(outputPath), output);
+            } catch (IOException e) {
+                throw new RuntimeException("Error processing file: " + e.getMessage(), e);
+            }
+        }, executor);
+    }
+
+    /**
+     * Проверка MAC и дешифрование файла, созданного encryptFileAsync с тем же MAC.
+     * MAC проверяется до дешифрования; при несовпадении future завершается
+     * с IllegalArgumentException, и выходной файл не создается.
+     */
+    public CompletableFuture<Void> decryptFileAsync(String inputPath, String outputPath, Mac mac) {
+        checkMac(mac);
+        return CompletableFuture.runAsync(() -> {
+            try {
+                byte[] inputData = Files.readAllBytes(Paths.get(inputPath));
+                int length = inputData.length - mac.macLength();
+                if (length < 0
+                        || !mac.verify(inputData, 0, length, Arrays.copyOfRange(inputData, length, inputData.length))) {
+                    throw new IllegalArgumentException("Invalid authentication tag");
+                }
+                Files.write(Paths.get(outputPath), decrypt(Arrays.copyOf(inputData, length)));
             } catch (IOException e) {
                 throw new RuntimeException("Error processing file: " + e.getMessage(), e);
             }
         }, executor);
     }
 
+    private byte[] encrypt(byte[] data) {
+        byte[] paddedData = padding.pad(data, blockSize);
+        if (mode.supportsInPlace()) {
+            // pad() уже вернул новый массив: он и шифруется на месте
+            mode.encrypt(paddedData, 0, paddedData.length, blockSize, cipher, iv);
+            return paddedData;
+        }
+        byte[][] blocks = splitIntoBlocks(paddedData, blockSize);
+        // GCM и OCB используют объект режима контекста, а не строят его заново на каждый вызов
+        byte[][] encryptedBlocks = authenticated != null
+                ? mode.encrypt(blocks, authenticated, iv)
+                : mode.encrypt(blocks, cipher, iv);
+        return mergeBlocks(encryptedBlocks);
+    }
+
+    private byte[] decrypt(byte[] data) {
+        if (mode.supportsInPlace()) {
+            byte[] decrypted = Arrays.copyOf(data, data.length);
+            mode.decrypt(decrypted, 0, decrypted.length, blockSize, cipher, iv);
+            return padding.unpad(decrypted, blockSize);
+        }
+        byte[][] blocks = splitIntoBlocks(data, mode.ciphertextBlockSize(blockSize));
+        byte[][] decryptedBlocks = authenticated != null
+                ? mode.decrypt(blocks, authenticated, iv)
+                : mode.decrypt(blocks, cipher, iv);
+        byte[] merged = mergeBlocks(decryptedBlocks);
+        return padding.unpad(merged, blockSize);
+    }
+
+    private void checkMac(Mac mac) {
+        if (mac == null) {
+            throw new IllegalArgumentException("MAC cannot be null");
+        }
+    }
+
+    private void checkAuthenticatedMode() {
+        if (authenticated == null) {
+            throw new IllegalArgumentException("Authenticated encryption requires GCM or OCB mode");
+        }
+    }
+
+    private void checkMessageIVs(byte[][] data, byte[][] ivs) {
+        if (!mode.requiresIV()) {
+            return;
+        }
+        if (ivs == null || ivs.length != data.length) {
+            throw new IllegalArgumentException("IV is required for each message in " + mode + " mode");
+        }
+        for (byte[] messageIV : ivs) {
+            if (messageIV == null || messageIV.length == 0) {
+                throw new IllegalArgumentException("IV is required for each message in " + mode + " mode");
+            }
+            checkNonceLength(mode, messageIV);
+        }
+    }
+
+    // OCB кодирует длину nonce в блоке Offset_0, поэтому nonce короче блока (обычный IV в 16 байт не подходит)
+    private static void checkNonceLength(CipherMode mode, byte[] iv) {
+        if (mode == CipherMode.OCB && iv.length > 15) {
+            throw new IllegalArgumentException("Nonce must be 1 to 15 bytes for OCB mode");
+        }
+    }
+
     private byte[][] splitIntoBlocks(byte[] data, int blockSize) {
         if (blockSize <= 0 || data.length == 0) {
             return new byte[0][];
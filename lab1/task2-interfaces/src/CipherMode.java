@@ -1,11 +1,18 @@
+import java.security.GeneralSecurityException;
 import java.security.SecureRandom;
 import java.util.Arrays;
 import java.util.stream.IntStream;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 
 public enum CipherMode {
     ECB {
         @Override
         public byte[][] encrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv) {
+            if (cipher instanceof BatchCipher) {
+                return transformInBatches(blocks, (BatchCipher) cipher, true);
+            }
             // Параллельная обработка блоков (ECB позволяет это)
             return IntStream.range(0, blocks.length)
                     .parallel()
@@ -15,6 +22,9 @@ public enum CipherMode {
 
         @Override
         public byte[][] decrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv) {
+            if (cipher instanceof BatchCipher) {
+                return transformInBatches(blocks, (BatchCipher) cipher, false);
+            }
             // Параллельная обработка блоков (ECB позволяет это)
             return IntStream.range(0, blocks.length)
                     .parallel()
@@ -22,6 +32,16 @@ public enum CipherMode {
                     .toArray(byte[][]::new);
         }
 
+        @Override
+        public void encrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            transformInPlace(data, offset, length, blockSize, cipher, true);
+        }
+
+        @Override
+        public void decrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            transformInPlace(data, offset, length, blockSize, cipher, false);
+        }
+
         @Override
         public boolean requiresIV() {
             return false;
@@ -44,18 +64,71 @@ public enum CipherMode {
         }
 
         @Override
-        public byte[][] decrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv) {
-            byte[][] result = new byte[blocks.length][];
-            byte[] prev = Arrays.copyOf(iv, iv.length);
+        public byte[][][] encrypt(byte[][][] messages, SymmetricCipher cipher, byte[][] ivs) {
+            if (!(cipher instanceof BatchCipher)) {
+                return super.encrypt(messages, cipher, ivs);
+            }
 
-            for (int i = 0; i < blocks.length; i++) {
-                byte[] decrypted = cipher.decrypt(blocks[i]);
-                result[i] = xorBytes(decrypted, prev);
-                prev = blocks[i];
+            // Потоки CBC продвигаются синхронно: на шаге j блоки j всех сообщений, в которых он есть,
+            // шифруются одним набором пакетов. Сообщения упорядочены по убыванию длины,
+            // поэтому активные потоки - всегда префикс порядка
+            Integer[] order = new Integer[messages.length];
+            int steps = 0;
+            for (int m = 0; m < messages.length; m++) {
+                order[m] = m;
+                steps = Math.max(steps, messages[m].length);
+            }
+            Arrays.sort(order, (a, b) -> Integer.compare(messages[b].length, messages[a].length));
+
+            byte[][][] result = new byte[messages.length][][];
+            byte[][] prev = new byte[messages.length][];
+            for (int m = 0; m < messages.length; m++) {
+                result[m] = new byte[messages[m].length][];
+                prev[m] = ivs[m];
+            }
+
+            int active = messages.length;
+            for (int j = 0; j < steps; j++) {
+                while (messages[order[active - 1]].length <= j) {
+                    active--;
+                }
+                byte[][] xored = new byte[active][];
+                for (int k = 0; k < active; k++) {
+                    xored[k] = xorBytes(messages[order[k]][j], prev[order[k]]);
+                }
+                byte[][] encrypted = transformInBatches(xored, (BatchCipher) cipher, true);
+                for (int k = 0; k < active; k++) {
+                    result[order[k]][j] = encrypted[k];
+                    prev[order[k]] = encrypted[k];
+                }
             }
             return result;
         }
 
+        @Override
+        public byte[][] decrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv) {
+            // P[i] = D(C[i]) XOR C[i-1]: весь шифртекст известен, поэтому диапазоны дешифруются параллельно
+            return decryptChained(blocks, cipher, iv, false);
+        }
+
+        @Override
+        public void encrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            checkRegion(data, offset, length, blockSize);
+            byte[] block = new byte[blockSize];
+            byte[] prev = iv;
+            for (int p = offset; p < offset + length; p += blockSize) {
+                xorInPlace(data, p, prev);
+                System.arraycopy(data, p, block, 0, blockSize);
+                prev = cipher.encrypt(block);
+                System.arraycopy(prev, 0, data, p, blockSize);
+            }
+        }
+
+        @Override
+        public void decrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            decryptChained(data, offset, length, blockSize, cipher, iv, false);
+        }
+
         @Override
         public boolean requiresIV() {
             return true;
@@ -90,6 +163,40 @@ public enum CipherMode {
             return result;
         }
 
+        @Override
+        public void encrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            checkRegion(data, offset, length, blockSize);
+            byte[] block = new byte[blockSize];
+            byte[] prev = Arrays.copyOf(iv, blockSize);
+            for (int p = offset; p < offset + length; p += blockSize) {
+                for (int j = 0; j < blockSize; j++) {
+                    block[j] = (byte) (data[p + j] ^ prev[j]);
+                }
+                byte[] encrypted = cipher.encrypt(block);
+                // prev = P[i] XOR C[i]; открытый текст еще лежит в data
+                for (int j = 0; j < blockSize; j++) {
+                    prev[j] = (byte) (data[p + j] ^ encrypted[j]);
+                    data[p + j] = encrypted[j];
+                }
+            }
+        }
+
+        @Override
+        public void decrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            checkRegion(data, offset, length, blockSize);
+            byte[] block = new byte[blockSize];
+            byte[] prev = Arrays.copyOf(iv, blockSize);
+            for (int p = offset; p < offset + length; p += blockSize) {
+                System.arraycopy(data, p, block, 0, blockSize);
+                byte[] decrypted = cipher.decrypt(block);
+                for (int j = 0; j < blockSize; j++) {
+                    byte plain = (byte) (decrypted[j] ^ prev[j]);
+                    prev[j] = (byte) (block[j] ^ plain);
+                    data[p + j] = plain;
+                }
+            }
+        }
+
         @Override
         public boolean requiresIV() {
             return true;
@@ -112,15 +219,23 @@ public enum CipherMode {
 
         @Override
         public byte[][] decrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv) {
-            byte[][] result = new byte[blocks.length][];
-            byte[] feedback = Arrays.copyOf(iv, iv.length);
+            // P[i] = E(C[i-1]) XOR C[i]: входы шифра известны заранее, диапазоны дешифруются параллельно
+            return decryptChained(blocks, cipher, iv, true);
+        }
 
-            for (int i = 0; i < blocks.length; i++) {
-                byte[] encrypted = cipher.encrypt(feedback);
-                result[i] = xorBytes(blocks[i], encrypted);
-                feedback = blocks[i];
+        @Override
+        public void encrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            checkRegion(data, offset, length, blockSize);
+            byte[] feedback = Arrays.copyOf(iv, blockSize);
+            for (int p = offset; p < offset + length; p += blockSize) {
+                xorInPlace(data, p, cipher.encrypt(feedback));
+                System.arraycopy(data, p, feedback, 0, blockSize);
             }
-            return result;
+        }
+
+        @Override
+        public void decrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            decryptChained(data, offset, length, blockSize, cipher, iv, true);
         }
 
         @Override
@@ -152,6 +267,25 @@ public enum CipherMode {
             return result;
         }
 
+        @Override
+        public void encrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            process(data, offset, length, blockSize, cipher, iv);
+        }
+
+        @Override
+        public void decrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            process(data, offset, length, blockSize, cipher, iv);
+        }
+
+        private void process(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            checkRegion(data, offset, length, blockSize);
+            byte[] feedback = iv;
+            for (int p = offset; p < offset + length; p += blockSize) {
+                feedback = cipher.encrypt(feedback);
+                xorInPlace(data, p, feedback);
+            }
+        }
+
         @Override
         public boolean requiresIV() {
             return true;
@@ -170,19 +304,69 @@ public enum CipherMode {
         }
 
         private byte[][] process(byte[][] blocks, SymmetricCipher cipher, byte[] counter) {
-            // Параллельная обработка блоков (CTR позволяет это, так как счетчики независимы)
-            return IntStream.range(0, blocks.length)
+            byte[][] result = new byte[blocks.length][];
+            int chunkCount = (blocks.length + CHUNK_BLOCKS - 1) / CHUNK_BLOCKS;
+
+            // Каждый поток обрабатывает непрерывный диапазон блоков: счетчик первого блока
+            // вычисляется сложением с номером блока, остальные - инкрементом
+            IntStream.range(0, chunkCount)
                     .parallel()
-                    .mapToObj(i -> {
-                        byte[] blockCounter = Arrays.copyOf(counter, counter.length);
-                        // Увеличиваем счетчик i раз для текущего блока
-                        for (int j = 0; j < i; j++) {
-                            incrementCounter(blockCounter);
+                    .forEach(c -> {
+                        int from = c * CHUNK_BLOCKS;
+                        int to = Math.min(from + CHUNK_BLOCKS, blocks.length);
+                        byte[][] keystream = keystream(cipher, addToCounter(counter, from), to - from);
+                        for (int i = from; i < to; i++) {
+                            result[i] = xorBytes(blocks[i], keystream[i - from]);
                         }
-                        byte[] encrypted = cipher.encrypt(blockCounter);
-                        return xorBytes(blocks[i], encrypted);
-                    })
-                    .toArray(byte[][]::new);
+                    });
+            return result;
+        }
+
+        @Override
+        public void encrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            process(data, offset, length, blockSize, cipher, iv);
+        }
+
+        @Override
+        public void decrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+            process(data, offset, length, blockSize, cipher, iv);
+        }
+
+        private void process(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] counter) {
+            checkRegion(data, offset, length, blockSize);
+            int blockCount = length / blockSize;
+            int chunkCount = (blockCount + CHUNK_BLOCKS - 1) / CHUNK_BLOCKS;
+
+            IntStream.range(0, chunkCount)
+                    .parallel()
+                    .forEach(c -> {
+                        int from = c * CHUNK_BLOCKS;
+                        int to = Math.min(from + CHUNK_BLOCKS, blockCount);
+                        byte[] next = addToCounter(counter, from);
+                        byte[][] counters = newBlocks(Math.min(groupSize(cipher), to - from), next.length);
+                        byte[][] keystream = new byte[counters.length][];
+
+                        for (int i = from; i < to; i += counters.length) {
+                            int count = Math.min(counters.length, to - i);
+                            for (int k = 0; k < count; k++) {
+                                System.arraycopy(next, 0, counters[k], 0, next.length);
+                                incrementCounter(next);
+                            }
+                            transformGroup(counters, count, keystream, cipher, true);
+                            for (int k = 0; k < count; k++) {
+                                xorInPlace(data, offset + (i + k) * blockSize, keystream[k]);
+                            }
+                        }
+                    });
+        }
+
+        private byte[][] keystream(SymmetricCipher cipher, byte[] counter, int count) {
+            byte[][] counters = new byte[count][];
+            for (int i = 0; i < count; i++) {
+                counters[i] = Arrays.copyOf(counter, counter.length);
+                incrementCounter(counter);
+            }
+            return transformRange(counters, cipher, true);
         }
 
         private void incrementCounter(byte[] counter) {
@@ -204,37 +388,65 @@ public enum CipherMode {
         @Override
         public byte[][] encrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv) {
             byte[][] result = new byte[blocks.length][];
-            SecureRandom random = new SecureRandom();
-
-            for (int i = 0; i < blocks.length; i++) {
-                byte[] delta = new byte[blocks[i].length];
-                random.nextBytes(delta);
+            if (blocks.length == 0) {
+                return result;
+            }
+            int blockSize = blocks[0].length;
+            // Одно обращение к SecureRandom на вызов; дельты диапазона - свой участок потока генератора,
+            // поэтому диапазоны генерируют их параллельно и весь поток в памяти не хранится
+            byte[] seed = randomSeed();
+            int chunkCount = (blocks.length + CHUNK_BLOCKS - 1) / CHUNK_BLOCKS;
 
-                byte[] modified = xorBytes(blocks[i], delta);
-                byte[] encrypted = cipher.encrypt(modified);
-                byte[] encryptedDelta = cipher.encrypt(delta);
+            IntStream.range(0, chunkCount)
+                    .parallel()
+                    .forEach(c -> {
+                        int from = c * CHUNK_BLOCKS;
+                        int to = Math.min(from + CHUNK_BLOCKS, blocks.length);
+                        byte[] deltas = randomBytes(seed, (long) from * blockSize, (long) (to - from) * blockSize);
+                        byte[][] inputs = new byte[2 * (to - from)][];
+                        for (int i = from; i < to; i++) {
+                            int p = (i - from) * blockSize;
+                            byte[] delta = Arrays.copyOfRange(deltas, p, p + blockSize);
+                            inputs[2 * (i - from)] = xorBytes(blocks[i], delta);
+                            inputs[2 * (i - from) + 1] = delta;
+                        }
 
-                result[i] = new byte[encrypted.length + encryptedDelta.length];
-                System.arraycopy(encrypted, 0, result[i], 0, encrypted.length);
-                System.arraycopy(encryptedDelta, 0, result[i], encrypted.length, encryptedDelta.length);
-            }
+                        byte[][] encrypted = transformRange(inputs, cipher, true);
+                        for (int i = from; i < to; i++) {
+                            byte[] data = encrypted[2 * (i - from)];
+                            byte[] delta = encrypted[2 * (i - from) + 1];
+                            result[i] = Arrays.copyOf(data, data.length + delta.length);
+                            System.arraycopy(delta, 0, result[i], data.length, delta.length);
+                        }
+                    });
             return result;
         }
 
         @Override
         public byte[][] decrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv) {
             byte[][] result = new byte[blocks.length][];
+            if (blocks.length == 0) {
+                return result;
+            }
             int halfSize = blocks[0].length / 2;
+            int chunkCount = (blocks.length + CHUNK_BLOCKS - 1) / CHUNK_BLOCKS;
 
-            for (int i = 0; i < blocks.length; i++) {
-                byte[] dataPart = Arrays.copyOfRange(blocks[i], 0, halfSize);
-                byte[] deltaPart = Arrays.copyOfRange(blocks[i], halfSize, blocks[i].length);
-
-                byte[] delta = cipher.decrypt(deltaPart);
-                byte[] decrypted = cipher.decrypt(dataPart);
+            IntStream.range(0, chunkCount)
+                    .parallel()
+                    .forEach(c -> {
+                        int from = c * CHUNK_BLOCKS;
+                        int to = Math.min(from + CHUNK_BLOCKS, blocks.length);
+                        byte[][] inputs = new byte[2 * (to - from)][];
+                        for (int i = from; i < to; i++) {
+                            inputs[2 * (i - from)] = Arrays.copyOfRange(blocks[i], 0, halfSize);
+                            inputs[2 * (i - from) + 1] = Arrays.copyOfRange(blocks[i], halfSize, blocks[i].length);
+                        }
 
-                result[i] = xorBytes(decrypted, delta);
-            }
+                        byte[][] decrypted = transformRange(inputs, cipher, false);
+                        for (int i = from; i < to; i++) {
+                            result[i] = xorBytes(decrypted[2 * (i - from)], decrypted[2 * (i - from) + 1]);
+                        }
+                    });
             return result;
         }
 
@@ -242,12 +454,446 @@ public enum CipherMode {
         public boolean requiresIV() {
             return false;
         }
+
+        @Override
+        public boolean supportsInPlace() {
+            return false;
+        }
+
+        @Override
+        public int ciphertextBlockSize(int blockSize) {
+            return 2 * blockSize;
+        }
+    },
+
+    GCM {
+        // Аутентифицированное шифрование без дополнительных данных: тег добавляется последним блоком
+        @Override
+        public byte[][] encrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv) {
+            return encrypt(blocks, authenticator(cipher), iv);
+        }
+
+        @Override
+        public byte[][] decrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv) {
+            return decrypt(blocks, authenticator(cipher), iv);
+        }
+
+        @Override
+        public AuthenticatedCipher authenticator(SymmetricCipher cipher) {
+            return new Gcm(cipher);
+        }
+
+        @Override
+        public boolean requiresIV() {
+            return true;
+        }
+
+        @Override
+        public boolean supportsInPlace() {
+            return false;
+        }
+    },
+
+    OCB {
+        // Как и GCM: тег добавляется последним блоком
+        @Override
+        public byte[][] encrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv) {
+            return encrypt(blocks, authenticator(cipher), iv);
+        }
+
+        @Override
+        public byte[][] decrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv) {
+            return decrypt(blocks, authenticator(cipher), iv);
+        }
+
+        @Override
+        public AuthenticatedCipher authenticator(SymmetricCipher cipher) {
+            return new Ocb(cipher);
+        }
+
+        @Override
+        public boolean requiresIV() {
+            return true;
+        }
+
+        @Override
+        public boolean supportsInPlace() {
+            return false;
+        }
     };
 
+    // Число блоков, обрабатываемых одним потоком в режимах CTR, CBC, CFB и RANDOM_DELTA
+    private static final int CHUNK_BLOCKS = 1024;
+
+    // Размер рабочего буфера обработки на месте для шифров без пакетного интерфейса:
+    // буфер переиспользуется внутри диапазона, копирование идет группами блоков
+    private static final int GROUP_BLOCKS = 64;
+
+    // GCM и OCB определены только для 128-битных блоков
+    private static final int AEAD_BLOCK_SIZE = 16;
+
+    // Источник ключей генератора дельт RANDOM_DELTA
+    private static final SecureRandom SEED_RANDOM = new SecureRandom();
+
     public abstract byte[][] encrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv);
     public abstract byte[][] decrypt(byte[][] blocks, SymmetricCipher cipher, byte[] iv);
     public abstract boolean requiresIV();
 
+    /**
+     * Шифрование на месте data[offset, offset + length); length кратна blockSize.
+     * Блоки читаются и записываются прямо в буфере, без промежуточного массива блоков.
+     * Режимы, меняющие длину данных (supportsInPlace() == false), бросают IllegalArgumentException.
+     */
+    public void encrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+        throw new IllegalArgumentException(this + " mode cannot process data in place");
+    }
+
+    public void decrypt(byte[] data, int offset, int length, int blockSize, SymmetricCipher cipher, byte[] iv) {
+        throw new IllegalArgumentException(this + " mode cannot process data in place");
+    }
+
+    // Длина шифртекста равна длине открытого текста, доступна обработка на месте
+    public boolean supportsInPlace() {
+        return true;
+    }
+
+    // Размер блока шифртекста, на которые делятся данные при дешифровании
+    public int ciphertextBlockSize(int blockSize) {
+        return blockSize;
+    }
+
+    /**
+     * Объект режима с тегом для шифра (GCM, OCB), null для остальных режимов.
+     * Он вычисляет ключевые величины режима (H и таблицы GHASH, L_*, L_$ и таблицу L) при создании,
+     * поэтому CipherContext создает его один раз и передает в перегрузки с AuthenticatedCipher.
+     */
+    public AuthenticatedCipher authenticator(SymmetricCipher cipher) {
+        return null;
+    }
+
+    // Режим с тегом с готовым объектом authenticator(): тег - последний блок результата
+    public byte[][] encrypt(byte[][] blocks, AuthenticatedCipher aead, byte[] iv) {
+        return encryptWithTag(checkAuthenticator(aead), blocks, iv);
+    }
+
+    public byte[][] decrypt(byte[][] blocks, AuthenticatedCipher aead, byte[] iv) {
+        return decryptWithTag(checkAuthenticator(aead), blocks, iv);
+    }
+
+    public byte[][][] encrypt(byte[][][] messages, AuthenticatedCipher aead, byte[][] ivs) {
+        checkAuthenticator(aead);
+        return IntStream.range(0, messages.length)
+                .parallel()
+                .mapToObj(m -> encryptWithTag(aead, messages[m], ivs[m]))
+                .toArray(byte[][][]::new);
+    }
+
+    public byte[][][] decrypt(byte[][][] messages, AuthenticatedCipher aead, byte[][] ivs) {
+        checkAuthenticator(aead);
+        return IntStream.range(0, messages.length)
+                .parallel()
+                .mapToObj(m -> decryptWithTag(aead, messages[m], ivs[m]))
+                .toArray(byte[][][]::new);
+    }
+
+    // Шифрование независимых сообщений, у каждого свой IV (ivs[m]); сообщения обрабатываются параллельно
+    public byte[][][] encrypt(byte[][][] messages, SymmetricCipher cipher, byte[][] ivs) {
+        AuthenticatedCipher aead = authenticator(cipher);
+        if (aead != null) {
+            // Один объект режима на все сообщения
+            return encrypt(messages, aead, ivs);
+        }
+        return IntStream.range(0, messages.length)
+                .parallel()
+                .mapToObj(m -> encrypt(messages[m], cipher, ivs == null ? null : ivs[m]))
+                .toArray(byte[][][]::new);
+    }
+
+    public byte[][][] decrypt(byte[][][] messages, SymmetricCipher cipher, byte[][] ivs) {
+        AuthenticatedCipher aead = authenticator(cipher);
+        if (aead != null) {
+            return decrypt(messages, aead, ivs);
+        }
+        return IntStream.range(0, messages.length)
+                .parallel()
+                .mapToObj(m -> decrypt(messages[m], cipher, ivs == null ? null : ivs[m]))
+                .toArray(byte[][][]::new);
+    }
+
+    // Обработка независимых блоков пакетами по batchSize() блоков, пакеты обрабатываются параллельно
+    protected static byte[][] transformInBatches(byte[][] blocks, BatchCipher cipher, boolean encrypt) {
+        int batchSize = Math.max(1, cipher.batchSize());
+        int batchCount = (blocks.length + batchSize - 1) / batchSize;
+        byte[][] result = new byte[blocks.length][];
+
+        IntStream.range(0, batchCount)
+                .parallel()
+                .forEach(b -> {
+                    int from = b * batchSize;
+                    int to = Math.min(from + batchSize, blocks.length);
+                    byte[][] batch = Arrays.copyOfRange(blocks, from, to);
+                    byte[][] processed = encrypt ? cipher.encryptBatch(batch) : cipher.decryptBatch(batch);
+                    System.arraycopy(processed, 0, result, from, processed.length);
+                });
+
+        return result;
+    }
+
+    // Дешифрование CBC (cfb = false) и CFB (cfb = true) диапазонами по CHUNK_BLOCKS блоков в ForkJoinPool;
+    // IV диапазона - последний блок шифртекста предыдущего диапазона
+    protected static byte[][] decryptChained(byte[][] blocks, SymmetricCipher cipher, byte[] iv, boolean cfb) {
+        byte[][] result = new byte[blocks.length][];
+        int chunkCount = (blocks.length + CHUNK_BLOCKS - 1) / CHUNK_BLOCKS;
+
+        IntStream.range(0, chunkCount)
+                .parallel()
+                .forEach(c -> {
+                    int from = c * CHUNK_BLOCKS;
+                    int to = Math.min(from + CHUNK_BLOCKS, blocks.length);
+                    byte[][] previous = new byte[to - from][];
+                    for (int i = from; i < to; i++) {
+                        previous[i - from] = i == 0 ? iv : blocks[i - 1];
+                    }
+
+                    byte[][] transformed = cfb
+                            ? transformRange(previous, cipher, true)
+                            : transformRange(Arrays.copyOfRange(blocks, from, to), cipher, false);
+                    for (int i = from; i < to; i++) {
+                        result[i] = xorBytes(transformed[i - from], cfb ? blocks[i] : previous[i - from]);
+                    }
+                });
+        return result;
+    }
+
+    // Дешифрование CBC/CFB на месте: диапазоны перезаписываются параллельно,
+    // поэтому блоки шифртекста на границах диапазонов сохраняются заранее
+    protected static void decryptChained(byte[] data, int offset, int length, int blockSize,
+                                         SymmetricCipher cipher, byte[] iv, boolean cfb) {
+        checkRegion(data, offset, length, blockSize);
+        int blockCount = length / blockSize;
+        int chunkCount = (blockCount + CHUNK_BLOCKS - 1) / CHUNK_BLOCKS;
+        byte[][] boundary = new byte[chunkCount][];
+        for (int c = 0; c < chunkCount; c++) {
+            int p = offset + (c * CHUNK_BLOCKS - 1) * blockSize;
+            boundary[c] = c == 0 ? iv : Arrays.copyOfRange(data, p, p + blockSize);
+        }
+
+        IntStream.range(0, chunkCount)
+                .parallel()
+                .forEach(c -> {
+                    int from = c * CHUNK_BLOCKS;
+                    int to = Math.min(from + CHUNK_BLOCKS, blockCount);
+                    byte[][] blocks = newBlocks(Math.min(groupSize(cipher), to - from), blockSize);
+                    byte[][] inputs = cfb ? new byte[blocks.length][] : blocks;
+                    byte[][] transformed = new byte[blocks.length][];
+                    byte[] prev = Arrays.copyOf(boundary[c], blockSize);
+
+                    for (int i = from; i < to; i += blocks.length) {
+                        int count = Math.min(blocks.length, to - i);
+                        for (int k = 0; k < count; k++) {
+                            System.arraycopy(data, offset + (i + k) * blockSize, blocks[k], 0, blockSize);
+                        }
+                        // CFB: на вход шифра идет предыдущий блок шифртекста, сдвинутый на одну позицию
+                        for (int k = 0; cfb && k < count; k++) {
+                            inputs[k] = k == 0 ? prev : blocks[k - 1];
+                        }
+
+                        transformGroup(inputs, count, transformed, cipher, cfb);
+                        for (int k = 0; k < count; k++) {
+                            int p = offset + (i + k) * blockSize;
+                            byte[] mask = cfb ? blocks[k] : k == 0 ? prev : blocks[k - 1];
+                            for (int j = 0; j < blockSize; j++) {
+                                data[p + j] = (byte) (transformed[k][j] ^ mask[j]);
+                            }
+                        }
+                        System.arraycopy(blocks[count - 1], 0, prev, 0, blockSize);
+                    }
+                });
+    }
+
+    // Преобразование независимых блоков на месте диапазонами по CHUNK_BLOCKS блоков
+    protected static void transformInPlace(byte[] data, int offset, int length, int blockSize,
+                                           SymmetricCipher cipher, boolean encrypt) {
+        checkRegion(data, offset, length, blockSize);
+        int blockCount = length / blockSize;
+        int chunkCount = (blockCount + CHUNK_BLOCKS - 1) / CHUNK_BLOCKS;
+
+        IntStream.range(0, chunkCount)
+                .parallel()
+                .forEach(c -> {
+                    int from = c * CHUNK_BLOCKS;
+                    int to = Math.min(from + CHUNK_BLOCKS, blockCount);
+                    byte[][] blocks = newBlocks(Math.min(groupSize(cipher), to - from), blockSize);
+                    byte[][] transformed = new byte[blocks.length][];
+
+                    for (int i = from; i < to; i += blocks.length) {
+                        int count = Math.min(blocks.length, to - i);
+                        for (int k = 0; k < count; k++) {
+                            System.arraycopy(data, offset + (i + k) * blockSize, blocks[k], 0, blockSize);
+                        }
+                        transformGroup(blocks, count, transformed, cipher, encrypt);
+                        for (int k = 0; k < count; k++) {
+                            System.arraycopy(transformed[k], 0, data, offset + (i + k) * blockSize, blockSize);
+                        }
+                    }
+                });
+    }
+
+    // Число блоков в рабочем буфере диапазона: batchSize() для BatchCipher, иначе GROUP_BLOCKS
+    private static int groupSize(SymmetricCipher cipher) {
+        if (!(cipher instanceof BatchCipher)) {
+            return GROUP_BLOCKS;
+        }
+        return Math.max(1, Math.min(CHUNK_BLOCKS, ((BatchCipher) cipher).batchSize()));
+    }
+
+    // output[0, count) = E/D(input[0, count)): одним пакетом для BatchCipher, иначе по блоку.
+    // Массивы input переиспользуются вызывающим кодом между группами, поэтому шифр их только читает
+    private static void transformGroup(byte[][] input, int count, byte[][] output,
+                                       SymmetricCipher cipher, boolean encrypt) {
+        if (!(cipher instanceof BatchCipher)) {
+            for (int k = 0; k < count; k++) {
+                output[k] = encrypt ? cipher.encrypt(input[k]) : cipher.decrypt(input[k]);
+            }
+            return;
+        }
+        BatchCipher batchCipher = (BatchCipher) cipher;
+        byte[][] batch = count == input.length ? input : Arrays.copyOf(input, count);
+        byte[][] processed = encrypt ? batchCipher.encryptBatch(batch) : batchCipher.decryptBatch(batch);
+        System.arraycopy(processed, 0, output, 0, count);
+    }
+
+    private static byte[][] newBlocks(int count, int blockSize) {
+        byte[][] blocks = new byte[count][];
+        for (int k = 0; k < count; k++) {
+            blocks[k] = new byte[blockSize];
+        }
+        return blocks;
+    }
+
+    // Последовательное преобразование блоков одним потоком, пакетами по batchSize() для BatchCipher
+    protected static byte[][] transformRange(byte[][] blocks, SymmetricCipher cipher, boolean encrypt) {
+        if (!(cipher instanceof BatchCipher)) {
+            byte[][] result = new byte[blocks.length][];
+            for (int i = 0; i < blocks.length; i++) {
+                result[i] = encrypt ? cipher.encrypt(blocks[i]) : cipher.decrypt(blocks[i]);
+            }
+            return result;
+        }
+
+        BatchCipher batchCipher = (BatchCipher) cipher;
+        int batchSize = Math.max(1, batchCipher.batchSize());
+        byte[][] result = new byte[blocks.length][];
+        for (int from = 0; from < blocks.length; from += batchSize) {
+            byte[][] batch = Arrays.copyOfRange(blocks, from, Math.min(from + batchSize, blocks.length));
+            byte[][] processed = encrypt ? batchCipher.encryptBatch(batch) : batchCipher.decryptBatch(batch);
+            System.arraycopy(processed, 0, result, from, processed.length);
+        }
+        return result;
+    }
+
+    // Счетчик блока с номером index: big-endian сложение по модулю 2^(8 * counter.length)
+    protected static byte[] addToCounter(byte[] counter, long index) {
+        byte[] result = Arrays.copyOf(counter, counter.length);
+        long carry = index;
+        for (int i = result.length - 1; i >= 0 && carry != 0; i--) {
+            long sum = (result[i] & 0xFF) + (carry & 0xFF);
+            result[i] = (byte) sum;
+            carry = (carry >>> 8) + (sum >>> 8);
+        }
+        return result;
+    }
+
+    // Шифрование блоков режимом с тегом (блоки по 16 байт), тег - последний блок результата
+    private static byte[][] encryptWithTag(AuthenticatedCipher aead, byte[][] blocks, byte[] iv) {
+        byte[] tag = new byte[aead.tagLength()];
+        byte[] ciphertext = aead.encrypt(iv, null, joinBlocks(blocks, blocks.length), tag);
+        byte[][] result = Arrays.copyOf(splitBlocks(ciphertext), blocks.length + 1);
+        result[blocks.length] = tag;
+        return result;
+    }
+
+    private static byte[][] decryptWithTag(AuthenticatedCipher aead, byte[][] blocks, byte[] iv) {
+        if (blocks.length == 0) {
+            throw new IllegalArgumentException("Missing authentication tag");
+        }
+        byte[] ciphertext = joinBlocks(blocks, blocks.length - 1);
+        byte[] plaintext = aead.decrypt(iv, null, ciphertext, blocks[blocks.length - 1]);
+        return splitBlocks(plaintext);
+    }
+
+    private AuthenticatedCipher checkAuthenticator(AuthenticatedCipher aead) {
+        if (this != GCM && this != OCB) {
+            throw new IllegalArgumentException(this + " mode has no authentication tag");
+        }
+        if (aead == null) {
+            throw new IllegalArgumentException(this + " mode requires an authenticator");
+        }
+        return aead;
+    }
+
+    private static byte[] joinBlocks(byte[][] blocks, int count) {
+        byte[] result = new byte[count * AEAD_BLOCK_SIZE];
+        for (int i = 0; i < count; i++) {
+            System.arraycopy(blocks[i], 0, result, i * AEAD_BLOCK_SIZE, AEAD_BLOCK_SIZE);
+        }
+        return result;
+    }
+
+    private static byte[][] splitBlocks(byte[] data) {
+        return readBlocks(data, 0, AEAD_BLOCK_SIZE, 0, data.length / AEAD_BLOCK_SIZE);
+    }
+
+    // Ключ (16 байт) и начальный счетчик (16 байт) генератора дельт
+    private static byte[] randomSeed() {
+        byte[] seed = new byte[32];
+        SEED_RANDOM.nextBytes(seed);
+        return seed;
+    }
+
+    // Быстрый генератор случайных байтов: байты [position, position + length) потока ключей AES-CTR
+    // с ключом и счетчиком из seed. Счетчик сразу сдвигается на position / 16 блоков AES
+    private static byte[] randomBytes(byte[] seed, long position, long length) {
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Too many random bytes requested");
+        }
+        byte[] counter = addToCounter(Arrays.copyOfRange(seed, 16, 32), position >>> 4);
+        try {
+            Cipher generator = Cipher.getInstance("AES/CTR/NoPadding");
+            generator.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(seed, 0, 16, "AES"), new IvParameterSpec(counter));
+            // Начало участка внутри блока AES: пропускаем (position mod 16) байт потока
+            generator.update(new byte[(int) (position & 15)]);
+            return generator.doFinal(new byte[(int) length]);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-CTR is not available", e);
+        }
+    }
+
+    // Копии блоков [from, to) буфера, начинающегося с offset
+    protected static byte[][] readBlocks(byte[] data, int offset, int blockSize, int from, int to) {
+        byte[][] blocks = new byte[to - from][];
+        for (int i = from; i < to; i++) {
+            blocks[i - from] = Arrays.copyOfRange(data, offset + i * blockSize, offset + (i + 1) * blockSize);
+        }
+        return blocks;
+    }
+
+    protected static void checkRegion(byte[] data, int offset, int length, int blockSize) {
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException("Region out of bounds");
+        }
+        if (blockSize <= 0 || length % blockSize != 0) {
+            throw new IllegalArgumentException("Data length must be a multiple of the block size");
+        }
+    }
+
+    // data[offset, offset + block.length) ^= block
+    protected static void xorInPlace(byte[] data, int offset, byte[] block) {
+        for (int i = 0; i < block.length; i++) {
+            data[offset + i] ^= block[i];
+        }
+    }
+
     protected static byte[] xorBytes(byte[] a, byte[] b) {
         byte[] result = new byte[a.length];
         for (int i = 0; i < a.length; i++) {
@@ -0,0 +1,94 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Чтение произвольных диапазонов файла, зашифрованного в режиме CTR, без дешифрования всего файла.
+ *
+ * Счетчик первого нужного блока вычисляется сразу (IV + номер блока), из файла позиционно
+ * читаются только блоки, покрывающие диапазон. Смещения и длины задаются в байтах открытого текста;
+ * длина открытого текста определяется по набивке последнего блока.
+ * Позиционное чтение FileChannel потокобезопасно, поэтому один экземпляр
+ * может обслуживать параллельные запросы.
+ */
+public class CtrFileReader implements AutoCloseable {
+    private final SymmetricCipher cipher;
+    private final byte[] iv;
+    private final PaddingMode padding;
+    private final int blockSize;
+    private final FileChannel channel;
+    private final long length;
+
+    CtrFileReader(SymmetricCipher cipher, byte[] iv, PaddingMode padding, int blockSize, Path file) throws IOException {
+        this.cipher = cipher;
+        this.iv = Arrays.copyOf(iv, iv.length);
+        this.padding = padding;
+        this.blockSize = blockSize;
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+
+        try {
+            long size = channel.size();
+            if (size % blockSize != 0) {
+                throw new IllegalArgumentException("Encrypted file size must be a multiple of the block size");
+            }
+            this.length = size == 0 ? 0 : size - blockSize + lastBlockLength(size);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Длина открытого текста без набивки.
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Дешифрование байтов открытого текста [offset, offset + length);
+     * диапазон, выходящий за конец данных, обрезается.
+     */
+    public byte[] read(long offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || offset > this.length) {
+            throw new IllegalArgumentException("Range is outside of the plaintext");
+        }
+        int count = (int) Math.min(length, this.length - offset);
+        if (count == 0) {
+            return new byte[0];
+        }
+
+        long firstBlock = offset / blockSize;
+        long lastBlock = (offset + count - 1) / blockSize;
+        byte[] plain = decryptBlocks(firstBlock, (int) (lastBlock - firstBlock + 1));
+        int start = (int) (offset - firstBlock * blockSize);
+        return Arrays.copyOfRange(plain, start, start + count);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private int lastBlockLength(long size) throws IOException {
+        byte[] last = decryptBlocks(size / blockSize - 1, 1);
+        return padding.unpad(last, blockSize).length;
+    }
+
+    private byte[] decryptBlocks(long firstBlock, int blockCount) throws IOException {
+        byte[] data = new byte[blockCount * blockSize];
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        long position = firstBlock * blockSize;
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+
+        CipherMode.CTR.decrypt(data, 0, data.length, blockSize, cipher, CipherMode.addToCounter(iv, firstBlock));
+        return data;
+    }
+}
@@ -0,0 +1,149 @@
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Режим GCM (NIST SP 800-38D) для 128-битных блочных шифров: шифрование CTR и аутентификация GHASH.
+ *
+ * Данные делятся на диапазоны по CHUNK_BLOCKS блоков, которые обрабатываются параллельно:
+ * поток вычисляет гамму своего диапазона, XOR-ит ее с данными и сразу же считает
+ * частичную сумму GHASH шифртекста диапазона. Частичные суммы объединяются
+ * последовательно: Y = Y * H^m XOR S_c, где m - число блоков диапазона c.
+ */
+public class Gcm implements AuthenticatedCipher {
+    public static final int BLOCK_SIZE = 16;
+    public static final int TAG_LENGTH = 16;
+
+    private static final int CHUNK_BLOCKS = 1024;
+
+    private final SymmetricCipher cipher;
+    private final GHash hash;
+    private final long[] chunkPower;
+
+    /**
+     * @param cipher 128-битный блочный шифр с установленным ключом шифрования
+     */
+    public Gcm(SymmetricCipher cipher) {
+        byte[] h = cipher.encrypt(new byte[BLOCK_SIZE]);
+        if (h.length != BLOCK_SIZE) {
+            throw new IllegalArgumentException("GCM requires a 128-bit block cipher");
+        }
+        this.cipher = cipher;
+        this.hash = new GHash(h);
+        this.chunkPower = hash.power(CHUNK_BLOCKS);
+    }
+
+    @Override
+    public int tagLength() {
+        return TAG_LENGTH;
+    }
+
+    /**
+     * @param iv вектор инициализации (рекомендуется 12 байт)
+     * @param associatedData аутентифицируемые, но не шифруемые данные (может быть null)
+     * @param plaintext открытый текст произвольной длины
+     * @param tag массив длины TAG_LENGTH для тега
+     * @return шифртекст той же длины, что и plaintext
+     */
+    @Override
+    public byte[] encrypt(byte[] iv, byte[] associatedData, byte[] plaintext, byte[] tag) {
+        if (tag.length != TAG_LENGTH) {
+            throw new IllegalArgumentException("Tag must be " + TAG_LENGTH + " bytes");
+        }
+        byte[] ciphertext = new byte[plaintext.length];
+        byte[] computed = process(iv, associatedData, plaintext, ciphertext, true);
+        System.arraycopy(computed, 0, tag, 0, TAG_LENGTH);
+        return ciphertext;
+    }
+
+    /**
+     * @return открытый текст; при несовпадении тега бросается IllegalArgumentException,
+     *         и открытый текст не возвращается
+     */
+    @Override
+    public byte[] decrypt(byte[] iv, byte[] associatedData, byte[] ciphertext, byte[] tag) {
+        byte[] plaintext = new byte[ciphertext.length];
+        byte[] computed = process(iv, associatedData, ciphertext, plaintext, false);
+        if (!MessageDigest.isEqual(computed, tag)) {
+            Arrays.fill(plaintext, (byte) 0);
+            throw new IllegalArgumentException("Invalid authentication tag");
+        }
+        return plaintext;
+    }
+
+    private byte[] process(byte[] iv, byte[] associatedData, byte[] input, byte[] output, boolean encrypt) {
+        if (iv == null || iv.length == 0) {
+            throw new IllegalArgumentException("IV is required for GCM mode");
+        }
+        byte[] aad = associatedData != null ? associatedData : new byte[0];
+        byte[] j0 = initialCounter(iv);
+
+        int blockCount = (input.length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        int chunkCount = (blockCount + CHUNK_BLOCKS - 1) / CHUNK_BLOCKS;
+        long[][] partial = new long[chunkCount][2];
+        byte[] ciphertext = encrypt ? output : input;
+
+        IntStream.range(0, chunkCount)
+                .parallel()
+                .forEach(c -> {
+                    int from = c * CHUNK_BLOCKS;
+                    int to = Math.min(from + CHUNK_BLOCKS, blockCount);
+                    byte[][] counters = new byte[to - from][];
+                    for (int i = from; i < to; i++) {
+                        counters[i - from] = counterAt(j0, i + 1L);
+                    }
+                    byte[][] keystream = CipherMode.transformRange(counters, cipher, true);
+
+                    for (int b = 0; b < keystream.length; b++) {
+                        int offset = (from + b) * BLOCK_SIZE;
+                        int length = Math.min(BLOCK_SIZE, input.length - offset);
+                        for (int i = 0; i < length; i++) {
+                            output[offset + i] = (byte) (input[offset + i] ^ keystream[b][i]);
+                        }
+                    }
+                    int start = from * BLOCK_SIZE;
+                    hash.update(partial[c], ciphertext, start, Math.min(to * BLOCK_SIZE, input.length) - start);
+                });
+
+        long[] y = new long[2];
+        hash.update(y, aad, 0, aad.length);
+        for (int c = 0; c < chunkCount; c++) {
+            int blocks = Math.min(CHUNK_BLOCKS, blockCount - c * CHUNK_BLOCKS);
+            GHash.multiply(y, blocks == CHUNK_BLOCKS ? chunkPower : hash.power(blocks));
+            y[0] ^= partial[c][0];
+            y[1] ^= partial[c][1];
+        }
+        hash.update(y, (long) aad.length * 8, (long) input.length * 8);
+
+        byte[] tag = cipher.encrypt(j0);
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            tag[i] ^= (byte) ((i < 8 ? y[0] : y[1]) >>> (56 - 8 * (i & 7)));
+        }
+        return tag;
+    }
+
+    private byte[] initialCounter(byte[] iv) {
+        if (iv.length == 12) {
+            byte[] j0 = Arrays.copyOf(iv, BLOCK_SIZE);
+            j0[BLOCK_SIZE - 1] = 1;
+            return j0;
+        }
+        long[] state = new long[2];
+        hash.update(state, iv, 0, iv.length);
+        hash.update(state, 0, (long) iv.length * 8);
+        byte[] j0 = new byte[BLOCK_SIZE];
+        GHash.putLong(j0, 0, state[0]);
+        GHash.putLong(j0, 8, state[1]);
+        return j0;
+    }
+
+    // inc32 примененная index раз: младшие 32 бита счетчика складываются с index по модулю 2^32
+    private static byte[] counterAt(byte[] j0, long index) {
+        byte[] counter = Arrays.copyOf(j0, BLOCK_SIZE);
+        int low = (int) GHash.toLong(j0, 8) + (int) index;
+        for (int i = 0; i < 4; i++) {
+            counter[BLOCK_SIZE - 1 - i] = (byte) (low >>> (8 * i));
+        }
+        return counter;
+    }
+}
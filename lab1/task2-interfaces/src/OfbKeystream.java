@@ -0,0 +1,140 @@
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Поток ключей режима OFB, вычисляемый заранее.
+ * Поток ключей зависит только от ключа и IV, поэтому фоновый поток-производитель
+ * шифрует цепочку обратной связи и складывает блоки в ограниченный кольцевой буфер,
+ * а путь данных сводится к XOR с уже готовыми байтами.
+ *
+ * Буфер без блокировок: один производитель и один потребитель,
+ * каждый из которых пишет только свой счетчик байтов (produced / consumed).
+ * Данные обрабатываются как поток, без набивки; методы xor/process
+ * должны вызываться из одного потока.
+ */
+public class OfbKeystream implements AutoCloseable {
+    private static final int SPINS_BEFORE_PARK = 64;
+    private static final long PARK_NANOS = 20_000;
+
+    private final SymmetricCipher cipher;
+    private final int blockSize;
+    private final int capacity;
+    private final byte[] ring;
+    private final AtomicLong produced = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private final Thread producer;
+
+    private volatile boolean closed;
+    private volatile Throwable failure;
+
+    /**
+     * @param cipher алгоритм с установленным ключом шифрования
+     * @param iv вектор инициализации (его длина - размер блока)
+     * @param capacityBlocks размер кольцевого буфера в блоках
+     */
+    public OfbKeystream(SymmetricCipher cipher, byte[] iv, int capacityBlocks) {
+        if (cipher == null) {
+            throw new IllegalArgumentException("Cipher cannot be null");
+        }
+        if (iv == null || iv.length == 0) {
+            throw new IllegalArgumentException("IV is required for OFB mode");
+        }
+        if (capacityBlocks <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+
+        this.cipher = cipher;
+        this.blockSize = iv.length;
+        this.capacity = capacityBlocks * blockSize;
+        this.ring = new byte[capacity];
+
+        byte[] feedback = Arrays.copyOf(iv, iv.length);
+        this.producer = new Thread(() -> produce(feedback), "ofb-keystream");
+        this.producer.setDaemon(true);
+        this.producer.start();
+    }
+
+    private void produce(byte[] feedback) {
+        try {
+            while (!closed) {
+                long position = produced.get();
+                int spins = 0;
+                while (position - consumed.get() > capacity - blockSize) {
+                    if (closed) {
+                        return;
+                    }
+                    idle(spins++);
+                }
+
+                feedback = cipher.encrypt(feedback);
+                // capacity кратна blockSize, поэтому блок всегда лежит в буфере непрерывно
+                System.arraycopy(feedback, 0, ring, (int) (position % capacity), blockSize);
+                produced.lazySet(position + blockSize);
+            }
+        } catch (Throwable e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * XOR length байтов src с очередными байтами потока ключей; src и dst могут совпадать.
+     */
+    public void xor(byte[] src, int srcOffset, byte[] dst, int dstOffset, int length) {
+        if (srcOffset < 0 || dstOffset < 0 || length < 0
+                || srcOffset > src.length - length || dstOffset > dst.length - length) {
+            throw new IndexOutOfBoundsException("Region out of bounds");
+        }
+        checkState();
+
+        while (length > 0) {
+            long position = consumed.get();
+            long available;
+            int spins = 0;
+            while ((available = produced.get() - position) == 0) {
+                checkState();
+                idle(spins++);
+            }
+
+            int start = (int) (position % capacity);
+            int count = (int) Math.min(Math.min(available, length), capacity - start);
+            for (int i = 0; i < count; i++) {
+                dst[dstOffset + i] = (byte) (src[srcOffset + i] ^ ring[start + i]);
+            }
+            consumed.lazySet(position + count);
+
+            srcOffset += count;
+            dstOffset += count;
+            length -= count;
+        }
+    }
+
+    public byte[] process(byte[] data) {
+        byte[] result = new byte[data.length];
+        xor(data, 0, result, 0, data.length);
+        return result;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(producer);
+    }
+
+    private void checkState() {
+        if (failure != null) {
+            throw new IllegalStateException("Keystream producer failed: " + failure.getMessage(), failure);
+        }
+        if (closed) {
+            throw new IllegalStateException("Keystream is closed");
+        }
+    }
+
+    private static void idle(int spins) {
+        if (spins < SPINS_BEFORE_PARK) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+import java.util.stream.IntStream;
+
+/**
+ * PMAC1 (Rogaway) для 64- и 128-битных блочных шифров: MAC, блоки которого шифруются независимо.
+ *
+ * Блоки 1..m-1 шифруются как Y_i = E(M_i XOR Offset_i), Offset_i = Offset_{i-1} XOR L * x^ntz(i),
+ * L = E(0^n); тег - шифр от суммы Y_i и последнего блока (полный блок дополнительно складывается
+ * с L * x^-1, неполный дополняется набивкой 10*). Offset_i выражается через код Грея i, поэтому
+ * диапазоны по CHUNK_BLOCKS блоков обрабатываются параллельно, а их частичные суммы складываются.
+ */
+public class Pmac implements Mac {
+    private static final int CHUNK_BLOCKS = 1024;
+
+    private final SymmetricCipher cipher;
+    private final int blockSize;
+    // L * x^k; номер блока int, поэтому ntz(i) < 32
+    private final byte[][] l = new byte[32][];
+    private final byte[] lInverse;
+
+    /**
+     * @param cipher отдельный экземпляр шифра (ключ шифрования будет установлен)
+     * @param key ключ MAC
+     * @param blockSize размер блока шифра: 8 или 16 байт
+     */
+    public Pmac(SymmetricCipher cipher, byte[] key, int blockSize) {
+        this.cipher = cipher;
+        this.blockSize = blockSize;
+        l[0] = Cmac.init(cipher, key, blockSize, "PMAC");
+        for (int k = 1; k < l.length; k++) {
+            l[k] = Cmac.doubled(l[k - 1]);
+        }
+        this.lInverse = Cmac.halved(l[0]);
+    }
+
+    @Override
+    public int macLength() {
+        return blockSize;
+    }
+
+    @Override
+    public byte[] compute(byte[] data, int offset, int length) {
+        Cmac.checkRegion(data, offset, length);
+        // Все блоки, кроме последнего (он может быть неполным), шифруются со смещениями
+        int offsetBlocks = Math.max(0, (length + blockSize - 1) / blockSize - 1);
+        int chunkCount = (offsetBlocks + CHUNK_BLOCKS - 1) / CHUNK_BLOCKS;
+        byte[][] partial = new byte[chunkCount][];
+
+        IntStream.range(0, chunkCount)
+                .parallel()
+                .forEach(c -> {
+                    int from = c * CHUNK_BLOCKS;
+                    int to = Math.min(from + CHUNK_BLOCKS, offsetBlocks);
+                    byte[] delta = offsetAt(from);
+                    byte[][] blocks = new byte[to - from][];
+                    for (int i = from; i < to; i++) {
+                        Cmac.xorInto(delta, l[Integer.numberOfTrailingZeros(i + 1)], 0, blockSize);
+                        byte[] block = delta.clone();
+                        Cmac.xorInto(block, data, offset + i * blockSize, blockSize);
+                        blocks[i - from] = block;
+                    }
+                    byte[] sum = new byte[blockSize];
+                    for (byte[] encrypted : CipherMode.transformRange(blocks, cipher, true)) {
+                        Cmac.xorInto(sum, encrypted, 0, blockSize);
+                    }
+                    partial[c] = sum;
+                });
+
+        byte[] sum = new byte[blockSize];
+        for (byte[] chunkSum : partial) {
+            Cmac.xorInto(sum, chunkSum, 0, blockSize);
+        }
+        int position = offset + offsetBlocks * blockSize;
+        int tail = offset + length - position;
+        Cmac.xorInto(sum, data, position, tail);
+        if (tail == blockSize) {
+            Cmac.xorInto(sum, lInverse, 0, blockSize);
+        } else {
+            sum[tail] ^= (byte) 0x80;
+        }
+        return cipher.encrypt(sum);
+    }
+
+    // Offset после index блоков: XOR L * x^k по единичным битам кода Грея index ^ (index >>> 1)
+    private byte[] offsetAt(int index) {
+        byte[] offset = new byte[blockSize];
+        int gray = index ^ (index >>> 1);
+        for (int k = 0; gray != 0; k++, gray >>>= 1) {
+            if ((gray & 1) != 0) {
+                Cmac.xorInto(offset, l[k], 0, blockSize);
+            }
+        }
+        return offset;
+    }
+}
@@ -1,4 +1,7 @@
 import java.util.Arrays;
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 
 public class CipherFrameworkTest {
     
@@ -29,6 +32,38 @@ public class CipherFrameworkTest {
         passed += testAsyncEncryption() ? 1 : 0;
         failed += testAsyncEncryption() ? 0 : 1;
 
+        passed += testBatchCipherModes() ? 1 : 0;
+        failed += testBatchCipherModes() ? 0 : 1;
+
+        passed += testCounterArithmetic() ? 1 : 0;
+        failed += testCounterArithmetic() ? 0 : 1;
+
+        passed += testParallelChainedDecryption() ? 1 : 0;
+        failed += testParallelChainedDecryption() ? 0 : 1;
+
+        passed += testMultiBufferCBC() ? 1 : 0;
+        failed += testMultiBufferCBC() ? 0 : 1;
+
+        passed += testOfbKeystream() ? 1 : 0;
+        failed += testOfbKeystream() ? 0 : 1;
+
+        passed += testGcm() ? 1 : 0;
+        failed += testGcm() ? 0 : 1;
+
+        passed += testXts() ? 1 : 0;
+        failed += testXts() ? 0 : 1;
+
+        passed += testCtrRangeReads() ? 1 : 0;
+        failed += testCtrRangeReads() ? 0 : 1;
+        passed += testInPlaceModes() ? 1 : 0;
+        failed += testInPlaceModes() ? 0 : 1;
+        passed += testRandomDelta() ? 1 : 0;
+        failed += testRandomDelta() ? 0 : 1;
+        passed += testOcb() ? 1 : 0;
+        failed += testOcb() ? 0 : 1;
+        passed += testMac() ? 1 : 0;
+        failed += testMac() ? 0 : 1;
+
         System.out.println("\n=== Результаты тестирования ===");
         System.out.printf("Пройдено: %d%n", passed);
         System.out.printf("Провалено: %d%n", failed);
@@ -266,4 +301,1051 @@ public class CipherFrameworkTest {
             System.out.println();
         }
     }
+
+    private static boolean testBatchCipherModes() {
+        System.out.println("Тест 8: Пакетная обработка ECB и CTR (BatchCipher)");
+        try {
+            byte[] key = {1, 2, 3, 4, 5, 6, 7, 8};
+            byte[] iv = {0, 0, 0, 0, 0, 0, 0, (byte) 0xF0};
+            byte[] plaintext = new byte[8 * 37];
+            for (int i = 0; i < plaintext.length; i++) {
+                plaintext[i] = (byte) (i * 7);
+            }
+
+            for (CipherMode mode : new CipherMode[] {CipherMode.ECB, CipherMode.CTR}) {
+                CountingBatchCipher batchCipher = new CountingBatchCipher();
+                CipherContext batchCtx = new CipherContext(batchCipher, key, mode, PaddingMode.PKCS7, 8, iv);
+                CipherContext plainCtx = new CipherContext(new DummyCipher(), key, mode, PaddingMode.PKCS7, 8, iv);
+
+                byte[][] batchEncrypted = new byte[1][];
+                batchCtx.encryptAsync(plaintext, batchEncrypted).join();
+                byte[][] plainEncrypted = new byte[1][];
+                plainCtx.encryptAsync(plaintext, plainEncrypted).join();
+
+                byte[][] decrypted = new byte[1][];
+                batchCtx.decryptAsync(batchEncrypted[0], decrypted).join();
+
+                batchCtx.shutdown();
+                plainCtx.shutdown();
+
+                if (!Arrays.equals(plainEncrypted[0], batchEncrypted[0])) {
+                    System.out.println("✗ FAILED: " + mode + " пакетный результат отличается от поблочного");
+                    return false;
+                }
+                if (!Arrays.equals(plaintext, decrypted[0])) {
+                    System.out.println("✗ FAILED: " + mode + " данные не совпадают");
+                    return false;
+                }
+                if (batchCipher.batchCalls == 0) {
+                    System.out.println("✗ FAILED: " + mode + " не использует пакетную обработку");
+                    return false;
+                }
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            System.out.println();
+        }
+    }
+
+    private static boolean testCounterArithmetic() {
+        System.out.println("Тест 9: Счетчик CTR по номеру блока");
+        try {
+            byte[] key = {1, 2, 3, 4, 5, 6, 7, 8};
+            byte[] iv = {0, 0, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFE, (byte) 0x80};
+            int blockCount = 2500;
+            byte[][] blocks = new byte[blockCount][8];
+            for (int i = 0; i < blockCount; i++) {
+                for (int j = 0; j < 8; j++) {
+                    blocks[i][j] = (byte) (i * 31 + j);
+                }
+            }
+
+            DummyCipher cipher = new DummyCipher();
+            cipher.setEncryptionKey(key);
+            byte[][] expected = new byte[blockCount][];
+            byte[] counter = Arrays.copyOf(iv, iv.length);
+            for (int i = 0; i < blockCount; i++) {
+                byte[] keystream = cipher.encrypt(counter);
+                expected[i] = new byte[8];
+                for (int j = 0; j < 8; j++) {
+                    expected[i][j] = (byte) (blocks[i][j] ^ keystream[j]);
+                }
+                for (int j = counter.length - 1; j >= 0 && ++counter[j] == 0; j--) {
+                }
+            }
+
+            byte[][] plain = CipherMode.CTR.encrypt(blocks, cipher, iv);
+            CountingBatchCipher batchCipher = new CountingBatchCipher();
+            batchCipher.setEncryptionKey(key);
+            byte[][] batched = CipherMode.CTR.encrypt(blocks, batchCipher, iv);
+
+            if (!Arrays.deepEquals(expected, plain) || !Arrays.deepEquals(expected, batched)) {
+                System.out.println("✗ FAILED: Поток ключей CTR отличается от последовательного инкремента");
+                return false;
+            }
+
+            byte[] wrapped = CipherMode.addToCounter(new byte[] {(byte) 0xFF, (byte) 0xFF}, 0x10002L);
+            if (!Arrays.equals(wrapped, new byte[] {0, 1})) {
+                System.out.println("✗ FAILED: Счетчик не переполняется по модулю 2^(8n)");
+                return false;
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            System.out.println();
+        }
+    }
+
+    private static boolean testParallelChainedDecryption() {
+        System.out.println("Тест 10: Параллельное дешифрование CBC и CFB по диапазонам");
+        try {
+            byte[] key = {9, 8, 7, 6, 5, 4, 3, 2};
+            byte[] iv = {1, 1, 2, 3, 5, 8, 13, 21};
+            int blockCount = 3001;
+            byte[][] blocks = new byte[blockCount][8];
+            for (int i = 0; i < blockCount; i++) {
+                for (int j = 0; j < 8; j++) {
+                    blocks[i][j] = (byte) (i * 17 + j * 3 + (i >> 8));
+                }
+            }
+
+            for (CipherMode mode : new CipherMode[] {CipherMode.CBC, CipherMode.CFB}) {
+                DummyCipher cipher = new DummyCipher();
+                cipher.setEncryptionKey(key);
+                cipher.setDecryptionKey(key);
+                byte[][] encrypted = mode.encrypt(blocks, cipher, iv);
+
+                CountingBatchCipher batchCipher = new CountingBatchCipher();
+                batchCipher.setEncryptionKey(key);
+                batchCipher.setDecryptionKey(key);
+
+                if (!Arrays.deepEquals(blocks, mode.decrypt(encrypted, cipher, iv))
+                        || !Arrays.deepEquals(blocks, mode.decrypt(encrypted, batchCipher, iv))) {
+                    System.out.println("✗ FAILED: " + mode + " данные не совпадают на границах диапазонов");
+                    return false;
+                }
+                if (batchCipher.batchCalls == 0) {
+                    System.out.println("✗ FAILED: " + mode + " не использует пакетную обработку");
+                    return false;
+                }
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            System.out.println();
+        }
+    }
+
+    private static boolean testMultiBufferCBC() {
+        System.out.println("Тест 11: Многобуферное шифрование CBC независимых сообщений");
+        try {
+            byte[] key = {3, 1, 4, 1, 5, 9, 2, 6};
+            int messageCount = 50;
+            byte[][] data = new byte[messageCount][];
+            byte[][] ivs = new byte[messageCount][8];
+            for (int m = 0; m < messageCount; m++) {
+                data[m] = new byte[(m * 37) % 300];
+                for (int i = 0; i < data[m].length; i++) {
+                    data[m][i] = (byte) (m * 13 + i);
+                }
+                for (int j = 0; j < 8; j++) {
+                    ivs[m][j] = (byte) (m + j * 29);
+                }
+            }
+
+            CountingBatchCipher batchCipher = new CountingBatchCipher();
+            CipherContext batchCtx = new CipherContext(batchCipher, key, CipherMode.CBC, PaddingMode.PKCS7, 8, ivs[0]);
+            byte[][] encrypted = new byte[messageCount][];
+            batchCtx.encryptAllAsync(data, ivs, encrypted).join();
+            byte[][] decrypted = new byte[messageCount][];
+            batchCtx.decryptAllAsync(encrypted, ivs, decrypted).join();
+            batchCtx.shutdown();
+
+            for (int m = 0; m < messageCount; m++) {
+                CipherContext single = new CipherContext(new DummyCipher(), key, CipherMode.CBC, PaddingMode.PKCS7, 8, ivs[m]);
+                byte[][] expected = new byte[1][];
+                single.encryptAsync(data[m], expected).join();
+                single.shutdown();
+
+                if (!Arrays.equals(expected[0], encrypted[m])) {
+                    System.out.println("✗ FAILED: Сообщение " + m + " отличается от отдельного шифрования CBC");
+                    return false;
+                }
+                if (!Arrays.equals(data[m], decrypted[m])) {
+                    System.out.println("✗ FAILED: Сообщение " + m + " не совпадает после дешифрования");
+                    return false;
+                }
+            }
+            if (batchCipher.batchCalls == 0) {
+                System.out.println("✗ FAILED: Многобуферный CBC не использует пакетную обработку");
+                return false;
+            }
+
+            try {
+                CipherContext ctx = new CipherContext(new DummyCipher(), key, CipherMode.CBC, PaddingMode.PKCS7, 8, ivs[0]);
+                ctx.shutdown();
+                ctx.encryptAllAsync(data, Arrays.copyOf(ivs, 3), new byte[messageCount][]);
+                System.out.println("✗ FAILED: Неверное число IV не вызвало исключение");
+                return false;
+            } catch (IllegalArgumentException expected) {
+                // ожидаемое исключение
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            System.out.println();
+        }
+    }
+
+    private static boolean testOfbKeystream() {
+        System.out.println("Тест 12: Предвычисление потока ключей OFB");
+        try {
+            byte[] key = {2, 7, 1, 8, 2, 8, 1, 8};
+            byte[] iv = {1, 2, 3, 4, 5, 6, 7, 8};
+            byte[] plaintext = new byte[8 * 1000];
+            for (int i = 0; i < plaintext.length; i++) {
+                plaintext[i] = (byte) (i * 11 + (i >> 9));
+            }
+
+            CipherContext ctx = new CipherContext(new DummyCipher(), key, CipherMode.OFB, PaddingMode.ZEROS, 8, iv);
+            byte[][] expected = new byte[1][];
+            ctx.encryptAsync(plaintext, expected).join();
+            ctx.shutdown();
+
+            // Буфер на 4 блока много раз переполняется, куски не выровнены по границам блоков
+            byte[] streamed = new byte[plaintext.length];
+            try (OfbKeystream keystream = ctx.ofbKeystream(4)) {
+                int offset = 0;
+                int piece = 1;
+                while (offset < plaintext.length) {
+                    int length = Math.min(piece, plaintext.length - offset);
+                    keystream.xor(plaintext, offset, streamed, offset, length);
+                    offset += length;
+                    piece = piece % 29 + 3;
+                }
+            }
+            if (!Arrays.equals(expected[0], streamed)) {
+                System.out.println("✗ FAILED: Поток ключей отличается от режима OFB");
+                return false;
+            }
+
+            byte[] inPlace = Arrays.copyOf(expected[0], expected[0].length);
+            OfbKeystream keystream = ctx.ofbKeystream(64);
+            keystream.xor(inPlace, 0, inPlace, 0, inPlace.length);
+            keystream.close();
+            if (!Arrays.equals(plaintext, inPlace)) {
+                System.out.println("✗ FAILED: Дешифрование на месте не совпадает с исходными данными");
+                return false;
+            }
+
+            try {
+                keystream.process(new byte[1]);
+                System.out.println("✗ FAILED: Закрытый поток ключей не вызвал исключение");
+                return false;
+            } catch (IllegalStateException e) {
+                // ожидаемое исключение
+            }
+
+            CipherContext cbc = new CipherContext(new DummyCipher(), key, CipherMode.CBC, PaddingMode.ZEROS, 8, iv);
+            cbc.shutdown();
+            try {
+                cbc.ofbKeystream(4);
+                System.out.println("✗ FAILED: Режим CBC не вызвал исключение");
+                return false;
+            } catch (IllegalArgumentException e) {
+                // ожидаемое исключение
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            System.out.println();
+        }
+    }
+
+    private static boolean testGcm() {
+        System.out.println("Тест 13: Режим GCM (сравнение с AES/GCM из JDK)");
+        try {
+            byte[] key = new byte[16];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = (byte) (i * 9 + 1);
+            }
+            JdkAesCipher aes = new JdkAesCipher();
+            aes.setEncryptionKey(key);
+            aes.setDecryptionKey(key);
+            Gcm gcm = new Gcm(aes);
+
+            int[] lengths = {0, 1, 15, 16, 17, 100, 16 * 1024 + 5, 16 * 3000 + 7};
+            int[] ivLengths = {12, 8, 60};
+            int[] aadLengths = {0, 5, 20};
+            for (int length : lengths) {
+                for (int ivLength : ivLengths) {
+                    for (int aadLength : aadLengths) {
+                        byte[] plaintext = pattern(length, 3);
+                        byte[] iv = pattern(ivLength, 5);
+                        byte[] aad = pattern(aadLength, 7);
+
+                        Cipher jdk = Cipher.getInstance("AES/GCM/NoPadding");
+                        jdk.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"), new GCMParameterSpec(128, iv));
+                        jdk.updateAAD(aad);
+                        byte[] expected = jdk.doFinal(plaintext);
+
+                        byte[] tag = new byte[Gcm.TAG_LENGTH];
+                        byte[] ciphertext = gcm.encrypt(iv, aad, plaintext, tag);
+                        if (!Arrays.equals(Arrays.copyOf(expected, length), ciphertext)
+                                || !Arrays.equals(Arrays.copyOfRange(expected, length, expected.length), tag)) {
+                            System.out.println("✗ FAILED: Результат отличается от JDK (длина " + length
+                                    + ", IV " + ivLength + ", AAD " + aadLength + ")");
+                            return false;
+                        }
+                        if (!Arrays.equals(plaintext, gcm.decrypt(iv, aad, ciphertext, tag))) {
+                            System.out.println("✗ FAILED: Дешифрование GCM не совпадает с исходными данными");
+                            return false;
+                        }
+                    }
+                }
+            }
+
+            byte[] iv = pattern(12, 11);
+            byte[] plaintext = pattern(5000, 13);
+            byte[] tag = new byte[Gcm.TAG_LENGTH];
+            byte[] ciphertext = gcm.encrypt(iv, null, plaintext, tag);
+            ciphertext[4321] ^= 1;
+            try {
+                gcm.decrypt(iv, null, ciphertext, tag);
+                System.out.println("✗ FAILED: Измененный шифртекст прошел проверку");
+                return false;
+            } catch (IllegalArgumentException e) {
+                // ожидаемое исключение
+            }
+
+            CipherContext ctx = new CipherContext(new JdkAesCipher(), key, CipherMode.GCM, PaddingMode.PKCS7, 16, iv);
+            byte[][] sealed = new byte[2][];
+            ctx.encryptAuthenticatedAsync(plaintext, pattern(9, 1), sealed).join();
+            byte[][] opened = new byte[1][];
+            ctx.decryptAuthenticatedAsync(sealed[0], sealed[1], pattern(9, 1), opened).join();
+            boolean wrongAadRejected = false;
+            try {
+                ctx.decryptAuthenticatedAsync(sealed[0], sealed[1], pattern(9, 2), new byte[1][]).join();
+            } catch (java.util.concurrent.CompletionException e) {
+                wrongAadRejected = e.getCause() instanceof IllegalArgumentException;
+            }
+
+            byte[][] blockEncrypted = new byte[1][];
+            ctx.encryptAsync(plaintext, blockEncrypted).join();
+            byte[][] blockDecrypted = new byte[1][];
+            ctx.decryptAsync(blockEncrypted[0], blockDecrypted).join();
+            ctx.shutdown();
+
+            if (!Arrays.equals(plaintext, opened[0]) || !wrongAadRejected) {
+                System.out.println("✗ FAILED: API тега CipherContext работает неверно");
+                return false;
+            }
+            if (blockEncrypted[0].length != 5008 + Gcm.TAG_LENGTH || !Arrays.equals(plaintext, blockDecrypted[0])) {
+                System.out.println("✗ FAILED: Блочный интерфейс GCM работает неверно");
+                return false;
+            }
+
+            // Готовый объект режима дает тот же результат, что и построение по шифру на каждый вызов
+            byte[][] blocks = new byte[10][];
+            for (int i = 0; i < blocks.length; i++) {
+                blocks[i] = pattern(16, i);
+            }
+            byte[][] withAuthenticator = CipherMode.GCM.encrypt(blocks, gcm, iv);
+            byte[][] withCipher = CipherMode.GCM.encrypt(blocks, aes, iv);
+            byte[][][] messages = CipherMode.GCM.encrypt(new byte[][][] {blocks, blocks}, aes, new byte[][] {iv, iv});
+            if (!Arrays.deepEquals(withAuthenticator, withCipher) || !Arrays.deepEquals(withAuthenticator, messages[1])
+                    || !Arrays.deepEquals(blocks, CipherMode.GCM.decrypt(withAuthenticator, gcm, iv))
+                    || CipherMode.CTR.authenticator(aes) != null) {
+                System.out.println("✗ FAILED: Перегрузки с AuthenticatedCipher работают неверно");
+                return false;
+            }
+            try {
+                CipherMode.CTR.encrypt(blocks, gcm, iv);
+                System.out.println("✗ FAILED: Режим CTR принял AuthenticatedCipher");
+                return false;
+            } catch (IllegalArgumentException e) {
+                // ожидаемое исключение
+            }
+
+            CipherContext cbc = new CipherContext(new JdkAesCipher(), key, CipherMode.CBC, PaddingMode.PKCS7, 16, iv);
+            cbc.shutdown();
+            try {
+                cbc.encryptAuthenticatedAsync(plaintext, null, new byte[2][]);
+                System.out.println("✗ FAILED: Режим CBC не вызвал исключение");
+                return false;
+            } catch (IllegalArgumentException e) {
+                // ожидаемое исключение
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            System.out.println();
+        }
+    }
+
+    private static boolean testXts() {
+        System.out.println("Тест 14: Режим XTS (вектор IEEE 1619, кража шифртекста, диапазоны секторов)");
+        java.nio.file.Path file = null;
+        try {
+            Xts zero = new Xts(new JdkAesCipher(), new JdkAesCipher(), new byte[32], 32);
+            byte[] vector1 = new byte[32];
+            zero.encrypt(vector1, 0, 32, 0);
+            if (!Arrays.equals(vector1, hex("917cf69ebd68b2ec9b9fe9a3eadda692cd43d2f59598ed858c02c2652fbf922e"))) {
+                System.out.println("✗ FAILED: Вектор 1 IEEE 1619 не совпадает");
+                return false;
+            }
+
+            byte[] key = hex("fffefdfcfbfaf9f8f7f6f5f4f3f2f1f0bfbebdbcbbbab9b8b7b6b5b4b3b2b1b0");
+            Xts stealing = new Xts(new JdkAesCipher(), new JdkAesCipher(), key, 32);
+            byte[] stolen = hex("000102030405060708090a0b0c0d0e0f10");
+            stealing.encrypt(stolen, 0, stolen.length, 0x9a78563412L);
+            // эталон вычислен независимой реализацией XTS-AES (Python cryptography на OpenSSL)
+            if (!Arrays.equals(stolen, hex("641610679dcbf92e505c41333fb06c2a95"))) {
+                System.out.println("✗ FAILED: Кража шифртекста не совпадает с эталоном");
+                return false;
+            }
+
+            Xts xts = new Xts(new JdkAesCipher(), new JdkAesCipher(), pattern(32, 3), 512);
+            for (int length : new int[] {16, 17, 31, 512, 1000, 512 * 9 + 100}) {
+                byte[] plaintext = pattern(length, 7);
+                byte[] data = Arrays.copyOf(plaintext, length);
+                xts.encrypt(data, 0, length, 77);
+                if (length > 16 && Arrays.equals(plaintext, data)) {
+                    System.out.println("✗ FAILED: Данные не изменились после шифрования");
+                    return false;
+                }
+                xts.decrypt(data, 0, length, 77);
+                if (!Arrays.equals(plaintext, data)) {
+                    System.out.println("✗ FAILED: XTS не восстанавливает данные длины " + length);
+                    return false;
+                }
+            }
+
+            byte[] image = pattern(512 * 10 + 100, 5);
+            byte[] expected = Arrays.copyOf(image, image.length);
+            xts.encrypt(expected, 0, expected.length, 0);
+            file = java.nio.file.Files.createTempFile("xts", ".img");
+            java.nio.file.Files.write(file, image);
+            xts.encryptFile(file, 0, 4);
+            xts.encryptFile(file, 4, 100);
+            if (!Arrays.equals(expected, java.nio.file.Files.readAllBytes(file))) {
+                System.out.println("✗ FAILED: Шифрование диапазонов файла отличается от шифрования целиком");
+                return false;
+            }
+
+            xts.decryptFile(file, 3, 2);
+            byte[] partial = java.nio.file.Files.readAllBytes(file);
+            if (!Arrays.equals(Arrays.copyOfRange(image, 3 * 512, 5 * 512), Arrays.copyOfRange(partial, 3 * 512, 5 * 512))
+                    || !Arrays.equals(Arrays.copyOf(expected, 3 * 512), Arrays.copyOf(partial, 3 * 512))
+                    || !Arrays.equals(Arrays.copyOfRange(expected, 5 * 512, expected.length),
+                            Arrays.copyOfRange(partial, 5 * 512, partial.length))) {
+                System.out.println("✗ FAILED: Дешифрование секторов 3-4 затронуло другие секторы");
+                return false;
+            }
+
+            try {
+                xts.encrypt(new byte[512 + 8], 0, 512 + 8, 0);
+                System.out.println("✗ FAILED: Сектор короче блока не вызвал исключение");
+                return false;
+            } catch (IllegalArgumentException e) {
+                // ожидаемое исключение
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            if (file != null) {
+                file.toFile().delete();
+            }
+            System.out.println();
+        }
+    }
+
+    private static boolean testCtrRangeReads() {
+        System.out.println("Тест 15: Чтение диапазонов файла CTR");
+        java.nio.file.Path file = null;
+        try {
+            byte[] key = pattern(16, 3);
+            byte[] iv = {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xF0};
+            byte[] plaintext = pattern(100_003, 7);
+
+            CipherContext ctx = new CipherContext(new JdkAesCipher(), key, CipherMode.CTR, PaddingMode.PKCS7, 16, iv);
+            byte[][] encrypted = new byte[1][];
+            ctx.encryptAsync(plaintext, encrypted).join();
+            ctx.shutdown();
+            file = java.nio.file.Files.createTempFile("ctr", ".enc");
+            java.nio.file.Files.write(file, encrypted[0]);
+
+            try (CtrFileReader reader = ctx.openCtrReader(file.toString())) {
+                if (reader.length() != plaintext.length) {
+                    System.out.println("✗ FAILED: Неверная длина открытого текста: " + reader.length());
+                    return false;
+                }
+                long[][] ranges = {{0, 1}, {0, 16}, {15, 2}, {12345, 777}, {99_990, 13}, {99_990, 1000}, {100_003, 5}, {5, 0}};
+                for (long[] range : ranges) {
+                    int end = (int) Math.min(range[0] + range[1], plaintext.length);
+                    byte[] expected = Arrays.copyOfRange(plaintext, (int) range[0], end);
+                    if (!Arrays.equals(expected, reader.read(range[0], (int) range[1]))) {
+                        System.out.println("✗ FAILED: Диапазон " + range[0] + "+" + range[1] + " не совпадает");
+                        return false;
+                    }
+                }
+                try {
+                    reader.read(plaintext.length + 1, 1);
+                    System.out.println("✗ FAILED: Смещение за концом файла не вызвало исключение");
+                    return false;
+                } catch (IllegalArgumentException e) {
+                    // ожидаемое исключение
+                }
+            }
+
+            CipherContext cbc = new CipherContext(new JdkAesCipher(), key, CipherMode.CBC, PaddingMode.PKCS7, 16, iv);
+            cbc.shutdown();
+            try {
+                cbc.openCtrReader(file.toString());
+                System.out.println("✗ FAILED: Режим CBC не вызвал исключение");
+                return false;
+            } catch (IllegalArgumentException e) {
+                // ожидаемое исключение
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            if (file != null) {
+                file.toFile().delete();
+            }
+            System.out.println();
+        }
+    }
+
+    private static byte[] hex(String value) {
+        byte[] result = new byte[value.length() / 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) Integer.parseInt(value.substring(2 * i, 2 * i + 2), 16);
+        }
+        return result;
+    }
+
+    private static boolean testInPlaceModes() {
+        System.out.println("Тест 16: Шифрование на месте в непрерывном буфере");
+        try {
+            byte[] key = pattern(16, 5);
+            byte[] iv = pattern(16, 9);
+            // Больше двух диапазонов по 1024 блока, чтобы проверить границы параллельной обработки
+            int length = 2500 * 16;
+            int offset = 7;
+            byte[] plaintext = pattern(length, 11);
+            // Пакеты по 7 блоков не делят диапазон из 1024 блоков: последний пакет диапазона неполный
+            SymmetricCipher[] ciphers = {new JdkAesCipher(), new BatchAesCipher(7)};
+            for (SymmetricCipher c : ciphers) {
+                c.setEncryptionKey(key);
+                c.setDecryptionKey(key);
+            }
+
+            CipherMode[] modes = {CipherMode.ECB, CipherMode.CBC, CipherMode.PCBC,
+                    CipherMode.CFB, CipherMode.OFB, CipherMode.CTR};
+            for (SymmetricCipher cipher : ciphers) {
+                for (CipherMode mode : modes) {
+                    byte[][] blocks = new byte[length / 16][];
+                    for (int i = 0; i < blocks.length; i++) {
+                        blocks[i] = Arrays.copyOfRange(plaintext, i * 16, (i + 1) * 16);
+                    }
+                    byte[][] expected = mode.encrypt(blocks, cipher, iv);
+
+                    byte[] buffer = new byte[offset + length + 5];
+                    Arrays.fill(buffer, (byte) 0x5A);
+                    System.arraycopy(plaintext, 0, buffer, offset, length);
+                    mode.encrypt(buffer, offset, length, 16, cipher, iv);
+                    for (int i = 0; i < expected.length; i++) {
+                        if (!Arrays.equals(expected[i], Arrays.copyOfRange(buffer, offset + i * 16, offset + (i + 1) * 16))) {
+                            System.out.println("✗ FAILED: " + mode + " (" + cipher.getClass().getSimpleName() + "): блок " + i + " не совпадает с блочным API");
+                            return false;
+                        }
+                    }
+
+                    mode.decrypt(buffer, offset, length, 16, cipher, iv);
+                    if (!Arrays.equals(plaintext, Arrays.copyOfRange(buffer, offset, offset + length))
+                            || buffer[offset - 1] != 0x5A || buffer[offset + length] != 0x5A) {
+                        System.out.println("✗ FAILED: " + mode + " (" + cipher.getClass().getSimpleName() + "): дешифрование на месте не восстановило данные");
+                        return false;
+                    }
+                }
+            }
+
+            try {
+                CipherMode.GCM.encrypt(new byte[32], 0, 32, 16, ciphers[0], iv);
+                System.out.println("✗ FAILED: Режим GCM не вызвал исключение");
+                return false;
+            } catch (IllegalArgumentException e) {
+                // ожидаемое исключение
+            }
+            try {
+                CipherMode.CBC.encrypt(new byte[32], 0, 30, 16, ciphers[0], iv);
+                System.out.println("✗ FAILED: Неполный блок не вызвал исключение");
+                return false;
+            } catch (IllegalArgumentException e) {
+                // ожидаемое исключение
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            System.out.println();
+        }
+    }
+
+    private static boolean testRandomDelta() {
+        System.out.println("Тест 17: Режим RANDOM_DELTA (пакетная генерация дельт, параллельные диапазоны)");
+        try {
+            byte[] key = pattern(16, 13);
+            // Одинаковые блоки открытого текста и больше двух диапазонов по 1024 блока
+            byte[] plaintext = new byte[2500 * 16 + 3];
+
+            CipherContext ctx = new CipherContext(new JdkAesCipher(), key, CipherMode.RANDOM_DELTA, PaddingMode.PKCS7, 16);
+            byte[][] first = new byte[1][];
+            byte[][] second = new byte[1][];
+            ctx.encryptAsync(plaintext, first).join();
+            ctx.encryptAsync(plaintext, second).join();
+            byte[][] decrypted = new byte[1][];
+            ctx.decryptAsync(first[0], decrypted).join();
+            ctx.shutdown();
+
+            if (first[0].length != 2 * 2501 * 16) {
+                System.out.println("✗ FAILED: Неверная длина шифртекста: " + first[0].length);
+                return false;
+            }
+            if (!Arrays.equals(plaintext, decrypted[0])) {
+                System.out.println("✗ FAILED: Дешифрованные данные не совпадают");
+                return false;
+            }
+            if (Arrays.equals(first[0], second[0])) {
+                System.out.println("✗ FAILED: Повторное шифрование дало тот же шифртекст");
+                return false;
+            }
+            java.util.Set<String> dataParts = new java.util.HashSet<>();
+            for (int i = 0; i < 2500; i++) {
+                dataParts.add(Arrays.toString(Arrays.copyOfRange(first[0], i * 32, i * 32 + 16)));
+            }
+            if (dataParts.size() != 2500) {
+                System.out.println("✗ FAILED: Одинаковые блоки зашифрованы одинаково");
+                return false;
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            System.out.println();
+        }
+    }
+
+    private static boolean testOcb() {
+        System.out.println("Тест 18: Режим OCB (векторы RFC 7253, параллельные диапазоны)");
+        try {
+            JdkAesCipher aes = new JdkAesCipher();
+            byte[] rfcKey = hex("000102030405060708090A0B0C0D0E0F");
+            aes.setEncryptionKey(rfcKey);
+            aes.setDecryptionKey(rfcKey);
+            Ocb rfc = new Ocb(aes);
+
+            // номер вектора, длина A, длина P, C || T
+            Object[][] vectors = {
+                    {0, 0, 0, "785407BFFFC8AD9EDCC5520AC9111EE6"},
+                    {1, 8, 8, "6820B3657B6F615A5725BDA0D3B4EB3A257C9AF1F8F03009"},
+                    {2, 8, 0, "81017F8203F081277152FADE694A0A00"},
+                    {3, 0, 8, "45DD69F8F5AAE72414054CD1F35D82760B2CD00D2F99BFA9"},
+                    {7, 24, 24, "1CA2207308C87C010756104D8840CE1952F09673A448A122C92C62241051F57356D7F3C90BB0E07F"},
+                    {13, 40, 40, "D5CA91748410C1751FF8A2F618255B68A0A12E093FF454606E59F9C1D0DDC54B"
+                            + "65E8628E568BAD7AED07BA06A4A69483A7035490C5769E60"},
+            };
+            for (Object[] vector : vectors) {
+                byte[] nonce = hex(String.format("BBAA998877665544332211%02X", (Integer) vector[0]));
+                byte[] aad = new byte[(Integer) vector[1]];
+                byte[] plaintext = new byte[(Integer) vector[2]];
+                for (int i = 0; i < aad.length; i++) {
+                    aad[i] = (byte) i;
+                }
+                for (int i = 0; i < plaintext.length; i++) {
+                    plaintext[i] = (byte) i;
+                }
+                byte[] expected = hex((String) vector[3]);
+
+                byte[] tag = new byte[Ocb.TAG_LENGTH];
+                byte[] ciphertext = rfc.encrypt(nonce, aad, plaintext, tag);
+                if (!Arrays.equals(Arrays.copyOf(expected, plaintext.length), ciphertext)
+                        || !Arrays.equals(Arrays.copyOfRange(expected, plaintext.length, expected.length), tag)) {
+                    System.out.println("✗ FAILED: Вектор RFC 7253 №" + vector[0] + " не совпадает");
+                    return false;
+                }
+                if (!Arrays.equals(plaintext, rfc.decrypt(nonce, aad, ciphertext, tag))) {
+                    System.out.println("✗ FAILED: Дешифрование вектора №" + vector[0] + " не совпадает");
+                    return false;
+                }
+            }
+
+            // Несколько диапазонов по 1024 блока в данных и в AAD; эталон - OpenSSL (SHA-256 шифртекста и тег)
+            byte[] key = new byte[16];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = (byte) (i * 9 + 1);
+            }
+            aes.setEncryptionKey(key);
+            aes.setDecryptionKey(key);
+            Ocb ocb = new Ocb(aes);
+            Object[][] large = {
+                    {16 * 3000 + 7, 12, 37, "c024dc7e215b7c4341719fcf539643c2",
+                            "b94690dee179ba152787e92df6a524c883deeb23697e2dcd2c3a02d234152cdf"},
+                    {16 * 2048, 15, 16 * 1100, "b139790521b1926ad004d698bac6e4f8",
+                            "b060346bc96ca735ed5d957cda2c3936a7da11ebe867c3e55ab8ca3fbae20d30"},
+            };
+            java.security.MessageDigest sha256 = java.security.MessageDigest.getInstance("SHA-256");
+            for (Object[] vector : large) {
+                byte[] plaintext = pattern((Integer) vector[0], 3);
+                byte[] nonce = pattern((Integer) vector[1], 5);
+                byte[] aad = pattern((Integer) vector[2], 7);
+                byte[] tag = new byte[Ocb.TAG_LENGTH];
+                byte[] ciphertext = ocb.encrypt(nonce, aad, plaintext, tag);
+                if (!Arrays.equals(hex((String) vector[3]), tag)
+                        || !Arrays.equals(hex((String) vector[4]), sha256.digest(ciphertext))) {
+                    System.out.println("✗ FAILED: Длинное сообщение (" + vector[0] + " байт) не совпадает с эталоном");
+                    return false;
+                }
+                if (!Arrays.equals(plaintext, ocb.decrypt(nonce, aad, ciphertext, tag))) {
+                    System.out.println("✗ FAILED: Дешифрование длинного сообщения не совпадает");
+                    return false;
+                }
+            }
+
+            byte[] iv = pattern(12, 11);
+            byte[] plaintext = pattern(5000, 13);
+            byte[] tag = new byte[Ocb.TAG_LENGTH];
+            byte[] ciphertext = ocb.encrypt(iv, null, plaintext, tag);
+            ciphertext[4321] ^= 1;
+            try {
+                ocb.decrypt(iv, null, ciphertext, tag);
+                System.out.println("✗ FAILED: Измененный шифртекст прошел проверку");
+                return false;
+            } catch (IllegalArgumentException e) {
+                // ожидаемое исключение
+            }
+
+            CipherContext ctx = new CipherContext(new JdkAesCipher(), key, CipherMode.OCB, PaddingMode.PKCS7, 16, iv);
+            byte[][] sealed = new byte[2][];
+            ctx.encryptAuthenticatedAsync(plaintext, pattern(9, 1), sealed).join();
+            byte[][] opened = new byte[1][];
+            ctx.decryptAuthenticatedAsync(sealed[0], sealed[1], pattern(9, 1), opened).join();
+            byte[][] blockEncrypted = new byte[1][];
+            ctx.encryptAsync(plaintext, blockEncrypted).join();
+            byte[][] blockDecrypted = new byte[1][];
+            ctx.decryptAsync(blockEncrypted[0], blockDecrypted).join();
+            ctx.shutdown();
+
+            if (!Arrays.equals(plaintext, opened[0])) {
+                System.out.println("✗ FAILED: API тега CipherContext работает неверно");
+                return false;
+            }
+            if (blockEncrypted[0].length != 5008 + Ocb.TAG_LENGTH || !Arrays.equals(plaintext, blockDecrypted[0])) {
+                System.out.println("✗ FAILED: Блочный интерфейс OCB работает неверно");
+                return false;
+            }
+
+            // Nonce OCB короче блока: IV в 16 байт отклоняется сразу, а не при первом шифровании
+            try {
+                new CipherContext(new JdkAesCipher(), key, CipherMode.OCB, PaddingMode.PKCS7, 16, new byte[16]).shutdown();
+                System.out.println("✗ FAILED: Nonce OCB в 16 байт не вызвал исключение");
+                return false;
+            } catch (IllegalArgumentException e) {
+                // ожидаемое исключение
+            }
+            CipherContext multi = new CipherContext(new JdkAesCipher(), key, CipherMode.OCB, PaddingMode.PKCS7, 16, iv);
+            try {
+                multi.encryptAllAsync(new byte[][] {plaintext}, new byte[][] {new byte[16]}, new byte[1][]);
+                System.out.println("✗ FAILED: Nonce сообщения в 16 байт не вызвал исключение");
+                return false;
+            } catch (IllegalArgumentException e) {
+                // ожидаемое исключение
+            }
+            byte[][] sealedAll = new byte[2][];
+            multi.encryptAllAsync(new byte[][] {plaintext, plaintext}, new byte[][] {pattern(15, 1), iv}, sealedAll).join();
+            multi.shutdown();
+            if (!Arrays.equals(blockEncrypted[0], sealedAll[1])) {
+                System.out.println("✗ FAILED: encryptAllAsync в режиме OCB не совпадает с encryptAsync");
+                return false;
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            System.out.println();
+        }
+    }
+
+    private static boolean testMac() {
+        System.out.println("Тест 19: CMAC и PMAC, аутентификация файлов");
+        java.nio.file.Path dir = null;
+        CipherContext ctx = null;
+        try {
+            byte[] rfcKey = hex("2B7E151628AED2A6ABF7158809CF4F3C");
+            byte[] rfcMessage = hex("6BC1BEE22E409F96E93D7E117393172AAE2D8A571E03AC9C9EB76FAC45AF8E51"
+                    + "30C81C46A35CE411E5FBC1191A0A52EFF69F2445DF4F9B17AD2B417BE66C3710");
+            Cmac cmac = new Cmac(new JdkAesCipher(), rfcKey, 16);
+            // длина сообщения, T (RFC 4493)
+            Object[][] vectors = {
+                    {0, "BB1D6929E95937287FA37D129B756746"},
+                    {16, "070A16B46B4D4144F79BDD9DD04A287C"},
+                    {40, "DFA66747DE9AE63030CA32611497C827"},
+                    {64, "51F0BEBF7E3B9D92FC49741779363CFE"},
+            };
+            for (Object[] vector : vectors) {
+                byte[] message = Arrays.copyOf(rfcMessage, (Integer) vector[0]);
+                if (!Arrays.equals(hex((String) vector[1]), cmac.compute(message))) {
+                    System.out.println("✗ FAILED: Вектор RFC 4493 длины " + vector[0] + " не совпадает");
+                    return false;
+                }
+            }
+
+            // Эталоны - CMAC OpenSSL и PMAC1 для AES и DESede (блок 8 байт)
+            byte[] aesKey = hex("000102030405060708090A0B0C0D0E0F");
+            byte[] desKey = pattern(24, 3);
+            Pmac pmac = new Pmac(new JdkAesCipher(), aesKey, 16);
+            Cmac desCmac = new Cmac(new JdkAesCipher("DESede"), desKey, 8);
+            Pmac desPmac = new Pmac(new JdkAesCipher("DESede"), desKey, 8);
+            Object[][] references = {
+                    {pmac, new byte[0], "4399572CD6EA5341B8D35876A7098AF7"},
+                    {pmac, hex("000102"), "256BA5193C1B991B4DF0C51F388A9E27"},
+                    {pmac, aesKey, "EBBD822FA458DAF6DFDAD7C27DA76338"},
+                    {pmac, pattern(32773, 7), "7315EFE4E4D90179573F968C0BF21C2D"},
+                    {new Cmac(new JdkAesCipher(), aesKey, 16), pattern(32773, 7), "E68A478B24F2A8F6C1A09848DE49A775"},
+                    {desCmac, new byte[0], "2AC94A6A0A396DD9"},
+                    {desCmac, pattern(37, 5), "8E5761018D363004"},
+                    {desPmac, pattern(8200, 5), "90C85DB263D93057"},
+                    {desPmac, pattern(8199, 5), "E7F36266389041FA"},
+            };
+            for (Object[] reference : references) {
+                byte[] data = (byte[]) reference[1];
+                if (!Arrays.equals(hex((String) reference[2]), ((Mac) reference[0]).compute(data))) {
+                    System.out.println("✗ FAILED: " + reference[0].getClass().getName() + " для " + data.length
+                            + " байт не совпадает с эталоном");
+                    return false;
+                }
+            }
+            if (!pmac.verify(pattern(32800, 9), 11, 30000, hex("B6431916F93052382DFC26CB9C13E35D"))) {
+                System.out.println("✗ FAILED: PMAC фрагмента массива не совпадает с эталоном");
+                return false;
+            }
+
+            // Файл читается один раз: шифрование CBC и PMAC шифртекста, тег в конце файла
+            dir = java.nio.file.Files.createTempDirectory("mac");
+            byte[] plaintext = pattern(100003, 11);
+            String input = dir.resolve("input.bin").toString();
+            String encrypted = dir.resolve("input.enc").toString();
+            String decrypted = dir.resolve("output.bin").toString();
+            java.nio.file.Files.write(java.nio.file.Paths.get(input), plaintext);
+
+            ctx = new CipherContext(new JdkAesCipher(), pattern(16, 1), CipherMode.CBC,
+                    PaddingMode.PKCS7, 16, pattern(16, 2));
+            Mac fileMac = new Pmac(new JdkAesCipher(), pattern(16, 3), 16);
+            ctx.encryptFileAsync(input, encrypted, fileMac).join();
+            ctx.decryptFileAsync(encrypted, decrypted, fileMac).join();
+            byte[] sealed = java.nio.file.Files.readAllBytes(java.nio.file.Paths.get(encrypted));
+            if (!Arrays.equals(plaintext, java.nio.file.Files.readAllBytes(java.nio.file.Paths.get(decrypted)))
+                    || !fileMac.verify(sealed, 0, sealed.length - 16, Arrays.copyOfRange(sealed, sealed.length - 16, sealed.length))) {
+                System.out.println("✗ FAILED: Аутентифицированное шифрование файла работает неверно");
+                return false;
+            }
+
+            java.nio.file.Files.delete(java.nio.file.Paths.get(decrypted));
+            sealed[50000] ^= 1;
+            java.nio.file.Files.write(java.nio.file.Paths.get(encrypted), sealed);
+            try {
+                ctx.decryptFileAsync(encrypted, decrypted, fileMac).join();
+                System.out.println("✗ FAILED: Измененный файл принят");
+                return false;
+            } catch (java.util.concurrent.CompletionException e) {
+                if (!(e.getCause() instanceof IllegalArgumentException)
+                        || java.nio.file.Files.exists(java.nio.file.Paths.get(decrypted))) {
+                    System.out.println("✗ FAILED: Измененный файл не отклонен до записи результата");
+                    return false;
+                }
+            }
+
+            System.out.println("✓ PASSED");
+            return true;
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            return false;
+        } finally {
+            if (ctx != null) {
+                ctx.shutdown();
+            }
+            if (dir != null) {
+                for (java.io.File file : dir.toFile().listFiles()) {
+                    file.delete();
+                }
+                dir.toFile().delete();
+            }
+            System.out.println();
+        }
+    }
+
+    private static byte[] pattern(int length, int seed) {
+        byte[] result = new byte[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = (byte) (i * seed + (i >> 8) + seed);
+        }
+        return result;
+    }
+
+    private static class JdkAesCipher implements SymmetricCipher {
+        private final String algorithm;
+        private Cipher encryptor;
+        private Cipher decryptor;
+
+        JdkAesCipher() {
+            this("AES");
+        }
+
+        // 64-битный шифр JDK (DESede) для проверки режимов с блоком 8 байт
+        JdkAesCipher(String algorithm) {
+            this.algorithm = algorithm;
+        }
+
+        @Override
+        public void setEncryptionKey(byte[] key) {
+            encryptor = init(algorithm, Cipher.ENCRYPT_MODE, key);
+        }
+
+        @Override
+        public void setDecryptionKey(byte[] key) {
+            decryptor = init(algorithm, Cipher.DECRYPT_MODE, key);
+        }
+
+        @Override
+        public synchronized byte[] encrypt(byte[] block) {
+            return encryptor.update(block);
+        }
+
+        @Override
+        public synchronized byte[] decrypt(byte[] block) {
+            return decryptor.update(block);
+        }
+
+        private static Cipher init(String algorithm, int mode, byte[] key) {
+            try {
+                Cipher cipher = Cipher.getInstance(algorithm + "/ECB/NoPadding");
+                cipher.init(mode, new SecretKeySpec(key, algorithm));
+                return cipher;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    // JDK AES с пакетным интерфейсом: пакет обрабатывается одним вызовом Cipher
+    private static class BatchAesCipher extends JdkAesCipher implements BatchCipher {
+        private final int batchSize;
+
+        BatchAesCipher(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public int batchSize() {
+            return batchSize;
+        }
+
+        @Override
+        public byte[][] encryptBatch(byte[][] blocks) {
+            return split(encrypt(join(blocks)), blocks.length);
+        }
+
+        @Override
+        public byte[][] decryptBatch(byte[][] blocks) {
+            return split(decrypt(join(blocks)), blocks.length);
+        }
+
+        private static byte[] join(byte[][] blocks) {
+            byte[] joined = new byte[blocks.length * 16];
+            for (int i = 0; i < blocks.length; i++) {
+                System.arraycopy(blocks[i], 0, joined, i * 16, 16);
+            }
+            return joined;
+        }
+
+        private static byte[][] split(byte[] data, int count) {
+            byte[][] blocks = new byte[count][];
+            for (int i = 0; i < count; i++) {
+                blocks[i] = Arrays.copyOfRange(data, i * 16, (i + 1) * 16);
+            }
+            return blocks;
+        }
+    }
+
+    private static class CountingBatchCipher extends DummyCipher implements BatchCipher {
+        private volatile int batchCalls;
+
+        @Override
+        public int batchSize() {
+            return 8;
+        }
+
+        @Override
+        public byte[][] encryptBatch(byte[][] blocks) {
+            batchCalls++;
+            byte[][] result = new byte[blocks.length][];
+            for (int i = 0; i < blocks.length; i++) {
+                result[i] = encrypt(blocks[i]);
+            }
+            return result;
+        }
+
+        @Override
+        public byte[][] decryptBatch(byte[][] blocks) {
+            batchCalls++;
+            byte[][] result = new byte[blocks.length][];
+            for (int i = 0; i < blocks.length; i++) {
+                result[i] = decrypt(blocks[i]);
+            }
+            return result;
+        }
+    }
 }
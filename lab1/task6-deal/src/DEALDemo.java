@@ -131,26 +131,28 @@ public class DEALDemo {
         
         // Create DEAL cipher
         DEAL deal = new DEAL();
-        deal.setEncryptionKey(key);
-        deal.setDecryptionKey(key);
         
-        // Create cipher context with ECB mode and PKCS7 padding
+        // Create cipher context with ECB mode and PKCS7 padding (the context sets the key)
         // DEAL block size is 16 bytes (128 bits)
         CipherContext ctx = new CipherContext(
             deal,
+            key,
             CipherMode.ECB,
             PaddingMode.PKCS7,
             16  // DEAL block size
         );
+        byte[][] result = new byte[1][];
         
         // Encrypt
-        byte[] ciphertext = ctx.encryptAsync(plaintext).join();
+        ctx.encryptAsync(plaintext, result).join();
+        byte[] ciphertext = result[0];
         System.out.println("Encrypted (" + ciphertext.length + " bytes):");
         System.out.println(bytesToHex(ciphertext));
         System.out.println();
         
         // Decrypt
-        byte[] decrypted = ctx.decryptAsync(ciphertext).join();
+        ctx.decryptAsync(ciphertext, result).join();
+        byte[] decrypted = result[0];
         String decryptedMessage = new String(decrypted, StandardCharsets.UTF_8);
         
         System.out.println("Decrypted message: \"" + decryptedMessage + "\"");
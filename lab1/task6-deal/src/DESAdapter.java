@@ -6,10 +6,12 @@ import java.util.Arrays;
  * enabling DES to be used as the F-function in larger block ciphers like DEAL.
  */
 public class DESAdapter implements RoundFunction {
-    private final DES des;
+    // DES keeps the current round key in its fields, so every thread gets its own instance:
+    // DEAL blocks are encrypted concurrently by the parallel modes (ECB, CTR, ...)
+    private final ThreadLocal<DES> des;
     
     public DESAdapter() {
-        this.des = new DES();
+        this.des = ThreadLocal.withInitial(DES::new);
     }
     
     /**
@@ -36,8 +38,9 @@ public class DESAdapter implements RoundFunction {
         }
         
         // Set the key and encrypt the block
-        des.setEncryptionKey(roundKey);
-        return des.encrypt(block);
+        DES cipher = des.get();
+        cipher.setEncryptionKey(roundKey);
+        return cipher.encrypt(block);
     }
     
     /**
@@ -65,8 +68,9 @@ public class DESAdapter implements RoundFunction {
         }
         
         // Set the key and decrypt the block
-        des.setDecryptionKey(roundKey);
-        return des.decrypt(block);
+        DES cipher = des.get();
+        cipher.setDecryptionKey(roundKey);
+        return cipher.decrypt(block);
     }
 }
 
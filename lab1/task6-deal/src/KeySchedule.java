@@ -1,4 +0,0 @@
-public interface KeySchedule {
-    byte[][] expandKey(byte[] key);
-}
-
@@ -9,7 +9,7 @@ import java.util.Arrays;
  * - Key validation
  * - Block size validation
  * - Round variations
- * - Integration with CipherContext
+ * - Integration with CipherContext (ECB and OCB)
  * - Adapter functionality
  */
 public class DEALTest {
@@ -32,7 +32,9 @@ public class DEALTest {
         testDESAdapterDirectly();
         testDEALKeySchedule();
         testCipherContextIntegration();
+        testCipherContextOcb();
         testMultipleBlocks();
+        testConcurrentBlocks();
         
         // Print summary
         System.out.println();
@@ -353,14 +355,13 @@ public class DEALTest {
             String message = "This is a longer message that spans multiple DEAL blocks!";
             byte[] plaintext = message.getBytes(StandardCharsets.UTF_8);
             
-            DEAL deal = new DEAL();
-            deal.setEncryptionKey(key);
-            deal.setDecryptionKey(key);
-            
-            ctx = new CipherContext(deal, CipherMode.ECB, PaddingMode.PKCS7, 16);
+            ctx = new CipherContext(new DEAL(), key, CipherMode.ECB, PaddingMode.PKCS7, 16);
             
-            byte[] ciphertext = ctx.encryptAsync(plaintext).join();
-            byte[] decrypted = ctx.decryptAsync(ciphertext).join();
+            byte[][] result = new byte[1][];
+            ctx.encryptAsync(plaintext, result).join();
+            byte[] ciphertext = result[0];
+            ctx.decryptAsync(ciphertext, result).join();
+            byte[] decrypted = result[0];
             
             String decryptedMessage = new String(decrypted, StandardCharsets.UTF_8);
             boolean matches = message.equals(decryptedMessage);
@@ -384,6 +385,62 @@ public class DEALTest {
         System.out.println();
     }
     
+    private static void testCipherContextOcb() {
+        System.out.println("Test: CipherContext in OCB mode");
+        System.out.println("-".repeat(80));
+        
+        CipherContext ctx = null;
+        try {
+            byte[] key = "DEAL_KEY_192_BITS_LONG!!".getBytes(StandardCharsets.UTF_8);
+            byte[] nonce = "DEAL-OCB-IV!".getBytes(StandardCharsets.UTF_8);
+            byte[] associatedData = "header".getBytes(StandardCharsets.UTF_8);
+            // Not a multiple of the block size: OCB handles the final partial block itself
+            byte[] plaintext = new byte[16 * 40 + 5];
+            for (int i = 0; i < plaintext.length; i++) {
+                plaintext[i] = (byte) (i * 7 + 3);
+            }
+            
+            ctx = new CipherContext(new DEAL(), key, CipherMode.OCB, PaddingMode.PKCS7, 16, nonce);
+            
+            byte[][] sealed = new byte[2][];
+            ctx.encryptAuthenticatedAsync(plaintext, associatedData, sealed).join();
+            byte[][] opened = new byte[1][];
+            ctx.decryptAuthenticatedAsync(sealed[0], sealed[1], associatedData, opened).join();
+            boolean roundTrip = Arrays.equals(plaintext, opened[0]) && sealed[0].length == plaintext.length;
+            
+            byte[][] padded = new byte[1][];
+            ctx.encryptAsync(plaintext, padded).join();
+            ctx.decryptAsync(padded[0], padded).join();
+            boolean paddedRoundTrip = Arrays.equals(plaintext, padded[0]);
+            
+            boolean tamperDetected = false;
+            sealed[0][17] ^= 1;
+            try {
+                ctx.decryptAuthenticatedAsync(sealed[0], sealed[1], associatedData, opened).join();
+            } catch (Exception e) {
+                tamperDetected = e.getCause() instanceof IllegalArgumentException;
+            }
+            
+            if (roundTrip && paddedRoundTrip && tamperDetected) {
+                System.out.println("✓ PASSED: DEAL-OCB round trip through CipherContext, tampering detected");
+                testsPassed++;
+            } else {
+                System.out.println("✗ FAILED: DEAL-OCB round trip: " + roundTrip
+                    + ", padded: " + paddedRoundTrip + ", tamper detected: " + tamperDetected);
+                testsFailed++;
+            }
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            e.printStackTrace();
+            testsFailed++;
+        } finally {
+            if (ctx != null) {
+                ctx.shutdown();
+            }
+        }
+        System.out.println();
+    }
+    
     private static void testMultipleBlocks() {
         System.out.println("Test: Multiple Sequential Blocks");
         System.out.println("-".repeat(80));
@@ -425,5 +482,50 @@ public class DEALTest {
         }
         System.out.println();
     }
+    
+    private static void testConcurrentBlocks() {
+        System.out.println("Test: Concurrent Encryption With One Instance");
+        System.out.println("-".repeat(80));
+        
+        try {
+            byte[] key = new byte[24];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = (byte) (i * 7 + 1);
+            }
+            
+            DEAL deal = new DEAL();
+            deal.setEncryptionKey(key);
+            deal.setDecryptionKey(key);
+            
+            byte[][] blocks = new byte[64][16];
+            byte[][] expected = new byte[blocks.length][];
+            for (int i = 0; i < blocks.length; i++) {
+                Arrays.fill(blocks[i], (byte) i);
+                expected[i] = deal.encrypt(blocks[i]);
+            }
+            
+            // Parallel modes call one DEAL instance from several threads
+            boolean allPassed = java.util.stream.IntStream.range(0, blocks.length * 4)
+                    .parallel()
+                    .allMatch(i -> {
+                        byte[] block = blocks[i % blocks.length];
+                        byte[] ciphertext = deal.encrypt(block);
+                        return Arrays.equals(expected[i % blocks.length], ciphertext)
+                                && Arrays.equals(block, deal.decrypt(ciphertext));
+                    });
+            
+            if (allPassed) {
+                System.out.println("✓ PASSED: Concurrent calls match sequential results");
+                testsPassed++;
+            } else {
+                System.out.println("✗ FAILED: Concurrent calls produced different results");
+                testsFailed++;
+            }
+        } catch (Exception e) {
+            System.out.println("✗ FAILED: " + e.getMessage());
+            testsFailed++;
+        }
+        System.out.println();
+    }
 }
 
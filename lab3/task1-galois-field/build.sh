@@ -5,17 +5,27 @@ cd "$(dirname "$0")"
 echo "Compiling source files..."
 javac -d out/production src/*.java
 
-if [ $? -eq 0 ]; then
-    echo "Compiling test files..."
-    javac -cp out/production -d out/test test/*.java
-    
-    if [ $? -eq 0 ]; then
-        echo "Build successful!"
-    else
-        echo "Test compilation failed!"
+if [ $? -ne 0 ]; then
+    echo "Source compilation failed!"
+    exit 1
+fi
+
+if java --list-modules 2>/dev/null | grep -q "^jdk.incubator.vector"; then
+    echo "Compiling vector sources..."
+    javac --add-modules jdk.incubator.vector -cp out/production -d out/production vector-src/*.java
+
+    if [ $? -ne 0 ]; then
+        echo "Vector source compilation failed!"
         exit 1
     fi
+fi
+
+echo "Compiling test files..."
+javac -cp out/production -d out/test test/*.java
+
+if [ $? -eq 0 ]; then
+    echo "Build successful!"
 else
-    echo "Source compilation failed!"
+    echo "Test compilation failed!"
     exit 1
 fi
@@ -8,4 +8,9 @@ if [ ! -d "out/production" ]; then
 fi
 
 echo "Running demo..."
-java -cp out/production GF256Demo
+JAVA_OPTS=""
+if java --list-modules 2>/dev/null | grep -q "^jdk.incubator.vector"; then
+    JAVA_OPTS="--add-modules jdk.incubator.vector"
+fi
+
+java $JAVA_OPTS -cp out/production GF256Demo
@@ -8,4 +8,15 @@ if [ ! -d "out/test" ]; then
 fi
 
 echo "Running tests..."
-java -cp out/production:out/test GF256ServiceTest
+JAVA_OPTS=""
+if java --list-modules 2>/dev/null | grep -q "^jdk.incubator.vector"; then
+    JAVA_OPTS="--add-modules jdk.incubator.vector"
+fi
+
+java $JAVA_OPTS -cp out/production:out/test GF256ServiceTest
+java $JAVA_OPTS -cp out/production:out/test ReedSolomonTest
+java $JAVA_OPTS -cp out/production:out/test BinaryFieldTest
+java $JAVA_OPTS -cp out/production:out/test IrreducibilityServiceTest
+java $JAVA_OPTS -cp out/production:out/test FactorizationServiceTest
+java $JAVA_OPTS -cp out/production:out/test GF256MatrixTest
+java $JAVA_OPTS -cp out/production:out/test ShamirSecretSharingTest
@@ -0,0 +1,126 @@
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class FactorizationService {
+
+    public static List<GF2Polynomial> factor(GF2Polynomial polynomial) throws IllegalArgumentException {
+        if (polynomial.isZero()) {
+            throw new IllegalArgumentException("Zero polynomial has no factorization");
+        }
+
+        List<GF2Polynomial> factors = new ArrayList<>();
+        for (Map.Entry<Integer, GF2Polynomial> part : squareFreeDecomposition(polynomial).entrySet()) {
+            for (Map.Entry<Integer, GF2Polynomial> block : distinctDegree(part.getValue()).entrySet()) {
+                for (GF2Polynomial factor : equalDegree(block.getValue(), block.getKey())) {
+                    for (int i = 0; i < part.getKey(); i++) {
+                        factors.add(factor);
+                    }
+                }
+            }
+        }
+
+        Collections.sort(factors);
+        return factors;
+    }
+
+    public static boolean isIrreducible(GF2Polynomial polynomial) {
+        int degree = polynomial.degree();
+        if (degree < 1) {
+            return false;
+        }
+        if (degree > 1 && !polynomial.testBit(0)) {
+            return false;
+        }
+
+        GF2Polynomial h = GF2Polynomial.X;
+        for (int i = 1; i <= degree / 2; i++) {
+            h = h.squareMod(polynomial);
+            if (!polynomial.gcd(h.add(GF2Polynomial.X)).isOne()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static Map<Integer, GF2Polynomial> squareFreeDecomposition(GF2Polynomial polynomial) {
+        Map<Integer, GF2Polynomial> parts = new TreeMap<>();
+        collectSquareFree(polynomial, 1, parts);
+        return parts;
+    }
+
+    private static void collectSquareFree(GF2Polynomial f, int multiplier, Map<Integer, GF2Polynomial> parts) {
+        if (f.degree() < 1) {
+            return;
+        }
+
+        GF2Polynomial c = f.gcd(f.derivative());
+        GF2Polynomial w = f.divide(c);
+        for (int i = 1; !w.isOne(); i++) {
+            GF2Polynomial y = w.gcd(c);
+            GF2Polynomial part = w.divide(y);
+            if (!part.isOne()) {
+                parts.merge(i * multiplier, part, GF2Polynomial::multiply);
+            }
+            w = y;
+            c = c.divide(y);
+        }
+
+        if (!c.isOne()) {
+            collectSquareFree(c.squareRoot(), multiplier * 2, parts);
+        }
+    }
+
+    static Map<Integer, GF2Polynomial> distinctDegree(GF2Polynomial f) {
+        Map<Integer, GF2Polynomial> blocks = new TreeMap<>();
+        GF2Polynomial h = GF2Polynomial.X;
+
+        for (int d = 1; 2 * d <= f.degree(); d++) {
+            h = h.squareMod(f);
+            GF2Polynomial g = f.gcd(h.add(GF2Polynomial.X));
+            if (!g.isOne()) {
+                blocks.put(d, g);
+                f = f.divide(g);
+                h = h.mod(f);
+            }
+        }
+
+        if (f.degree() >= 1) {
+            blocks.put(f.degree(), f);
+        }
+        return blocks;
+    }
+
+    static List<GF2Polynomial> equalDegree(GF2Polynomial f, int degree) {
+        List<GF2Polynomial> factors = new ArrayList<>();
+        splitEqualDegree(f, degree, ThreadLocalRandom.current(), factors);
+        return factors;
+    }
+
+    private static void splitEqualDegree(GF2Polynomial f, int degree, Random random, List<GF2Polynomial> factors) {
+        if (f.degree() == degree) {
+            factors.add(f);
+            return;
+        }
+
+        while (true) {
+            GF2Polynomial a = GF2Polynomial.random(f.degree(), random);
+            GF2Polynomial trace = a;
+            for (int i = 1; i < degree; i++) {
+                a = a.squareMod(f);
+                trace = trace.add(a);
+            }
+
+            GF2Polynomial g = f.gcd(trace);
+            if (g.degree() > 0 && g.degree() < f.degree()) {
+                splitEqualDegree(g, degree, random, factors);
+                splitEqualDegree(f.divide(g), degree, random, factors);
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+public final class GF256Region {
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "GF256VectorRegion";
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final int STRIPE = 4096;
+    private static final int BUFFER_CHUNK = 8192;
+    private static final Kernel VECTOR = createVectorKernel();
+
+    interface Kernel {
+        int multiply(byte[] nibbleTables, byte[] src, int srcOff, byte[] dst, int dstOff, int len, boolean accumulate);
+    }
+
+    private GF256Region() {
+    }
+
+    private static Kernel createVectorKernel() {
+        if (!ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            return null;
+        }
+        try {
+            Class<?> kernel = Class.forName(VECTOR_KERNEL);
+            boolean supported = (Boolean) kernel.getMethod("isSupported").invoke(null);
+            if (!supported) {
+                return null;
+            }
+            return (Kernel) kernel.getConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+
+    public static boolean isVectorized() {
+        return VECTOR != null;
+    }
+
+    public static void multiply(GF256Field field, byte c, byte[] src, int srcOff, byte[] dst, int dstOff, int len) {
+        checkRange(src, srcOff, len);
+        checkRange(dst, dstOff, len);
+        process(field, c, src, srcOff, dst, dstOff, len, false);
+    }
+
+    public static void multiplyXor(GF256Field field, byte c, byte[] src, int srcOff, byte[] dst, int dstOff, int len) {
+        checkRange(src, srcOff, len);
+        checkRange(dst, dstOff, len);
+        process(field, c, src, srcOff, dst, dstOff, len, true);
+    }
+
+    public static void multiply(GF256Field field, byte c, byte[] data) {
+        multiply(field, c, data, 0, data, 0, data.length);
+    }
+
+    public static void multiply(GF256Field field, byte c, ByteBuffer src, ByteBuffer dst) {
+        processBuffers(field, c, src, dst, false);
+    }
+
+    public static void multiplyXor(GF256Field field, byte c, ByteBuffer src, ByteBuffer dst) {
+        processBuffers(field, c, src, dst, true);
+    }
+
+    public static void dotProduct(GF256Field field, byte[] coefficients, byte[][] sources, int srcOff,
+                                  byte[] dst, int dstOff, int len) {
+        if (coefficients.length != sources.length) {
+            throw new IllegalArgumentException("Coefficient count must match source count");
+        }
+        for (byte[] source : sources) {
+            checkRange(source, srcOff, len);
+        }
+        checkRange(dst, dstOff, len);
+
+        if (sources.length == 0) {
+            Arrays.fill(dst, dstOff, dstOff + len, (byte) 0);
+            return;
+        }
+
+        for (int start = 0; start < len; start += STRIPE) {
+            int count = Math.min(STRIPE, len - start);
+            process(field, coefficients[0], sources[0], srcOff + start, dst, dstOff + start, count, false);
+            for (int i = 1; i < sources.length; i++) {
+                process(field, coefficients[i], sources[i], srcOff + start, dst, dstOff + start, count, true);
+            }
+        }
+    }
+
+    private static void processBuffers(GF256Field field, byte c, ByteBuffer src, ByteBuffer dst, boolean accumulate) {
+        int len = src.remaining();
+        if (dst.remaining() < len) {
+            throw new IllegalArgumentException("Destination buffer is too small");
+        }
+
+        if (src.hasArray() && dst.hasArray() && !dst.isReadOnly()) {
+            process(field, c, src.array(), src.arrayOffset() + src.position(),
+                    dst.array(), dst.arrayOffset() + dst.position(), len, accumulate);
+        } else {
+            byte[] in = new byte[Math.min(len, BUFFER_CHUNK)];
+            byte[] out = new byte[in.length];
+            ByteBuffer source = src.duplicate();
+            ByteBuffer target = dst.duplicate();
+            for (int done = 0; done < len; done += in.length) {
+                int count = Math.min(in.length, len - done);
+                source.get(in, 0, count);
+                if (accumulate) {
+                    target.duplicate().get(out, 0, count);
+                }
+                process(field, c, in, 0, out, 0, count, accumulate);
+                target.put(out, 0, count);
+            }
+        }
+
+        src.position(src.position() + len);
+        dst.position(dst.position() + len);
+    }
+
+    private static void process(GF256Field field, byte c, byte[] src, int srcOff,
+                                byte[] dst, int dstOff, int len, boolean accumulate) {
+        if (c == 0) {
+            if (!accumulate) {
+                Arrays.fill(dst, dstOff, dstOff + len, (byte) 0);
+            }
+            return;
+        }
+        if (c == 1) {
+            if (accumulate) {
+                xor(src, srcOff, dst, dstOff, len);
+            } else {
+                System.arraycopy(src, srcOff, dst, dstOff, len);
+            }
+            return;
+        }
+
+        int done = 0;
+        if (VECTOR != null) {
+            done = VECTOR.multiply(field.nibbleTables(c), src, srcOff, dst, dstOff, len, accumulate);
+        }
+        multiplyWords(field.multiplicationTable(), (c & 0xFF) << 8,
+                src, srcOff + done, dst, dstOff + done, len - done, accumulate);
+    }
+
+    private static void multiplyWords(byte[] table, int row, byte[] src, int srcOff,
+                                      byte[] dst, int dstOff, int len, boolean accumulate) {
+        int i = 0;
+        for (; i <= len - 8; i += 8) {
+            long s = (long) LONGS.get(src, srcOff + i);
+            long p = (table[row | (int) (s & 0xFF)] & 0xFFL)
+                    | (table[row | (int) ((s >>> 8) & 0xFF)] & 0xFFL) << 8
+                    | (table[row | (int) ((s >>> 16) & 0xFF)] & 0xFFL) << 16
+                    | (table[row | (int) ((s >>> 24) & 0xFF)] & 0xFFL) << 24
+                    | (table[row | (int) ((s >>> 32) & 0xFF)] & 0xFFL) << 32
+                    | (table[row | (int) ((s >>> 40) & 0xFF)] & 0xFFL) << 40
+                    | (table[row | (int) ((s >>> 48) & 0xFF)] & 0xFFL) << 48
+                    | (table[row | (int) (s >>> 56)] & 0xFFL) << 56;
+            if (accumulate) {
+                p ^= (long) LONGS.get(dst, dstOff + i);
+            }
+            LONGS.set(dst, dstOff + i, p);
+        }
+        for (; i < len; i++) {
+            byte p = table[row | (src[srcOff + i] & 0xFF)];
+            dst[dstOff + i] = accumulate ? (byte) (dst[dstOff + i] ^ p) : p;
+        }
+    }
+
+    private static void xor(byte[] src, int srcOff, byte[] dst, int dstOff, int len) {
+        int i = 0;
+        for (; i <= len - 8; i += 8) {
+            long d = (long) LONGS.get(dst, dstOff + i) ^ (long) LONGS.get(src, srcOff + i);
+            LONGS.set(dst, dstOff + i, d);
+        }
+        for (; i < len; i++) {
+            dst[dstOff + i] ^= src[srcOff + i];
+        }
+    }
+
+    private static void checkRange(byte[] array, int offset, int len) {
+        if (offset < 0 || len < 0 || offset > array.length - len) {
+            throw new IndexOutOfBoundsException("Region out of bounds");
+        }
+    }
+}
@@ -0,0 +1,99 @@
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+public final class GF256Swar {
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long LOW_SEVEN = 0x7F7F7F7F7F7F7F7FL;
+
+    private GF256Swar() {
+    }
+
+    public static long xtime(long x, byte modulus) {
+        long carry = (x & HIGH_BITS) >>> 7;
+        return ((x & LOW_SEVEN) << 1) ^ (carry * (modulus & 0xFF));
+    }
+
+    public static long multiply(long x, byte c, byte modulus) {
+        int bits = c & 0xFF;
+        long result = 0;
+        while (bits != 0) {
+            if ((bits & 1) != 0) {
+                result ^= x;
+            }
+            bits >>>= 1;
+            if (bits != 0) {
+                x = xtime(x, modulus);
+            }
+        }
+        return result;
+    }
+
+    public static long multiply(long x, long y, byte modulus) {
+        long result = 0;
+        for (int bit = 0; bit < 8; bit++) {
+            long lanes = ((y >>> bit) & LOW_BITS) * 0xFF;
+            result ^= x & lanes;
+            x = xtime(x, modulus);
+        }
+        return result;
+    }
+
+    public static long mixColumns(long columns, byte modulus) {
+        long r1 = rotateRows(columns, 8);
+        long r2 = rotateRows(columns, 16);
+        long r3 = rotateRows(columns, 24);
+        return xtime(columns ^ r1, modulus) ^ r1 ^ r2 ^ r3;
+    }
+
+    public static long invMixColumns(long columns, byte modulus) {
+        long u = xtime(xtime(columns ^ rotateRows(columns, 16), modulus), modulus);
+        return mixColumns(columns ^ u, modulus);
+    }
+
+    public static void multiply(byte modulus, byte c, byte[] src, int srcOff, byte[] dst, int dstOff, int len)
+            throws IllegalArgumentException {
+        process(modulus, c, src, srcOff, dst, dstOff, len, false);
+    }
+
+    public static void multiplyXor(byte modulus, byte c, byte[] src, int srcOff, byte[] dst, int dstOff, int len)
+            throws IllegalArgumentException {
+        process(modulus, c, src, srcOff, dst, dstOff, len, true);
+    }
+
+    private static void process(byte modulus, byte c, byte[] src, int srcOff,
+                                byte[] dst, int dstOff, int len, boolean accumulate) {
+        if (!GF256Service.isIrreducible((modulus & 0xFF) | 0x100)) {
+            throw new IllegalArgumentException("Modulus must be irreducible");
+        }
+        checkRange(src, srcOff, len);
+        checkRange(dst, dstOff, len);
+
+        int i = 0;
+        for (; i <= len - 8; i += 8) {
+            long p = multiply((long) LONGS.get(src, srcOff + i), c, modulus);
+            if (accumulate) {
+                p ^= (long) LONGS.get(dst, dstOff + i);
+            }
+            LONGS.set(dst, dstOff + i, p);
+        }
+        for (; i < len; i++) {
+            byte p = (byte) multiply(src[srcOff + i] & 0xFFL, c, modulus);
+            dst[dstOff + i] = accumulate ? (byte) (dst[dstOff + i] ^ p) : p;
+        }
+    }
+
+    private static long rotateRows(long columns, int bits) {
+        long left = 0xFFFFFFFFL >>> bits;
+        long mask = left | (left << 32);
+        return ((columns & mask) << bits) | ((columns >>> (32 - bits)) & ~(mask << bits));
+    }
+
+    private static void checkRange(byte[] array, int offset, int len) {
+        if (offset < 0 || len < 0 || offset > array.length - len) {
+            throw new IndexOutOfBoundsException("Region out of bounds");
+        }
+    }
+}
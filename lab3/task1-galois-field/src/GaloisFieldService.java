@@ -44,7 +44,7 @@ public class GaloisFieldService {
         
         int mod = modulus & 0xFF;
         int u = aa;
-        int v = mod;
+        int v = mod | 0x100;
         int g1 = 1;
         int g2 = 0;
         
@@ -71,36 +71,15 @@ public class GaloisFieldService {
     }
     
     public static boolean isIrreducible(byte polynomial) {
-        int poly = polynomial & 0xFF;
-        poly |= 0x100;
-        
-        if ((poly & 1) == 0) {
-            return false;
-        }
-        
-        for (int divisor = 2; divisor < poly; divisor++) {
-            if (degree(divisor) > 4) {
-                break;
-            }
-            
-            int remainder = mod(poly, divisor);
-            if (remainder == 0) {
-                return false;
-            }
-        }
-        
-        return true;
+        return IrreducibilityService.isIrreducible(8, polynomial & 0xFF);
     }
     
     public static byte[] getAllIrreduciblePolynomials() {
-        byte[] result = new byte[30];
-        int count = 0;
+        long[] all = IrreducibilityService.allIrreducible(8);
+        byte[] result = new byte[all.length];
         
-        for (int i = 0x100; i <= 0x1FF; i++) {
-            byte poly = (byte) i;
-            if (isIrreducible(poly)) {
-                result[count++] = poly;
-            }
+        for (int i = 0; i < all.length; i++) {
+            result[i] = (byte) all[i];
         }
         
         return result;
@@ -111,34 +90,9 @@ public class GaloisFieldService {
             return new int[0];
         }
         
-        java.util.List<Integer> factors = new java.util.ArrayList<>();
-        
-        int current = polynomial;
-        
-        for (int divisor = 2; divisor <= current; divisor++) {
-            while (current > 1) {
-                int quotient = divide(current, divisor);
-                int remainder = current ^ multiplyPolynomials(quotient, divisor, 0);
-                
-                if (remainder == 0) {
-                    factors.add(divisor);
-                    current = quotient;
-                } else {
-                    break;
-                }
-            }
-        }
-        
-        if (factors.isEmpty()) {
-            factors.add(polynomial);
-        }
-        
-        int[] result = new int[factors.size()];
-        for (int i = 0; i < factors.size(); i++) {
-            result[i] = factors.get(i);
-        }
-        
-        return result;
+        return FactorizationService.factor(GF2Polynomial.valueOf(polynomial)).stream()
+                .mapToInt(factor -> (int) factor.toLong())
+                .toArray();
     }
     
     private static int degree(int polynomial) {
@@ -149,62 +103,4 @@ public class GaloisFieldService {
         }
         return deg;
     }
-    
-    private static int multiplyPolynomials(int a, int b, int modulus) {
-        int result = 0;
-        
-        while (b != 0) {
-            if ((b & 1) != 0) {
-                result ^= a;
-            }
-            
-            b >>>= 1;
-            a <<= 1;
-            
-            if (modulus != 0 && degree(a) >= degree(modulus)) {
-                a ^= modulus;
-            }
-        }
-        
-        return result;
-    }
-    
-    private static int gcd(int a, int b) {
-        while (b != 0) {
-            int temp = b;
-            b = mod(a, b);
-            a = temp;
-        }
-        return a;
-    }
-    
-    private static int mod(int dividend, int divisor) {
-        if (divisor == 0) {
-            return dividend;
-        }
-        
-        while (degree(dividend) >= degree(divisor)) {
-            int shift = degree(dividend) - degree(divisor);
-            dividend ^= (divisor << shift);
-        }
-        
-        return dividend;
-    }
-    
-    private static int divide(int dividend, int divisor) {
-        if (divisor == 0) {
-            throw new ArithmeticException("Division by zero");
-        }
-        
-        int quotient = 0;
-        
-        while (degree(dividend) >= degree(divisor)) {
-            int shift = degree(dividend) - degree(divisor);
-            quotient ^= (1 << shift);
-            dividend ^= (divisor << shift);
-        }
-        
-        return quotient;
-    }
 }
-
@@ -0,0 +1,159 @@
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+public class IrreducibilityService {
+    public static final int MAX_DEGREE = 64;
+    public static final int MAX_ENUMERATION_DEGREE = 28;
+
+    private static final int MAX_CACHED_DEGREE = 16;
+    private static final Map<Integer, long[]> IRREDUCIBLE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Integer, long[]> PRIMITIVE_CACHE = new ConcurrentHashMap<>();
+    private static final Map<Integer, long[]> ORDER_COFACTORS = new ConcurrentHashMap<>();
+
+    public static boolean isIrreducible(int degree, long lowTerms) {
+        if (!isValid(degree, lowTerms)) {
+            return false;
+        }
+        if (degree == 1) {
+            return true;
+        }
+        if ((lowTerms & 1) == 0 || (Long.bitCount(lowTerms) & 1) != 0) {
+            return false;
+        }
+
+        BinaryField ring = BinaryField.ring(degree, lowTerms);
+        long u = 2;
+        for (int i = 1; i <= degree / 2; i++) {
+            u = ring.square(u);
+            if (ring.gcdWithModulus(u ^ 2) != 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean isPrimitive(int degree, long lowTerms) {
+        if (!isIrreducible(degree, lowTerms)) {
+            return false;
+        }
+
+        BinaryField ring = BinaryField.ring(degree, lowTerms);
+        long x = degree == 1 ? lowTerms & 1 : 2;
+        long order = degree == 64 ? -1L : (1L << degree) - 1;
+        if (ring.power(x, order) != 1) {
+            return false;
+        }
+        for (long cofactor : orderCofactors(degree)) {
+            if (ring.power(x, cofactor) == 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static long[] allIrreducible(int degree) {
+        return enumerate(degree, false);
+    }
+
+    public static long[] allPrimitive(int degree) {
+        return enumerate(degree, true);
+    }
+
+    private static long[] enumerate(int degree, boolean primitive) {
+        if (degree < 1 || degree > MAX_ENUMERATION_DEGREE) {
+            throw new IllegalArgumentException("Degree must be between 1 and " + MAX_ENUMERATION_DEGREE);
+        }
+
+        Map<Integer, long[]> cache = primitive ? PRIMITIVE_CACHE : IRREDUCIBLE_CACHE;
+        long[] cached = cache.get(degree);
+        if (cached != null) {
+            return cached.clone();
+        }
+
+        long[] result;
+        if (degree == 1) {
+            result = primitive ? new long[] {1} : new long[] {0, 1};
+        } else {
+            result = LongStream.range(0, 1L << (degree - 1))
+                    .parallel()
+                    .map(i -> (i << 1) | 1)
+                    .filter(low -> primitive ? isPrimitive(degree, low) : isIrreducible(degree, low))
+                    .toArray();
+        }
+
+        if (degree <= MAX_CACHED_DEGREE) {
+            cache.putIfAbsent(degree, result);
+            return result.clone();
+        }
+        return result;
+    }
+
+    private static boolean isValid(int degree, long lowTerms) {
+        return degree >= 1 && degree <= MAX_DEGREE && (degree == 64 || (lowTerms >>> degree) == 0);
+    }
+
+    private static long[] orderCofactors(int degree) {
+        return ORDER_COFACTORS.computeIfAbsent(degree, d -> {
+            BigInteger order = BigInteger.ONE.shiftLeft(d).subtract(BigInteger.ONE);
+            List<BigInteger> primes = new ArrayList<>();
+            factorInto(order, primes);
+
+            return primes.stream()
+                    .distinct()
+                    .mapToLong(p -> order.divide(p).longValue())
+                    .toArray();
+        });
+    }
+
+    private static void factorInto(BigInteger n, List<BigInteger> primes) {
+        if (n.equals(BigInteger.ONE)) {
+            return;
+        }
+        for (int p = 2; p < 1000; p++) {
+            BigInteger prime = BigInteger.valueOf(p);
+            if (!prime.isProbablePrime(30)) {
+                continue;
+            }
+            while (n.mod(prime).signum() == 0) {
+                primes.add(prime);
+                n = n.divide(prime);
+            }
+        }
+        splitLargeFactors(n, primes);
+    }
+
+    private static void splitLargeFactors(BigInteger n, List<BigInteger> primes) {
+        if (n.equals(BigInteger.ONE)) {
+            return;
+        }
+        if (n.isProbablePrime(50)) {
+            primes.add(n);
+            return;
+        }
+        BigInteger divisor = pollardRho(n);
+        splitLargeFactors(divisor, primes);
+        splitLargeFactors(n.divide(divisor), primes);
+    }
+
+    private static BigInteger pollardRho(BigInteger n) {
+        for (long c = 1; ; c++) {
+            BigInteger increment = BigInteger.valueOf(c);
+            BigInteger x = BigInteger.TWO;
+            BigInteger y = BigInteger.TWO;
+            BigInteger d = BigInteger.ONE;
+            while (d.equals(BigInteger.ONE)) {
+                x = x.multiply(x).add(increment).mod(n);
+                y = y.multiply(y).add(increment).mod(n);
+                y = y.multiply(y).add(increment).mod(n);
+                d = x.subtract(y).abs().gcd(n);
+            }
+            if (!d.equals(n)) {
+                return d;
+            }
+        }
+    }
+}
@@ -0,0 +1,367 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+public class ReedSolomon {
+    private static final int HEADER_SIZE = 24;
+    private static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+    private static final int MAX_CHUNK_SIZE = 1 << 24;
+    private static final int PARALLEL_SLICE = 64 * 1024;
+
+    private final int dataShards;
+    private final int parityShards;
+    private final GF256Field field;
+    private final byte[][] matrix;
+
+    public ReedSolomon(int dataShards, int parityShards, byte modulus) throws IllegalArgumentException {
+        if (dataShards < 1 || parityShards < 0) {
+            throw new IllegalArgumentException("Shard counts must be positive");
+        }
+        if (dataShards + parityShards > 256) {
+            throw new IllegalArgumentException("At most 256 shards are supported in GF(2^8)");
+        }
+
+        this.dataShards = dataShards;
+        this.parityShards = parityShards;
+        this.field = GF256Service.field(modulus);
+        this.matrix = buildCauchyMatrix();
+    }
+
+    public int getDataShards() {
+        return dataShards;
+    }
+
+    public int getParityShards() {
+        return parityShards;
+    }
+
+    public int getTotalShards() {
+        return dataShards + parityShards;
+    }
+
+    private byte[][] buildCauchyMatrix() {
+        byte[][] result = new byte[getTotalShards()][dataShards];
+
+        for (int i = 0; i < dataShards; i++) {
+            result[i][i] = 1;
+        }
+        for (int i = 0; i < parityShards; i++) {
+            byte x = (byte) (dataShards + i);
+            for (int j = 0; j < dataShards; j++) {
+                result[dataShards + i][j] = field.inverse((byte) (x ^ j));
+            }
+        }
+
+        return result;
+    }
+
+    public void encodeParity(byte[][] shards, int offset, int length) {
+        checkShards(shards, offset, length);
+
+        byte[][] data = Arrays.copyOf(shards, dataShards);
+        byte[][] rows = Arrays.copyOfRange(matrix, dataShards, getTotalShards());
+        byte[][] outputs = Arrays.copyOfRange(shards, dataShards, getTotalShards());
+        applyRows(rows, data, outputs, offset, length);
+    }
+
+    public void reconstruct(byte[][] shards, boolean[] present, int offset, int length) {
+        if (present.length != getTotalShards()) {
+            throw new IllegalArgumentException("Expected " + getTotalShards() + " presence flags");
+        }
+        for (int i = 0; i < shards.length && i < present.length; i++) {
+            if (!present[i] && shards[i] == null) {
+                shards[i] = new byte[offset + length];
+            }
+        }
+        checkShards(shards, offset, length);
+
+        int[] chosen = new int[dataShards];
+        int count = 0;
+        for (int i = 0; i < getTotalShards() && count < dataShards; i++) {
+            if (present[i]) {
+                chosen[count++] = i;
+            }
+        }
+        if (count < dataShards) {
+            throw new IllegalArgumentException("Not enough shards to reconstruct: " + count + " of " + dataShards);
+        }
+
+        byte[][] subMatrix = new byte[dataShards][];
+        byte[][] sources = new byte[dataShards][];
+        for (int i = 0; i < dataShards; i++) {
+            subMatrix[i] = matrix[chosen[i]];
+            sources[i] = shards[chosen[i]];
+        }
+        byte[][] decode = invert(subMatrix);
+
+        int missingData = 0;
+        for (int i = 0; i < dataShards; i++) {
+            if (!present[i]) {
+                missingData++;
+            }
+        }
+        if (missingData > 0) {
+            byte[][] rows = new byte[missingData][];
+            byte[][] outputs = new byte[missingData][];
+            for (int i = 0, n = 0; i < dataShards; i++) {
+                if (!present[i]) {
+                    rows[n] = decode[i];
+                    outputs[n++] = shards[i];
+                }
+            }
+            applyRows(rows, sources, outputs, offset, length);
+        }
+
+        int missingParity = 0;
+        for (int i = dataShards; i < getTotalShards(); i++) {
+            if (!present[i]) {
+                missingParity++;
+            }
+        }
+        if (missingParity > 0) {
+            byte[][] rows = new byte[missingParity][];
+            byte[][] outputs = new byte[missingParity][];
+            for (int i = dataShards, n = 0; i < getTotalShards(); i++) {
+                if (!present[i]) {
+                    rows[n] = matrix[i];
+                    outputs[n++] = shards[i];
+                }
+            }
+            applyRows(rows, Arrays.copyOf(shards, dataShards), outputs, offset, length);
+        }
+    }
+
+    private void applyRows(byte[][] rows, byte[][] sources, byte[][] outputs, int offset, int length) {
+        int slices = (length + PARALLEL_SLICE - 1) / PARALLEL_SLICE;
+        IntStream.range(0, slices).parallel().forEach(slice -> {
+            int start = offset + slice * PARALLEL_SLICE;
+            int count = Math.min(PARALLEL_SLICE, offset + length - start);
+            for (int r = 0; r < rows.length; r++) {
+                GF256Region.dotProduct(field, rows[r], sources, start, outputs[r], start, count);
+            }
+        });
+    }
+
+    private byte[][] invert(byte[][] source) {
+        int n = source.length;
+        byte[][] work = new byte[n][];
+        byte[][] result = new byte[n][n];
+        for (int i = 0; i < n; i++) {
+            work[i] = source[i].clone();
+            result[i][i] = 1;
+        }
+
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            while (pivot < n && work[pivot][col] == 0) {
+                pivot++;
+            }
+            if (pivot == n) {
+                throw new IllegalStateException("Decoding matrix is singular");
+            }
+            swap(work, col, pivot);
+            swap(result, col, pivot);
+
+            byte scale = field.inverse(work[col][col]);
+            GF256Region.multiply(field, scale, work[col]);
+            GF256Region.multiply(field, scale, result[col]);
+
+            for (int row = 0; row < n; row++) {
+                byte factor = work[row][col];
+                if (row != col && factor != 0) {
+                    GF256Region.multiplyXor(field, factor, work[col], 0, work[row], 0, n);
+                    GF256Region.multiplyXor(field, factor, result[col], 0, result[row], 0, n);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static void swap(byte[][] rows, int a, int b) {
+        byte[] temp = rows[a];
+        rows[a] = rows[b];
+        rows[b] = temp;
+    }
+
+    private void checkShards(byte[][] shards, int offset, int length) {
+        if (shards.length != getTotalShards()) {
+            throw new IllegalArgumentException("Expected " + getTotalShards() + " shards");
+        }
+        for (byte[] shard : shards) {
+            if (shard == null || offset < 0 || length < 0 || shard.length - offset < length) {
+                throw new IllegalArgumentException("Shard buffers must cover the requested range");
+            }
+        }
+    }
+
+    public void encodeFile(Path input, Path[] shardPaths) throws IOException {
+        encodeFile(input, shardPaths, DEFAULT_CHUNK_SIZE);
+    }
+
+    public void encodeFile(Path input, Path[] shardPaths, int chunkSize) throws IOException {
+        if (shardPaths.length != getTotalShards()) {
+            throw new IllegalArgumentException("Expected " + getTotalShards() + " shard paths");
+        }
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and " + MAX_CHUNK_SIZE);
+        }
+
+        long size = Files.size(input);
+        FileChannel[] outputs = new FileChannel[getTotalShards()];
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ)) {
+            for (int i = 0; i < outputs.length; i++) {
+                outputs[i] = FileChannel.open(shardPaths[i], StandardOpenOption.CREATE,
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                writeFully(outputs[i], header(size, i, chunkSize));
+            }
+
+            byte[][] shards = new byte[getTotalShards()][chunkSize];
+            for (long done = 0; done < size; done += (long) dataShards * chunkSize) {
+                for (int i = 0; i < dataShards; i++) {
+                    int read = readUpTo(in, shards[i]);
+                    Arrays.fill(shards[i], read, chunkSize, (byte) 0);
+                }
+                encodeParity(shards, 0, chunkSize);
+                for (int i = 0; i < outputs.length; i++) {
+                    writeFully(outputs[i], ByteBuffer.wrap(shards[i]));
+                }
+            }
+        } finally {
+            closeAll(outputs);
+        }
+    }
+
+    public void decodeFile(Path[] shardPaths, Path output) throws IOException {
+        if (shardPaths.length != getTotalShards()) {
+            throw new IllegalArgumentException("Expected " + getTotalShards() + " shard paths");
+        }
+
+        boolean[] present = new boolean[getTotalShards()];
+        long[] sizes = new long[getTotalShards()];
+        int[] chunkSizes = new int[getTotalShards()];
+        FileChannel[] inputs = new FileChannel[getTotalShards()];
+        try {
+            for (int i = 0; i < inputs.length; i++) {
+                if (shardPaths[i] == null || !Files.isRegularFile(shardPaths[i])) {
+                    continue;
+                }
+                inputs[i] = FileChannel.open(shardPaths[i], StandardOpenOption.READ);
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                if (readUpTo(inputs[i], header) < HEADER_SIZE || !checkHeader(header, i)) {
+                    continue;
+                }
+                sizes[i] = header.getLong(0);
+                chunkSizes[i] = header.getInt(20);
+                present[i] = true;
+            }
+
+            // A damaged header must not veto the rest: the (size, chunk size) pair most shards agree on wins,
+            // shards that disagree are treated as erasures
+            int chosen = -1;
+            int votes = 0;
+            for (int i = 0; i < inputs.length; i++) {
+                int agree = 0;
+                for (int j = 0; present[i] && j < inputs.length; j++) {
+                    if (present[j] && sizes[j] == sizes[i] && chunkSizes[j] == chunkSizes[i]) {
+                        agree++;
+                    }
+                }
+                if (agree > votes) {
+                    chosen = i;
+                    votes = agree;
+                }
+            }
+            long size = chosen < 0 ? 0 : sizes[chosen];
+            int chunkSize = chosen < 0 ? 0 : chunkSizes[chosen];
+            for (int i = 0; i < inputs.length; i++) {
+                present[i] &= sizes[i] == size && chunkSizes[i] == chunkSize;
+            }
+
+            if (votes < dataShards) {
+                throw new IOException("Not enough shards to reconstruct: " + votes + " of " + dataShards);
+            }
+
+            byte[][] shards = new byte[getTotalShards()][chunkSize];
+            boolean[] available = present.clone();
+            try (FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                for (long done = 0; done < size; done += (long) dataShards * chunkSize) {
+                    for (int i = 0; i < inputs.length; i++) {
+                        if (available[i] && readUpTo(inputs[i], ByteBuffer.wrap(shards[i])) < chunkSize) {
+                            available[i] = false;
+                        }
+                    }
+                    reconstruct(shards, available, 0, chunkSize);
+
+                    long remaining = size - done;
+                    for (int i = 0; i < dataShards && remaining > 0; i++) {
+                        int count = (int) Math.min(chunkSize, remaining);
+                        writeFully(out, ByteBuffer.wrap(shards[i], 0, count));
+                        remaining -= count;
+                    }
+                }
+            }
+        } finally {
+            closeAll(inputs);
+        }
+    }
+
+    private ByteBuffer header(long size, int index, int chunkSize) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putLong(size).putInt(dataShards).putInt(parityShards).putInt(index).putInt(chunkSize);
+        header.flip();
+        return header;
+    }
+
+    private boolean checkHeader(ByteBuffer header, int index) {
+        int chunkSize = header.getInt(20);
+        return header.getInt(8) == dataShards && header.getInt(12) == parityShards
+                && header.getInt(16) == index && header.getLong(0) >= 0
+                && chunkSize > 0 && chunkSize <= MAX_CHUNK_SIZE;
+    }
+
+    private static int readUpTo(FileChannel channel, byte[] buffer) throws IOException {
+        return readUpTo(channel, ByteBuffer.wrap(buffer));
+    }
+
+    private static int readUpTo(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void closeAll(FileChannel[] channels) throws IOException {
+        IOException error = null;
+        for (FileChannel channel : channels) {
+            if (channel == null) {
+                continue;
+            }
+            try {
+                channel.close();
+            } catch (IOException e) {
+                error = e;
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+import java.util.Random;
+
+public class BinaryFieldTest {
+
+    private static int passed = 0;
+    private static int failed = 0;
+
+    public static void main(String[] args) {
+        System.out.println("Running BinaryField tests...\n");
+
+        testMatchesGF256();
+        testMultiplyAgainstReference();
+        testInverse();
+        testBatchInverse();
+        testFixedMultiplier();
+        testIrreducibility();
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed);
+        System.out.println("Failed: " + failed);
+
+        if (failed == 0) {
+            System.out.println("\nAll tests passed!");
+        }
+    }
+
+    private static void testMatchesGF256() {
+        System.out.println("Testing GF(2^8) compatibility...");
+
+        for (byte modulus : new byte[] {(byte) 0x1B, (byte) 0x1D, (byte) 0x4D}) {
+            BinaryField field = new BinaryField(8, modulus & 0xFF);
+            GF256Field reference = GF256Service.field(modulus);
+            boolean match = true;
+
+            for (int a = 0; a < 256; a++) {
+                for (int b = 0; b < 256; b++) {
+                    match &= field.multiply(a, b) == (reference.multiply((byte) a, (byte) b) & 0xFF);
+                }
+                match &= field.square(a) == (reference.square((byte) a) & 0xFF);
+                if (a != 0) {
+                    match &= field.inverse(a) == (reference.inverse((byte) a) & 0xFF);
+                }
+            }
+
+            assertTrue(match, String.format("n = 8, modulus 0x%03X matches GF256Field", (modulus & 0xFF) | 0x100));
+        }
+    }
+
+    private static void testMultiplyAgainstReference() {
+        System.out.println("\nTesting multiplication...");
+
+        Random random = new Random(1);
+        for (BinaryField field : sampleFields()) {
+            boolean match = true;
+            for (int i = 0; i < 2000; i++) {
+                long a = random.nextLong() & mask(field);
+                long b = random.nextLong() & mask(field);
+                long product = field.multiply(a, b);
+                match &= product == referenceMultiply(field, a, b);
+                match &= field.square(a) == field.multiply(a, a);
+                match &= product == field.multiply(b, a);
+            }
+            assertTrue(match, name(field) + " multiply and square match shift-and-reduce");
+        }
+    }
+
+    private static void testInverse() {
+        System.out.println("\nTesting inversion...");
+
+        Random random = new Random(2);
+        for (BinaryField field : sampleFields()) {
+            boolean match = true;
+            for (int i = 0; i < 500; i++) {
+                long a = random.nextLong() & mask(field);
+                if (a == 0) {
+                    continue;
+                }
+                long inv = field.inverse(a);
+                match &= field.multiply(a, inv) == 1;
+                match &= field.divide(a, a) == 1;
+            }
+            match &= field.power(2, field.getDegree() == 64 ? -1L : (1L << field.getDegree()) - 1) == 1;
+            assertTrue(match, name(field) + " a * inverse(a) = 1, x^(2^n - 1) = 1");
+        }
+
+        try {
+            BinaryField.trinomial(63, 1).inverse(0);
+            fail("inverse of zero should throw");
+        } catch (IllegalArgumentException e) {
+            pass("inverse of zero throws exception");
+        }
+    }
+
+    private static void testBatchInverse() {
+        System.out.println("\nTesting batch inversion...");
+
+        BinaryField field = BinaryField.pentanomial(64, 4, 3, 1);
+        Random random = new Random(3);
+        long[] values = new long[100];
+        for (int i = 0; i < values.length; i++) {
+            do {
+                values[i] = random.nextLong();
+            } while (values[i] == 0);
+        }
+
+        long[] inverses = new long[values.length];
+        field.inverseAll(values, inverses);
+        boolean match = true;
+        for (int i = 0; i < values.length; i++) {
+            match &= inverses[i] == field.inverse(values[i]);
+        }
+        assertTrue(match, "inverseAll of 100 elements matches single inversions");
+
+        values[57] = 0;
+        try {
+            field.inverseAll(values, inverses);
+            fail("batch with zero should throw");
+        } catch (IllegalArgumentException e) {
+            pass("batch with zero throws exception");
+        }
+    }
+
+    private static void testFixedMultiplier() {
+        System.out.println("\nTesting fixed-operand multiplier...");
+
+        Random random = new Random(4);
+        for (BinaryField field : sampleFields()) {
+            long a = random.nextLong() & mask(field);
+            BinaryField.Multiplier multiplier = field.multiplier(a);
+            boolean match = true;
+            for (int i = 0; i < 1000; i++) {
+                long b = random.nextLong() & mask(field);
+                match &= multiplier.multiply(b) == field.multiply(a, b);
+            }
+            assertTrue(match, name(field) + " windowed multiplier matches multiply");
+        }
+    }
+
+    private static void testIrreducibility() {
+        System.out.println("\nTesting modulus validation...");
+
+        assertTrue(BinaryField.isIrreducible(64, 0x1BL), "x^64 + x^4 + x^3 + x + 1 is irreducible");
+        assertTrue(BinaryField.isIrreducible(63, 0x3L), "x^63 + x + 1 is irreducible");
+        assertTrue(BinaryField.isIrreducible(2, 0x3L), "x^2 + x + 1 is irreducible");
+        assertTrue(!BinaryField.isIrreducible(64, 0x1L), "x^64 + 1 is reducible");
+        assertTrue(!BinaryField.isIrreducible(8, 0x1AL), "x^8 + x^4 + x^3 + x is reducible");
+        assertTrue(!BinaryField.isIrreducible(6, 0x39L), "x^6 + x^5 + x^4 + x^3 + 1 = (x^2 + x + 1)(x^4 + x + 1) is reducible");
+        assertTrue(!BinaryField.isIrreducible(6, 0x5L), "x^6 + x^2 + 1 = (x^3 + x + 1)^2 is reducible");
+
+        try {
+            new BinaryField(32, 0x1L);
+            fail("reducible modulus should throw");
+        } catch (IllegalArgumentException e) {
+            pass("reducible modulus throws exception");
+        }
+        try {
+            new BinaryField(65, 0x1L);
+            fail("degree above 64 should throw");
+        } catch (IllegalArgumentException e) {
+            pass("degree above 64 throws exception");
+        }
+    }
+
+    private static BinaryField[] sampleFields() {
+        return new BinaryField[] {
+            BinaryField.trinomial(7, 1),
+            BinaryField.pentanomial(16, 5, 3, 1),
+            BinaryField.trinomial(31, 3),
+            BinaryField.pentanomial(32, 7, 3, 2),
+            BinaryField.trinomial(63, 1),
+            BinaryField.pentanomial(64, 4, 3, 1),
+            new BinaryField(13, 0x1C3BL)
+        };
+    }
+
+    private static long referenceMultiply(BinaryField field, long a, long b) {
+        int n = field.getDegree();
+        long result = 0;
+        for (int i = 0; i < n; i++) {
+            if (((b >>> i) & 1) != 0) {
+                result ^= a;
+            }
+            boolean carry = ((a >>> (n - 1)) & 1) != 0;
+            a = (a << 1) & mask(field);
+            if (carry) {
+                a ^= field.getLowTerms();
+            }
+        }
+        return result;
+    }
+
+    private static long mask(BinaryField field) {
+        return field.getDegree() == 64 ? -1L : (1L << field.getDegree()) - 1;
+    }
+
+    private static String name(BinaryField field) {
+        return String.format("GF(2^%d) modulus x^%d + 0x%X", field.getDegree(), field.getDegree(), field.getLowTerms());
+    }
+
+    private static void assertTrue(boolean condition, String message) {
+        if (condition) {
+            pass(message);
+        } else {
+            fail(message);
+        }
+    }
+
+    private static void pass(String message) {
+        System.out.println("  ✓ " + message);
+        passed++;
+    }
+
+    private static void fail(String message) {
+        System.out.println("  ✗ " + message);
+        failed++;
+    }
+}
@@ -0,0 +1,215 @@
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+public class FactorizationServiceTest {
+
+    private static int passed = 0;
+    private static int failed = 0;
+
+    public static void main(String[] args) {
+        System.out.println("Running FactorizationService tests...\n");
+
+        testPolynomialArithmetic();
+        testSquareFreeDecomposition();
+        testFieldPolynomial();
+        testRandomPolynomials();
+        testKnownFactors();
+        testServiceDelegation();
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed);
+        System.out.println("Failed: " + failed);
+
+        if (failed == 0) {
+            System.out.println("\nAll tests passed!");
+        }
+    }
+
+    private static void testPolynomialArithmetic() {
+        System.out.println("Testing GF2Polynomial arithmetic...");
+
+        Random random = new Random(1);
+        boolean division = true;
+        boolean roots = true;
+        boolean conversion = true;
+        for (int i = 0; i < 200; i++) {
+            GF2Polynomial a = GF2Polynomial.random(1 + random.nextInt(400), random);
+            GF2Polynomial b = GF2Polynomial.random(1 + random.nextInt(200), random);
+            if (b.isZero()) {
+                continue;
+            }
+            GF2Polynomial[] qr = a.divideAndRemainder(b);
+            division &= qr[0].multiply(b).add(qr[1]).equals(a) && qr[1].degree() < b.degree();
+            roots &= a.square().squareRoot().equals(a) && a.square().equals(a.multiply(a));
+            conversion &= GF2Polynomial.valueOf(a.toBigInteger()).equals(a);
+        }
+        assertTrue(division, "a = q * b + r with deg r < deg b for multi-word operands");
+        assertTrue(roots, "square equals a * a, squareRoot inverts square");
+        assertTrue(conversion, "BigInteger round trip");
+
+        GF2Polynomial aes = GF2Polynomial.valueOf(0x11B);
+        assertTrue(aes.toString().equals("x^8 + x^4 + x^3 + x + 1"), "0x11B prints as x^8 + x^4 + x^3 + x + 1");
+        assertTrue(aes.derivative().equals(GF2Polynomial.fromExponents(2, 0)), "derivative of 0x11B is x^2 + 1");
+
+        GF2Polynomial a = GF2Polynomial.fromExponents(300, 7, 0).multiply(GF2Polynomial.valueOf(0x11B));
+        GF2Polynomial b = GF2Polynomial.fromExponents(170, 3).multiply(GF2Polynomial.valueOf(0x11B));
+        assertTrue(a.gcd(b).mod(GF2Polynomial.valueOf(0x11B)).isZero(), "gcd keeps the common factor 0x11B");
+
+        try {
+            a.mod(GF2Polynomial.ZERO);
+            fail("division by zero polynomial should throw");
+        } catch (ArithmeticException e) {
+            pass("division by zero polynomial throws exception");
+        }
+    }
+
+    private static void testSquareFreeDecomposition() {
+        System.out.println("\nTesting square-free decomposition...");
+
+        GF2Polynomial a = GF2Polynomial.valueOf(0x11B);
+        GF2Polynomial b = GF2Polynomial.valueOf(0x3);
+        GF2Polynomial c = GF2Polynomial.fromExponents(127, 1, 0);
+        GF2Polynomial f = a.multiply(a).multiply(pow(b, 4)).multiply(pow(c, 3)).multiply(GF2Polynomial.X);
+
+        Map<Integer, GF2Polynomial> parts = FactorizationService.squareFreeDecomposition(f);
+        assertTrue(parts.size() == 4 && parts.get(1).equals(GF2Polynomial.X) && parts.get(2).equals(a)
+            && parts.get(3).equals(c) && parts.get(4).equals(b),
+            "x * (0x11B)^2 * (x + 1)^4 * (x^127 + x + 1)^3 splits by multiplicity");
+
+        List<GF2Polynomial> factors = FactorizationService.factor(f);
+        assertTrue(factors.size() == 1 + 2 + 4 + 3 * FactorizationService.factor(c).size()
+            && product(factors).equals(f), "multiplicities are repeated in the factor list");
+    }
+
+    private static void testFieldPolynomial() {
+        System.out.println("\nTesting x^(2^n) + x...");
+
+        for (int n : new int[] {6, 8, 12}) {
+            GF2Polynomial f = GF2Polynomial.fromExponents(1 << n, 1);
+            List<GF2Polynomial> factors = FactorizationService.factor(f);
+
+            int expected = 0;
+            for (int d = 1; d <= n; d++) {
+                if (n % d == 0) {
+                    expected += IrreducibilityService.allIrreducible(d).length;
+                }
+            }
+            boolean distinct = true;
+            for (int i = 1; i < factors.size(); i++) {
+                distinct &= factors.get(i - 1).compareTo(factors.get(i)) < 0;
+            }
+            assertTrue(factors.size() == expected && distinct && product(factors).equals(f),
+                String.format("x^%d + x is the product of all %d irreducibles of degree dividing %d",
+                    1 << n, expected, n));
+        }
+
+        Map<Integer, GF2Polynomial> blocks = FactorizationService.distinctDegree(GF2Polynomial.fromExponents(256, 1));
+        assertTrue(blocks.keySet().toString().equals("[1, 2, 4, 8]") && blocks.get(8).degree() == 240,
+            "distinct-degree blocks of x^256 + x have degrees 2, 2, 12, 240");
+    }
+
+    private static void testRandomPolynomials() {
+        System.out.println("\nTesting random polynomials...");
+
+        Random random = new Random(2);
+        for (int degree : new int[] {64, 200, 400}) {
+            boolean match = true;
+            for (int i = 0; i < 10; i++) {
+                GF2Polynomial f = GF2Polynomial.random(degree, random).add(GF2Polynomial.fromExponents(degree));
+                List<GF2Polynomial> factors = FactorizationService.factor(f);
+                match &= product(factors).equals(f);
+                for (GF2Polynomial factor : factors) {
+                    match &= FactorizationService.isIrreducible(factor);
+                    if (factor.degree() <= 64) {
+                        long low = factor.degree() == 64 ? factor.add(GF2Polynomial.fromExponents(64)).toLong()
+                            : factor.toLong() ^ (1L << factor.degree());
+                        match &= IrreducibilityService.isIrreducible(factor.degree(), low);
+                    }
+                }
+            }
+            assertTrue(match, String.format("degree %d: product of irreducible factors restores 10 random inputs", degree));
+        }
+
+        GF2Polynomial p = GF2Polynomial.fromExponents(127, 1, 0);
+        GF2Polynomial q = GF2Polynomial.fromExponents(89, 38, 0);
+        GF2Polynomial r = GF2Polynomial.fromExponents(64, 4, 3, 1, 0);
+        List<GF2Polynomial> factors = FactorizationService.factor(p.multiply(q).multiply(r).multiply(q));
+        List<GF2Polynomial> expected = new ArrayList<>(List.of(r, q, q, p));
+        assertTrue(factors.equals(expected), "x^127 + x + 1, (x^89 + x^38 + 1)^2, x^64 + x^4 + x^3 + x + 1 recovered");
+    }
+
+    private static void testKnownFactors() {
+        System.out.println("\nTesting irreducibility...");
+
+        assertTrue(FactorizationService.isIrreducible(GF2Polynomial.fromExponents(233, 74, 0)),
+            "x^233 + x^74 + 1 (NIST B-233) is irreducible");
+        assertTrue(FactorizationService.isIrreducible(GF2Polynomial.fromExponents(571, 10, 5, 2, 0)),
+            "x^571 + x^10 + x^5 + x^2 + 1 (NIST B-571) is irreducible");
+        assertTrue(!FactorizationService.isIrreducible(
+            GF2Polynomial.fromExponents(233, 74, 0).multiply(GF2Polynomial.valueOf(0x7))),
+            "(x^233 + x^74 + 1)(x^2 + x + 1) is reducible");
+
+        try {
+            FactorizationService.factor(GF2Polynomial.ZERO);
+            fail("factoring zero should throw");
+        } catch (IllegalArgumentException e) {
+            pass("factoring zero throws exception");
+        }
+        assertTrue(FactorizationService.factor(GF2Polynomial.ONE).isEmpty(), "1 has no factors");
+    }
+
+    private static void testServiceDelegation() {
+        System.out.println("\nTesting service delegation...");
+
+        int[] factors = GaloisFieldService.factorize(0x11F);
+        assertTrue(Arrays.equals(factors, new int[] {0x3, 0x3, 0x3, 0x7, 0xB}),
+            "GaloisFieldService: 0x11F = (x + 1)^3 (x^2 + x + 1)(x^3 + x + 1)");
+
+        int big = (int) GF2Polynomial.valueOf(0x11B).multiply(GF2Polynomial.valueOf(0x11D))
+            .multiply(GF2Polynomial.valueOf(0x3)).toLong();
+        List<Byte> bytes = GF256Service.factorize(big);
+        assertTrue(bytes.size() == 3 && bytes.get(0) == 0x1B && bytes.get(1) == 0x1D && bytes.get(2) == 0x03,
+            "GF256Service: degree-8 factors first, cofactor x + 1 last");
+
+        assertTrue(GF2Polynomial.valueOf(new BigInteger("1" + "0".repeat(40) + "1", 16)).degree() == 164,
+            "BigInteger input above 64 bits");
+    }
+
+    private static GF2Polynomial pow(GF2Polynomial a, int e) {
+        GF2Polynomial result = GF2Polynomial.ONE;
+        for (int i = 0; i < e; i++) {
+            result = result.multiply(a);
+        }
+        return result;
+    }
+
+    private static GF2Polynomial product(List<GF2Polynomial> factors) {
+        GF2Polynomial result = GF2Polynomial.ONE;
+        for (GF2Polynomial factor : factors) {
+            result = result.multiply(factor);
+        }
+        return result;
+    }
+
+    private static void assertTrue(boolean condition, String message) {
+        if (condition) {
+            pass(message);
+        } else {
+            fail(message);
+        }
+    }
+
+    private static void pass(String message) {
+        System.out.println("  ✓ " + message);
+        passed++;
+    }
+
+    private static void fail(String message) {
+        System.out.println("  ✗ " + message);
+        failed++;
+    }
+}
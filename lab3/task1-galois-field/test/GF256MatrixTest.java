@@ -0,0 +1,224 @@
+import java.util.Arrays;
+import java.util.Random;
+
+public class GF256MatrixTest {
+
+    private static final GF256Field AES_FIELD = GF256Service.field((byte) 0x1B);
+
+    private static int passed = 0;
+    private static int failed = 0;
+
+    public static void main(String[] args) {
+        System.out.println("Running GF256Matrix tests...\n");
+
+        testMultiply();
+        testInverse();
+        testDeterminant();
+        testMds();
+        testTables();
+        testInvalidInput();
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed);
+        System.out.println("Failed: " + failed);
+
+        if (failed == 0) {
+            System.out.println("\nAll tests passed!");
+        }
+    }
+
+    private static void testMultiply() {
+        System.out.println("Testing multiplication...");
+
+        Random random = new Random(1);
+        GF256Matrix a = randomMatrix(AES_FIELD, 5, 3, random);
+        GF256Matrix b = randomMatrix(AES_FIELD, 3, 6, random);
+        GF256Matrix c = randomMatrix(AES_FIELD, 6, 2, random);
+
+        assertTrue(a.multiply(GF256Matrix.identity(AES_FIELD, 3)).equals(a)
+            && GF256Matrix.identity(AES_FIELD, 5).multiply(a).equals(a), "I * A = A * I = A");
+        assertTrue(a.multiply(b).multiply(c).equals(a.multiply(b.multiply(c))), "(AB)C = A(BC)");
+        assertTrue(a.multiply(b).transpose().equals(b.transpose().multiply(a.transpose())), "(AB)^T = B^T A^T");
+
+        byte[] vector = new byte[3];
+        random.nextBytes(vector);
+        byte[][] column = {{vector[0]}, {vector[1]}, {vector[2]}};
+        byte[] product = a.multiply(vector);
+        GF256Matrix expected = a.multiply(new GF256Matrix(AES_FIELD, column));
+        boolean match = true;
+        for (int i = 0; i < product.length; i++) {
+            match &= product[i] == expected.get(i, 0);
+        }
+        assertTrue(match, "matrix-vector product equals product with a column matrix");
+
+        byte[] state = {(byte) 0xDB, (byte) 0x13, (byte) 0x53, (byte) 0x45};
+        byte[] mixed = aesMixColumns().multiply(state);
+        assertTrue(Arrays.equals(mixed, new byte[] {(byte) 0x8E, (byte) 0x4D, (byte) 0xA1, (byte) 0xBC}),
+            "AES MixColumns maps DB 13 53 45 to 8E 4D A1 BC");
+    }
+
+    private static void testInverse() {
+        System.out.println("\nTesting inversion...");
+
+        GF256Matrix inverse = aesMixColumns().inverse();
+        GF256Matrix expected = GF256Matrix.circulant(AES_FIELD, (byte) 0x0E, (byte) 0x0B, (byte) 0x0D, (byte) 0x09);
+        assertTrue(inverse.equals(expected), "inverse of AES MixColumns is circ(0E, 0B, 0D, 09)");
+
+        Random random = new Random(2);
+        boolean allIdentity = true;
+        for (int n = 1; n <= 12; n++) {
+            GF256Matrix m = randomMatrix(GF256Service.field((byte) 0x1D), n, n, random);
+            if (m.isInvertible()) {
+                allIdentity &= m.multiply(m.inverse()).equals(GF256Matrix.identity(m.getField(), n));
+            }
+        }
+        assertTrue(allIdentity, "M * M^-1 = I for random invertible matrices up to 12x12");
+
+        GF256Matrix singular = GF256Matrix.circulant(AES_FIELD, (byte) 1, (byte) 1, (byte) 1, (byte) 1);
+        try {
+            singular.inverse();
+            fail("singular matrix inverse should throw");
+        } catch (IllegalArgumentException e) {
+            pass("singular matrix inverse throws exception");
+        }
+    }
+
+    private static void testDeterminant() {
+        System.out.println("\nTesting determinant...");
+
+        Random random = new Random(3);
+        boolean multiplicative = true;
+        for (int i = 0; i < 50; i++) {
+            GF256Matrix a = randomMatrix(AES_FIELD, 6, 6, random);
+            GF256Matrix b = randomMatrix(AES_FIELD, 6, 6, random);
+            multiplicative &= a.multiply(b).determinant() == AES_FIELD.multiply(a.determinant(), b.determinant());
+        }
+        assertTrue(multiplicative, "det(AB) = det(A) det(B)");
+        assertTrue(!GF256Matrix.circulant(AES_FIELD, (byte) 1, (byte) 1, (byte) 1, (byte) 1).isInvertible(),
+            "circ(01, 01, 01, 01) is singular");
+    }
+
+    private static void testMds() {
+        System.out.println("\nTesting MDS check...");
+
+        assertTrue(aesMixColumns().isMds(), "AES MixColumns is MDS");
+        assertTrue(aesMixColumns().inverse().isMds(), "AES InvMixColumns is MDS");
+        assertTrue(cauchy(AES_FIELD, 8, 8).isMds(), "8x8 Cauchy matrix is MDS");
+        assertTrue(cauchy(AES_FIELD, 3, 7).isMds(), "3x7 Cauchy matrix is MDS");
+        assertTrue(!GF256Matrix.identity(AES_FIELD, 4).isMds(), "identity is not MDS");
+        assertTrue(!GF256Matrix.circulant(AES_FIELD, (byte) 0x02, (byte) 0x03, (byte) 0x02, (byte) 0x03).isMds(),
+            "circ(02, 03, 02, 03) has a singular 2x2 minor");
+    }
+
+    private static void testTables() {
+        System.out.println("\nTesting table compilation...");
+
+        Random random = new Random(4);
+        GF256Matrix mix = aesMixColumns();
+        int[][] tables = mix.toIntTables(null);
+        boolean match = true;
+        for (int i = 0; i < 1000; i++) {
+            byte[] column = new byte[4];
+            random.nextBytes(column);
+            int word = tables[0][column[0] & 0xFF] ^ tables[1][column[1] & 0xFF]
+                ^ tables[2][column[2] & 0xFF] ^ tables[3][column[3] & 0xFF];
+            byte[] expected = mix.multiply(column);
+            match &= word == (((expected[0] & 0xFF) << 24) | ((expected[1] & 0xFF) << 16)
+                | ((expected[2] & 0xFF) << 8) | (expected[3] & 0xFF));
+        }
+        assertTrue(match, "4x4 int tables reproduce the matrix-vector product");
+
+        byte[] substitution = new byte[256];
+        for (int x = 0; x < 256; x++) {
+            substitution[x] = (byte) (x * 7 + 3);
+        }
+        GF256Matrix wide = cauchy(GF256Service.field((byte) 0x4D), 8, 8);
+        long[][] longTables = wide.toLongTables(substitution);
+        match = true;
+        for (int i = 0; i < 1000; i++) {
+            byte[] column = new byte[8];
+            random.nextBytes(column);
+            byte[] substituted = new byte[8];
+            long word = 0;
+            for (int j = 0; j < 8; j++) {
+                substituted[j] = substitution[column[j] & 0xFF];
+                word ^= longTables[j][column[j] & 0xFF];
+            }
+            byte[] expected = wide.multiply(substituted);
+            for (int r = 0; r < 8; r++) {
+                match &= (byte) (word >>> (56 - 8 * r)) == expected[r];
+            }
+        }
+        assertTrue(match, "8x8 long tables with a fused substitution reproduce M * S(x)");
+
+        try {
+            wide.toIntTables(null);
+            fail("int tables for 8 rows should throw");
+        } catch (IllegalArgumentException e) {
+            pass("int tables for 8 rows throw exception");
+        }
+    }
+
+    private static void testInvalidInput() {
+        System.out.println("\nTesting invalid input...");
+
+        try {
+            new GF256Matrix(AES_FIELD, new byte[][] {{1, 2}, {3}});
+            fail("ragged matrix should throw");
+        } catch (IllegalArgumentException e) {
+            pass("ragged matrix throws exception");
+        }
+        try {
+            aesMixColumns().multiply(GF256Matrix.identity(AES_FIELD, 3));
+            fail("dimension mismatch should throw");
+        } catch (IllegalArgumentException e) {
+            pass("dimension mismatch throws exception");
+        }
+        try {
+            aesMixColumns().multiply(GF256Matrix.identity(GF256Service.field((byte) 0x1D), 4));
+            fail("matrices over different fields should throw");
+        } catch (IllegalArgumentException e) {
+            pass("matrices over different fields throw exception");
+        }
+    }
+
+    private static GF256Matrix aesMixColumns() {
+        return GF256Matrix.circulant(AES_FIELD, (byte) 0x02, (byte) 0x03, (byte) 0x01, (byte) 0x01);
+    }
+
+    private static GF256Matrix cauchy(GF256Field field, int rows, int columns) {
+        byte[][] entries = new byte[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                entries[i][j] = field.inverse((byte) ((columns + i) ^ j));
+            }
+        }
+        return new GF256Matrix(field, entries);
+    }
+
+    private static GF256Matrix randomMatrix(GF256Field field, int rows, int columns, Random random) {
+        byte[][] entries = new byte[rows][columns];
+        for (byte[] row : entries) {
+            random.nextBytes(row);
+        }
+        return new GF256Matrix(field, entries);
+    }
+
+    private static void assertTrue(boolean condition, String message) {
+        if (condition) {
+            pass(message);
+        } else {
+            fail(message);
+        }
+    }
+
+    private static void pass(String message) {
+        System.out.println("  ✓ " + message);
+        passed++;
+    }
+
+    private static void fail(String message) {
+        System.out.println("  ✗ " + message);
+        failed++;
+    }
+}
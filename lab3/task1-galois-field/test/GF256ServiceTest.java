@@ -1,4 +1,7 @@
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
 
 public class GF256ServiceTest {
     
@@ -15,6 +18,9 @@ public class GF256ServiceTest {
         testGetAllIrreducibles();
         testFactorization();
         testExceptions();
+        testFieldContext();
+        testRegionOperations();
+        testSwarOperations();
         
         System.out.println("\n=== Test Results ===");
         System.out.println("Passed: " + passed);
@@ -133,6 +139,219 @@ public class GF256ServiceTest {
         }
     }
     
+    private static void testFieldContext() {
+        System.out.println("\nTesting field context tables...");
+        
+        for (byte modulus : GF256Service.getAllIrreduciblePolynomials()) {
+            GF256Field field = GF256Service.field(modulus);
+            int mod = modulus & 0xFF;
+            boolean multiplyOk = true;
+            boolean inverseOk = true;
+            boolean logOk = true;
+            
+            for (int a = 0; a < 256; a++) {
+                for (int b = 0; b < 256; b++) {
+                    int expected = referenceMultiply(a, b, mod);
+                    multiplyOk &= (field.multiply((byte) a, (byte) b) & 0xFF) == expected;
+                    if (b != 0) {
+                        multiplyOk &= (field.divide((byte) expected, (byte) b) & 0xFF) == a;
+                    }
+                }
+                if (a != 0) {
+                    inverseOk &= referenceMultiply(a, field.inverse((byte) a) & 0xFF, mod) == 1;
+                    logOk &= field.exp(field.log((byte) a)) == (byte) a;
+                    logOk &= field.power((byte) a, 255) == 1;
+                    logOk &= field.power((byte) a, -1) == field.inverse((byte) a);
+                }
+            }
+            
+            String name = String.format("0x%03X", mod | 0x100);
+            assertTrue(multiplyOk, name + " multiply/divide tables match shift-and-XOR");
+            assertTrue(inverseOk && logOk, name + " inverse, log and power are consistent");
+        }
+        
+        assertTrue(GF256Service.field((byte) 0x1B) == GF256Service.field((byte) 0x1B),
+            "field context is cached per modulus");
+        assertEqual(GF256Service.divide((byte) 0x01, (byte) 0x53, (byte) 0x1B), (byte) 0xCA,
+            "0x01 / 0x53 mod 0x11B");
+        
+        try {
+            GF256Service.field((byte) 0x1A);
+            fail("field with reducible modulus should throw");
+        } catch (IllegalArgumentException e) {
+            pass("field with reducible modulus throws exception");
+        }
+        
+        try {
+            GF256Service.divide((byte) 0x53, (byte) 0x00, (byte) 0x1B);
+            fail("division by zero should throw");
+        } catch (IllegalArgumentException e) {
+            pass("division by zero throws exception");
+        }
+    }
+    
+    private static void testRegionOperations() {
+        System.out.println("\nTesting region operations...");
+        
+        byte[] moduli = {(byte) 0x1B, (byte) 0x1D, (byte) 0x4D};
+        int[] lengths = {0, 7, 8, 255, 1000, 10007};
+        
+        for (byte modulus : moduli) {
+            GF256Field field = GF256Service.field(modulus);
+            int mod = modulus & 0xFF;
+            boolean multiplyOk = true;
+            boolean xorOk = true;
+            boolean bufferOk = true;
+            
+            for (int len : lengths) {
+                byte[] src = new byte[len + 3];
+                for (int i = 0; i < src.length; i++) {
+                    src[i] = (byte) (i * 37 + len);
+                }
+                
+                for (int c : new int[] {0x00, 0x01, 0x02, 0x53, 0xFF}) {
+                    byte[] dst = new byte[len + 5];
+                    GF256Region.multiply(field, (byte) c, src, 3, dst, 5, len);
+                    byte[] acc = src.clone();
+                    GF256Region.multiplyXor(field, (byte) c, src, 3, acc, 0, len);
+                    ByteBuffer direct = ByteBuffer.allocateDirect(len);
+                    GF256Region.multiply(field, (byte) c, ByteBuffer.wrap(src, 3, len), direct);
+                    
+                    for (int i = 0; i < len; i++) {
+                        int expected = referenceMultiply(src[3 + i] & 0xFF, c, mod);
+                        multiplyOk &= (dst[5 + i] & 0xFF) == expected;
+                        xorOk &= (acc[i] & 0xFF) == (expected ^ (src[i] & 0xFF));
+                        bufferOk &= (direct.get(i) & 0xFF) == expected;
+                    }
+                    bufferOk &= !direct.hasRemaining();
+                }
+            }
+            
+            String name = String.format("0x%03X", mod | 0x100);
+            assertTrue(multiplyOk, name + " region multiply matches per-byte multiply");
+            assertTrue(xorOk, name + " region multiply-XOR matches per-byte multiply");
+            assertTrue(bufferOk, name + " ByteBuffer multiply matches per-byte multiply");
+            
+            byte[] coefficients = {(byte) 0x03, (byte) 0x00, (byte) 0x01, (byte) 0x8E};
+            byte[][] sources = new byte[coefficients.length][9000];
+            for (int s = 0; s < sources.length; s++) {
+                for (int i = 0; i < sources[s].length; i++) {
+                    sources[s][i] = (byte) (i * (s + 3) + s);
+                }
+            }
+            byte[] dot = new byte[9000];
+            GF256Region.dotProduct(field, coefficients, sources, 0, dot, 0, dot.length);
+            boolean dotOk = true;
+            for (int i = 0; i < dot.length; i++) {
+                int expected = 0;
+                for (int s = 0; s < sources.length; s++) {
+                    expected ^= referenceMultiply(sources[s][i] & 0xFF, coefficients[s] & 0xFF, mod);
+                }
+                dotOk &= (dot[i] & 0xFF) == expected;
+            }
+            assertTrue(dotOk, name + " dot product of 4 regions matches per-byte sum");
+        }
+        
+        byte[] small = new byte[4];
+        try {
+            GF256Region.multiply(GF256Service.field((byte) 0x1B), (byte) 2, small, 2, small, 0, 4);
+            fail("region past array end should throw");
+        } catch (IndexOutOfBoundsException e) {
+            pass("region past array end throws exception");
+        }
+    }
+    
+    private static void testSwarOperations() {
+        System.out.println("\nTesting SWAR packed-byte operations...");
+        
+        byte[] moduli = {(byte) 0x1B, (byte) 0x1D, (byte) 0x4D};
+        Random random = new Random(9);
+        
+        for (byte modulus : moduli) {
+            int mod = modulus & 0xFF;
+            boolean xtimeOk = true;
+            boolean constantOk = true;
+            boolean lanewiseOk = true;
+            
+            for (int n = 0; n < 2000; n++) {
+                long x = random.nextLong();
+                long y = random.nextLong();
+                int c = n & 0xFF;
+                long doubled = GF256Swar.xtime(x, modulus);
+                long scaled = GF256Swar.multiply(x, (byte) c, modulus);
+                long product = GF256Swar.multiply(x, y, modulus);
+                for (int lane = 0; lane < 8; lane++) {
+                    int a = (int) (x >>> (8 * lane)) & 0xFF;
+                    int b = (int) (y >>> (8 * lane)) & 0xFF;
+                    xtimeOk &= ((doubled >>> (8 * lane)) & 0xFF) == referenceMultiply(a, 2, mod);
+                    constantOk &= ((scaled >>> (8 * lane)) & 0xFF) == referenceMultiply(a, c, mod);
+                    lanewiseOk &= ((product >>> (8 * lane)) & 0xFF) == referenceMultiply(a, b, mod);
+                }
+            }
+            
+            String name = String.format("0x%03X", mod | 0x100);
+            assertTrue(xtimeOk, name + " packed xtime matches per-byte multiply by 02");
+            assertTrue(constantOk, name + " packed constant multiply matches for all 256 constants");
+            assertTrue(lanewiseOk, name + " packed lane-by-lane multiply matches");
+            
+            boolean mixOk = true;
+            for (int n = 0; n < 500; n++) {
+                long columns = random.nextLong();
+                long mixed = GF256Swar.mixColumns(columns, modulus);
+                for (int half = 0; half < 2; half++) {
+                    int shift = 32 * (1 - half);
+                    int[] a = new int[4];
+                    for (int row = 0; row < 4; row++) {
+                        a[row] = (int) (columns >>> (shift + 24 - 8 * row)) & 0xFF;
+                    }
+                    for (int row = 0; row < 4; row++) {
+                        int expected = referenceMultiply(a[row], 2, mod) ^ referenceMultiply(a[(row + 1) % 4], 3, mod)
+                            ^ a[(row + 2) % 4] ^ a[(row + 3) % 4];
+                        mixOk &= ((mixed >>> (shift + 24 - 8 * row)) & 0xFF) == expected;
+                    }
+                }
+                mixOk &= GF256Swar.invMixColumns(mixed, modulus) == columns;
+            }
+            assertTrue(mixOk, name + " MixColumns on two packed columns matches circ(02, 03, 01, 01); InvMixColumns inverts it");
+            
+            byte[] src = new byte[1003];
+            random.nextBytes(src);
+            byte[] swar = new byte[1003];
+            byte[] table = new byte[1003];
+            byte[] swarAcc = src.clone();
+            byte[] tableAcc = src.clone();
+            GF256Swar.multiply(modulus, (byte) 0xA7, src, 2, swar, 1, 1001);
+            GF256Region.multiply(GF256Service.field(modulus), (byte) 0xA7, src, 2, table, 1, 1001);
+            GF256Swar.multiplyXor(modulus, (byte) 0x0E, src, 0, swarAcc, 3, 1000);
+            GF256Region.multiplyXor(GF256Service.field(modulus), (byte) 0x0E, src, 0, tableAcc, 3, 1000);
+            assertTrue(Arrays.equals(swar, table) && Arrays.equals(swarAcc, tableAcc),
+                name + " SWAR region multiply and multiply-XOR match GF256Region");
+        }
+        
+        try {
+            GF256Swar.multiply((byte) 0x1A, (byte) 2, new byte[8], 0, new byte[8], 0, 8);
+            fail("SWAR region with reducible modulus should throw");
+        } catch (IllegalArgumentException e) {
+            pass("SWAR region with reducible modulus throws exception");
+        }
+    }
+    
+    private static int referenceMultiply(int a, int b, int mod) {
+        int result = 0;
+        for (int i = 0; i < 8; i++) {
+            if ((b & 1) != 0) {
+                result ^= a;
+            }
+            boolean highBitSet = (a & 0x80) != 0;
+            a = (a << 1) & 0xFF;
+            if (highBitSet) {
+                a ^= mod;
+            }
+            b >>= 1;
+        }
+        return result;
+    }
+    
     private static void assertEqual(byte actual, byte expected, String message) {
         if (actual == expected) {
             pass(message);
@@ -0,0 +1,196 @@
+import java.util.List;
+import java.util.Random;
+
+public class IrreducibilityServiceTest {
+
+    private static int passed = 0;
+    private static int failed = 0;
+
+    public static void main(String[] args) {
+        System.out.println("Running IrreducibilityService tests...\n");
+
+        testCountsMatchNecklaceFormula();
+        testPrimitiveCounts();
+        testDegreeEight();
+        testAgreesWithRabin();
+        testMersenneDegree();
+        testInvalidInput();
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed);
+        System.out.println("Failed: " + failed);
+
+        if (failed == 0) {
+            System.out.println("\nAll tests passed!");
+        }
+    }
+
+    private static void testCountsMatchNecklaceFormula() {
+        System.out.println("Testing irreducible counts...");
+
+        boolean match = true;
+        for (int degree = 1; degree <= 18; degree++) {
+            match &= IrreducibilityService.allIrreducible(degree).length == necklaceCount(degree);
+        }
+        assertTrue(match, "degrees 1..18: count equals (1/n) sum mu(d) 2^(n/d)");
+
+        long[] degree12 = IrreducibilityService.allIrreducible(12);
+        boolean sorted = true;
+        for (int i = 1; i < degree12.length; i++) {
+            sorted &= degree12[i - 1] < degree12[i];
+        }
+        assertTrue(sorted, "parallel enumeration returns candidates in ascending order");
+    }
+
+    private static void testPrimitiveCounts() {
+        System.out.println("\nTesting primitive counts...");
+
+        boolean match = true;
+        for (int degree = 1; degree <= 16; degree++) {
+            long order = (1L << degree) - 1;
+            match &= IrreducibilityService.allPrimitive(degree).length == totient(order) / degree;
+        }
+        assertTrue(match, "degrees 1..16: count equals phi(2^n - 1) / n");
+    }
+
+    private static void testDegreeEight() {
+        System.out.println("\nTesting degree 8...");
+
+        long[] all = IrreducibilityService.allIrreducible(8);
+        List<Byte> reference = GF256Service.getAllIrreduciblePolynomials();
+        boolean match = all.length == reference.size();
+        for (int i = 0; match && i < all.length; i++) {
+            match = (byte) all[i] == reference.get(i);
+        }
+        assertTrue(match, "degree-8 list equals GF256Service list");
+
+        all[0] = 0;
+        assertTrue(IrreducibilityService.allIrreducible(8)[0] != 0, "cached result is not exposed to callers");
+
+        assertTrue(IrreducibilityService.isPrimitive(8, 0x1D), "0x11D is primitive");
+        assertTrue(!IrreducibilityService.isPrimitive(8, 0x1B), "0x11B is irreducible but not primitive");
+        assertTrue(GaloisFieldService.isIrreducible((byte) 0x1B), "GaloisFieldService delegates irreducibility");
+    }
+
+    private static void testAgreesWithRabin() {
+        System.out.println("\nTesting Ben-Or against Rabin...");
+
+        Random random = new Random(5);
+        int[] degrees = {23, 32, 47, 63, 64};
+        for (int degree : degrees) {
+            boolean match = true;
+            int found = 0;
+            for (int i = 0; i < 3000; i++) {
+                long low = random.nextLong() | 1;
+                if (degree < 64) {
+                    low &= (1L << degree) - 1;
+                }
+                boolean benOr = IrreducibilityService.isIrreducible(degree, low);
+                match &= benOr == BinaryField.isIrreducible(degree, low);
+                found += benOr ? 1 : 0;
+            }
+            assertTrue(match && found > 0,
+                String.format("degree %d: agrees with Rabin on 3000 candidates (%d irreducible)", degree, found));
+        }
+    }
+
+    private static void testMersenneDegree() {
+        System.out.println("\nTesting primitivity for large degree...");
+
+        Random random = new Random(6);
+        boolean match = true;
+        int found = 0;
+        for (int i = 0; i < 3000; i++) {
+            long low = (random.nextLong() | 1) & ((1L << 61) - 1);
+            boolean irreducible = IrreducibilityService.isIrreducible(61, low);
+            match &= irreducible == IrreducibilityService.isPrimitive(61, low);
+            found += irreducible ? 1 : 0;
+        }
+        assertTrue(match && found > 0, "degree 61 (2^61 - 1 prime): every irreducible is primitive");
+
+        assertTrue(IrreducibilityService.isPrimitive(64, 0x1BL) == isPrimitiveByDefinition(64, 0x1BL),
+            "x^64 + x^4 + x^3 + x + 1 primitivity agrees with the order of x");
+    }
+
+    private static void testInvalidInput() {
+        System.out.println("\nTesting invalid input...");
+
+        assertTrue(!IrreducibilityService.isIrreducible(65, 1), "degree 65 is rejected");
+        assertTrue(!IrreducibilityService.isIrreducible(8, 0x100), "low terms above degree are rejected");
+        try {
+            IrreducibilityService.allIrreducible(IrreducibilityService.MAX_ENUMERATION_DEGREE + 1);
+            fail("enumeration above limit should throw");
+        } catch (IllegalArgumentException e) {
+            pass("enumeration above limit throws exception");
+        }
+    }
+
+    private static boolean isPrimitiveByDefinition(int degree, long low) {
+        BinaryField field = new BinaryField(degree, low);
+        long[] primeFactors64 = {3, 5, 17, 257, 641, 65537, 6700417};
+        for (long p : primeFactors64) {
+            if (field.power(2, Long.divideUnsigned(-1L, p)) == 1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long necklaceCount(int n) {
+        long sum = 0;
+        for (int d = 1; d <= n; d++) {
+            if (n % d == 0) {
+                sum += mobius(d) * (1L << (n / d));
+            }
+        }
+        return sum / n;
+    }
+
+    private static int mobius(int n) {
+        int result = 1;
+        for (int p = 2; p <= n; p++) {
+            if (n % p == 0) {
+                n /= p;
+                if (n % p == 0) {
+                    return 0;
+                }
+                result = -result;
+            }
+        }
+        return result;
+    }
+
+    private static long totient(long n) {
+        long result = n;
+        for (long p = 2; p * p <= n; p++) {
+            if (n % p == 0) {
+                while (n % p == 0) {
+                    n /= p;
+                }
+                result -= result / p;
+            }
+        }
+        if (n > 1) {
+            result -= result / n;
+        }
+        return result;
+    }
+
+    private static void assertTrue(boolean condition, String message) {
+        if (condition) {
+            pass(message);
+        } else {
+            fail(message);
+        }
+    }
+
+    private static void pass(String message) {
+        System.out.println("  ✓ " + message);
+        passed++;
+    }
+
+    private static void fail(String message) {
+        System.out.println("  ✗ " + message);
+        failed++;
+    }
+}
@@ -0,0 +1,271 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+
+public class ReedSolomonTest {
+
+    private static int passed = 0;
+    private static int failed = 0;
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Running ReedSolomon tests...\n");
+
+        testEncodeIsSystematic();
+        testReconstructAllErasurePatterns();
+        testReconstructLargeShards();
+        testNotEnoughShards();
+        testFileRoundTrip();
+        testCorruptedHeaders();
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed);
+        System.out.println("Failed: " + failed);
+
+        if (failed == 0) {
+            System.out.println("\nAll tests passed!");
+        }
+    }
+
+    private static void testEncodeIsSystematic() {
+        System.out.println("Testing encoding...");
+
+        ReedSolomon codec = new ReedSolomon(4, 2, (byte) 0x1D);
+        byte[][] shards = randomShards(codec, 100, 1);
+        byte[][] original = copy(shards);
+
+        codec.encodeParity(shards, 0, 100);
+
+        boolean dataUnchanged = true;
+        for (int i = 0; i < codec.getDataShards(); i++) {
+            dataUnchanged &= Arrays.equals(original[i], shards[i]);
+        }
+        assertTrue(dataUnchanged, "data shards are left unchanged");
+
+        GF256Field field = GF256Service.field((byte) 0x1D);
+        boolean parityOk = true;
+        for (int p = 0; p < codec.getParityShards(); p++) {
+            for (int b = 0; b < 100; b++) {
+                byte expected = 0;
+                for (int d = 0; d < codec.getDataShards(); d++) {
+                    byte coefficient = field.inverse((byte) ((codec.getDataShards() + p) ^ d));
+                    expected ^= field.multiply(coefficient, shards[d][b]);
+                }
+                parityOk &= shards[codec.getDataShards() + p][b] == expected;
+            }
+        }
+        assertTrue(parityOk, "parity shards equal Cauchy matrix products");
+    }
+
+    private static void testReconstructAllErasurePatterns() {
+        System.out.println("\nTesting reconstruction...");
+
+        int[][] configs = {{4, 2}, {6, 3}, {10, 4}, {1, 2}};
+
+        for (int[] config : configs) {
+            ReedSolomon codec = new ReedSolomon(config[0], config[1], (byte) 0x1B);
+            int total = codec.getTotalShards();
+            byte[][] shards = randomShards(codec, 257, config[0] * 31 + config[1]);
+            codec.encodeParity(shards, 0, 257);
+
+            boolean allOk = true;
+            int patterns = 0;
+            for (int mask = 0; mask < (1 << total); mask++) {
+                if (Integer.bitCount(mask) != config[1]) {
+                    continue;
+                }
+                byte[][] damaged = copy(shards);
+                boolean[] present = new boolean[total];
+                for (int i = 0; i < total; i++) {
+                    present[i] = ((mask >>> i) & 1) == 0;
+                    if (!present[i]) {
+                        damaged[i] = (i % 2 == 0) ? null : new byte[257];
+                    }
+                }
+                codec.reconstruct(damaged, present, 0, 257);
+                for (int i = 0; i < total; i++) {
+                    allOk &= Arrays.equals(shards[i], damaged[i]);
+                }
+                patterns++;
+            }
+
+            assertTrue(allOk, String.format("RS(%d+%d): all %d patterns of %d lost shards restored",
+                config[0], config[1], patterns, config[1]));
+        }
+    }
+
+    private static void testReconstructLargeShards() {
+        System.out.println("\nTesting parallel reconstruction of large shards...");
+
+        ReedSolomon codec = new ReedSolomon(8, 3, (byte) 0x1B);
+        int length = 300_000;
+        byte[][] shards = randomShards(codec, length + 10, 7);
+        codec.encodeParity(shards, 10, length);
+
+        byte[][] damaged = copy(shards);
+        boolean[] present = new boolean[codec.getTotalShards()];
+        Arrays.fill(present, true);
+        for (int i : new int[] {0, 5, 9}) {
+            present[i] = false;
+            Arrays.fill(damaged[i], 10, 10 + length, (byte) 0);
+        }
+        codec.reconstruct(damaged, present, 10, length);
+
+        boolean match = true;
+        for (int i = 0; i < codec.getTotalShards(); i++) {
+            match &= Arrays.equals(shards[i], 10, 10 + length, damaged[i], 10, 10 + length);
+        }
+        assertTrue(match, "RS(8+3) with 300 KB shards at offset 10 restores 2 data and 1 parity shard");
+    }
+
+    private static void testNotEnoughShards() {
+        System.out.println("\nTesting failures...");
+
+        ReedSolomon codec = new ReedSolomon(4, 2, (byte) 0x1B);
+        byte[][] shards = randomShards(codec, 16, 3);
+        boolean[] present = {true, false, true, false, true, false};
+        try {
+            codec.reconstruct(shards, present, 0, 16);
+            fail("reconstruction with 3 of 4 shards should throw");
+        } catch (IllegalArgumentException e) {
+            pass("reconstruction with 3 of 4 shards throws exception");
+        }
+
+        try {
+            new ReedSolomon(200, 57, (byte) 0x1B);
+            fail("more than 256 shards should throw");
+        } catch (IllegalArgumentException e) {
+            pass("more than 256 shards throws exception");
+        }
+    }
+
+    private static void testFileRoundTrip() throws IOException {
+        System.out.println("\nTesting file encoding...");
+
+        Path dir = Files.createTempDirectory("rs-test");
+        try {
+            ReedSolomon codec = new ReedSolomon(5, 3, (byte) 0x1B);
+            Path input = dir.resolve("archive.enc");
+            byte[] data = new byte[123_457];
+            new Random(11).nextBytes(data);
+            Files.write(input, data);
+
+            Path[] shardPaths = new Path[codec.getTotalShards()];
+            for (int i = 0; i < shardPaths.length; i++) {
+                shardPaths[i] = dir.resolve("archive.enc." + i);
+            }
+            codec.encodeFile(input, shardPaths, 4096);
+
+            Files.delete(shardPaths[1]);
+            Files.delete(shardPaths[4]);
+            Files.write(shardPaths[6], new byte[7]);
+
+            Path output = dir.resolve("archive.restored");
+            codec.decodeFile(shardPaths, output);
+            assertTrue(Arrays.equals(data, Files.readAllBytes(output)),
+                "file restored after losing 2 data shards and truncating 1 parity shard");
+
+            Files.delete(shardPaths[0]);
+            try {
+                codec.decodeFile(shardPaths, output);
+                fail("decoding with 4 of 5 shards should throw");
+            } catch (IOException e) {
+                pass("decoding with 4 of 5 shards throws IOException");
+            }
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    private static void testCorruptedHeaders() throws IOException {
+        System.out.println("\nTesting corrupted shard headers...");
+
+        Path dir = Files.createTempDirectory("rs-test");
+        try {
+            ReedSolomon codec = new ReedSolomon(5, 3, (byte) 0x1B);
+            Path input = dir.resolve("archive.enc");
+            byte[] data = new byte[50_001];
+            new Random(12).nextBytes(data);
+            Files.write(input, data);
+
+            Path[] shardPaths = new Path[codec.getTotalShards()];
+            for (int i = 0; i < shardPaths.length; i++) {
+                shardPaths[i] = dir.resolve("archive.enc." + i);
+            }
+            Path output = dir.resolve("archive.restored");
+
+            codec.encodeFile(input, shardPaths, 4096);
+            Files.delete(shardPaths[1]);
+            Files.delete(shardPaths[2]);
+            patchHeader(shardPaths[0], 0, ByteBuffer.allocate(8).putLong(data.length + 1L).array());
+            codec.decodeFile(shardPaths, output);
+            assertTrue(Arrays.equals(data, Files.readAllBytes(output)),
+                "file restored from 5 good shards when the first shard reports a different size");
+
+            codec.encodeFile(input, shardPaths, 4096);
+            Files.delete(shardPaths[6]);
+            patchHeader(shardPaths[0], 8, ByteBuffer.allocate(4).putInt(9).array());
+            patchHeader(shardPaths[5], 20, ByteBuffer.allocate(4).putInt(Integer.MAX_VALUE).array());
+            codec.decodeFile(shardPaths, output);
+            assertTrue(Arrays.equals(data, Files.readAllBytes(output)),
+                "shards with a wrong layout or an oversized chunk size are treated as missing");
+        } finally {
+            try (var files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(dir);
+        }
+    }
+
+    private static void patchHeader(Path shard, int position, byte[] bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(shard, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(bytes), position);
+        }
+    }
+
+    private static byte[][] randomShards(ReedSolomon codec, int length, long seed) {
+        Random random = new Random(seed);
+        byte[][] shards = new byte[codec.getTotalShards()][length];
+        for (int i = 0; i < codec.getDataShards(); i++) {
+            random.nextBytes(shards[i]);
+        }
+        return shards;
+    }
+
+    private static byte[][] copy(byte[][] shards) {
+        byte[][] result = new byte[shards.length][];
+        for (int i = 0; i < shards.length; i++) {
+            result[i] = shards[i].clone();
+        }
+        return result;
+    }
+
+    private static void assertTrue(boolean condition, String message) {
+        if (condition) {
+            pass(message);
+        } else {
+            fail(message);
+        }
+    }
+
+    private static void pass(String message) {
+        System.out.println("  ✓ " + message);
+        passed++;
+    }
+
+    private static void fail(String message) {
+        System.out.println("  ✗ " + message);
+        failed++;
+    }
+}
@@ -0,0 +1,196 @@
+import java.util.Arrays;
+import java.util.Random;
+
+public class ShamirSecretSharingTest {
+
+    private static int passed = 0;
+    private static int failed = 0;
+
+    public static void main(String[] args) {
+        System.out.println("Running ShamirSecretSharing tests...\n");
+
+        testRoundTrip();
+        testThreshold();
+        testBulk();
+        testEncoding();
+        testInvalidInput();
+
+        System.out.println("\n=== Test Results ===");
+        System.out.println("Passed: " + passed);
+        System.out.println("Failed: " + failed);
+
+        if (failed == 0) {
+            System.out.println("\nAll tests passed!");
+        }
+    }
+
+    private static void testRoundTrip() {
+        System.out.println("Testing split and combine...");
+
+        Random random = new Random(1);
+        byte[] key = new byte[32];
+        random.nextBytes(key);
+
+        ShamirSecretSharing sharing = new ShamirSecretSharing(3, (byte) 0x1B);
+        ShamirSecretSharing.Share[] shares = sharing.split(key, 5);
+        assertTrue(shares.length == 5 && shares[0].getData().length == key.length, "3-of-5 split yields 5 shares of key length");
+
+        boolean allSubsets = true;
+        for (int a = 0; a < 5; a++) {
+            for (int b = a + 1; b < 5; b++) {
+                for (int c = b + 1; c < 5; c++) {
+                    allSubsets &= Arrays.equals(key, sharing.combine(shares[a], shares[b], shares[c]));
+                }
+            }
+        }
+        assertTrue(allSubsets, "every 3 of 5 shares recover the key");
+        assertTrue(Arrays.equals(key, sharing.combine(shares[4], shares[1], shares[3])), "share order does not matter");
+        assertTrue(Arrays.equals(key, sharing.combine(shares)), "extra shares are ignored");
+
+        ShamirSecretSharing other = new ShamirSecretSharing(4, (byte) 0x4D);
+        ShamirSecretSharing.Share[] otherShares = other.split(key, 10);
+        assertTrue(Arrays.equals(key, other.combine(otherShares[9], otherShares[0], otherShares[5], otherShares[2])),
+            "4-of-10 over a non-AES field recovers the key");
+
+        ShamirSecretSharing single = new ShamirSecretSharing(1, (byte) 0x1B);
+        ShamirSecretSharing.Share[] copies = single.split(key, 3);
+        assertTrue(Arrays.equals(key, copies[2].getData()), "threshold 1 shares are copies of the secret");
+
+        assertTrue(sharing.combine(sharing.split(new byte[0], 3)).length == 0, "empty secret round trips");
+    }
+
+    private static void testThreshold() {
+        System.out.println("\nTesting threshold...");
+
+        byte[] secret = new byte[4096];
+        ShamirSecretSharing sharing = new ShamirSecretSharing(3, (byte) 0x1B);
+        ShamirSecretSharing.Share[] shares = sharing.split(secret, 5);
+
+        try {
+            sharing.combine(shares[0], shares[1]);
+            fail("combining below threshold should throw");
+        } catch (IllegalArgumentException e) {
+            pass("combining below threshold throws exception");
+        }
+        try {
+            sharing.combine(shares[0], shares[1], shares[1]);
+            fail("duplicate shares should not count twice");
+        } catch (IllegalArgumentException e) {
+            pass("duplicate shares do not count twice");
+        }
+
+        boolean hidden = true;
+        for (ShamirSecretSharing.Share share : shares) {
+            hidden &= !Arrays.equals(secret, share.getData());
+        }
+        assertTrue(hidden, "no single share reveals an all-zero secret");
+
+        ShamirSecretSharing pairs = new ShamirSecretSharing(2, (byte) 0x1B);
+        ShamirSecretSharing.Share[] pairShares = pairs.split(new byte[] {42}, 255);
+        int[] counts = new int[256];
+        for (ShamirSecretSharing.Share share : pairShares) {
+            counts[share.getData()[0] & 0xFF]++;
+        }
+        boolean distinct = true;
+        for (int count : counts) {
+            distinct &= count <= 1;
+        }
+        assertTrue(distinct && counts[42] == 0, "a degree-1 polynomial takes distinct values at 255 points");
+    }
+
+    private static void testBulk() {
+        System.out.println("\nTesting bulk secrets...");
+
+        Random random = new Random(2);
+        byte[] blob = new byte[4 * 1024 * 1024 + 13];
+        random.nextBytes(blob);
+
+        ShamirSecretSharing sharing = new ShamirSecretSharing(5, (byte) 0x1B);
+        long start = System.nanoTime();
+        ShamirSecretSharing.Share[] shares = sharing.split(blob, 8);
+        byte[] recovered = sharing.combine(shares[7], shares[2], shares[5], shares[0], shares[3]);
+        long elapsed = (System.nanoTime() - start) / 1_000_000;
+
+        assertTrue(Arrays.equals(blob, recovered), "4 MB blob recovers from 5 of 8 shares (" + elapsed + " ms)");
+
+        byte[] other = sharing.combine(shares[1], shares[2], shares[4], shares[6], shares[7]);
+        assertTrue(Arrays.equals(blob, other), "a different 5-subset recovers the same blob");
+
+        byte[] repeat = sharing.split(blob, 8)[0].getData();
+        assertTrue(!Arrays.equals(repeat, shares[0].getData()), "repeated splits use fresh coefficients");
+    }
+
+    private static void testEncoding() {
+        System.out.println("\nTesting share encoding...");
+
+        ShamirSecretSharing sharing = new ShamirSecretSharing(2, (byte) 0x1B);
+        byte[] secret = "master key".getBytes();
+        ShamirSecretSharing.Share[] shares = sharing.split(secret, 3);
+
+        ShamirSecretSharing.Share decoded = ShamirSecretSharing.Share.fromBytes(shares[2].toBytes());
+        assertTrue(decoded.getX() == 3 && Arrays.equals(decoded.getData(), shares[2].getData()),
+            "toBytes/fromBytes preserves index and data");
+        assertTrue(Arrays.equals(secret, sharing.combine(decoded, ShamirSecretSharing.Share.fromBytes(shares[0].toBytes()))),
+            "decoded shares recover the secret");
+    }
+
+    private static void testInvalidInput() {
+        System.out.println("\nTesting invalid input...");
+
+        try {
+            new ShamirSecretSharing(0, (byte) 0x1B);
+            fail("threshold 0 should throw");
+        } catch (IllegalArgumentException e) {
+            pass("threshold 0 throws exception");
+        }
+        try {
+            new ShamirSecretSharing(2, (byte) 0x00);
+            fail("reducible modulus should throw");
+        } catch (IllegalArgumentException e) {
+            pass("reducible modulus throws exception");
+        }
+        try {
+            new ShamirSecretSharing(3, (byte) 0x1B).split(new byte[16], 2);
+            fail("fewer shares than threshold should throw");
+        } catch (IllegalArgumentException e) {
+            pass("fewer shares than threshold throws exception");
+        }
+        try {
+            new ShamirSecretSharing(3, (byte) 0x1B).split(new byte[16], 256);
+            fail("more than 255 shares should throw");
+        } catch (IllegalArgumentException e) {
+            pass("more than 255 shares throws exception");
+        }
+        try {
+            new ShamirSecretSharing.Share(0, new byte[16]);
+            fail("share index 0 should throw");
+        } catch (IllegalArgumentException e) {
+            pass("share index 0 throws exception");
+        }
+        try {
+            ShamirSecretSharing sharing = new ShamirSecretSharing(2, (byte) 0x1B);
+            sharing.combine(new ShamirSecretSharing.Share(1, new byte[16]), new ShamirSecretSharing.Share(2, new byte[8]));
+            fail("shares of different length should throw");
+        } catch (IllegalArgumentException e) {
+            pass("shares of different length throw exception");
+        }
+    }
+
+    private static void assertTrue(boolean condition, String message) {
+        if (condition) {
+            pass(message);
+        } else {
+            fail(message);
+        }
+    }
+
+    private static void pass(String message) {
+        System.out.println("  ✓ " + message);
+        passed++;
+    }
+
+    private static void fail(String message) {
+        System.out.println("  ✗ " + message);
+        failed++;
+    }
+}
@@ -0,0 +1,42 @@
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public class GF256VectorRegion implements GF256Region.Kernel {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int MIN_LENGTH = 4 * SPECIES.length();
+
+    public static boolean isSupported() {
+        return SPECIES.length() >= 16;
+    }
+
+    @Override
+    public int multiply(byte[] nibbleTables, byte[] src, int srcOff, byte[] dst, int dstOff, int len, boolean accumulate) {
+        if (len < MIN_LENGTH) {
+            return 0;
+        }
+
+        byte[] row = new byte[SPECIES.length()];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = nibbleTables[i % 16];
+        }
+        ByteVector low = ByteVector.fromArray(SPECIES, row, 0);
+        for (int i = 0; i < row.length; i++) {
+            row[i] = nibbleTables[16 + i % 16];
+        }
+        ByteVector high = ByteVector.fromArray(SPECIES, row, 0);
+
+        int bound = SPECIES.loopBound(len);
+        for (int i = 0; i < bound; i += SPECIES.length()) {
+            ByteVector v = ByteVector.fromArray(SPECIES, src, srcOff + i);
+            ByteVector p = v.and((byte) 0x0F).selectFrom(low)
+                    .lanewise(VectorOperators.XOR, v.lanewise(VectorOperators.LSHR, 4).selectFrom(high));
+            if (accumulate) {
+                p = p.lanewise(VectorOperators.XOR, ByteVector.fromArray(SPECIES, dst, dstOff + i));
+            }
+            p.intoArray(dst, dstOff + i);
+        }
+
+        return bound;
+    }
+}
@@ -18,6 +18,16 @@ if [ $? -ne 0 ]; then
     exit 1
 fi
 
+if java --list-modules 2>/dev/null | grep -q "^jdk.incubator.vector"; then
+    echo "Compiling vector sources..."
+    javac --add-modules jdk.incubator.vector -cp out/production -d out/production vector-src/*.java
+
+    if [ $? -ne 0 ]; then
+        echo "Vector source compilation failed!"
+        exit 1
+    fi
+fi
+
 echo "Compiling test files..."
 javac -cp out/production -d out/test test/*.java
 
@@ -0,0 +1,291 @@
+public final class BinaryField {
+    private static final int WINDOW = 8;
+
+    private final int degree;
+    private final long lowTerms;
+    private final long mask;
+    private final int[] terms;
+
+    public BinaryField(int degree, long lowTerms) throws IllegalArgumentException {
+        this(degree, lowTerms, true);
+    }
+
+    private BinaryField(int degree, long lowTerms, boolean validate) {
+        if (degree < 1 || degree > 64) {
+            throw new IllegalArgumentException("Degree must be between 1 and 64");
+        }
+        if (degree < 64 && (lowTerms >>> degree) != 0) {
+            throw new IllegalArgumentException("Low terms must have degree below " + degree);
+        }
+
+        this.degree = degree;
+        this.lowTerms = lowTerms;
+        this.mask = degree == 64 ? -1L : (1L << degree) - 1;
+
+        int[] exponents = new int[Long.bitCount(lowTerms)];
+        for (int i = 0, n = 0; i < 64; i++) {
+            if (((lowTerms >>> i) & 1) != 0) {
+                exponents[n++] = i;
+            }
+        }
+        this.terms = exponents;
+
+        if (validate && !isIrreducible()) {
+            throw new IllegalArgumentException("Modulus must be irreducible");
+        }
+    }
+
+    public static BinaryField trinomial(int degree, int k) throws IllegalArgumentException {
+        return new BinaryField(degree, (1L << k) | 1L);
+    }
+
+    public static BinaryField pentanomial(int degree, int k1, int k2, int k3) throws IllegalArgumentException {
+        return new BinaryField(degree, (1L << k1) | (1L << k2) | (1L << k3) | 1L);
+    }
+
+    public static boolean isIrreducible(int degree, long lowTerms) {
+        if (degree < 1 || degree > 64 || (degree < 64 && (lowTerms >>> degree) != 0)) {
+            return false;
+        }
+        return new BinaryField(degree, lowTerms, false).isIrreducible();
+    }
+
+    static BinaryField ring(int degree, long lowTerms) {
+        return new BinaryField(degree, lowTerms, false);
+    }
+
+    public int getDegree() {
+        return degree;
+    }
+
+    public long getLowTerms() {
+        return lowTerms;
+    }
+
+    public long add(long a, long b) {
+        return a ^ b;
+    }
+
+    public long multiply(long a, long b) {
+        long lo = clmulLow(a, b);
+        long hi = Long.reverse(clmulLow(Long.reverse(a), Long.reverse(b))) >>> 1;
+        return reduce(hi, lo);
+    }
+
+    public long square(long a) {
+        return reduce(spread(a >>> 32), spread(a & 0xFFFFFFFFL));
+    }
+
+    public long squareTimes(long a, int times) {
+        for (int i = 0; i < times; i++) {
+            a = reduce(spread(a >>> 32), spread(a & 0xFFFFFFFFL));
+        }
+        return a;
+    }
+
+    public long inverse(long a) throws IllegalArgumentException {
+        if ((a & mask) == 0) {
+            throw new IllegalArgumentException("Zero has no inverse");
+        }
+
+        int e = degree - 1;
+        long beta = a;
+        int k = 1;
+        for (int bit = 30 - Integer.numberOfLeadingZeros(e); bit >= 0; bit--) {
+            beta = multiply(squareTimes(beta, k), beta);
+            k <<= 1;
+            if (((e >>> bit) & 1) != 0) {
+                beta = multiply(square(beta), a);
+                k++;
+            }
+        }
+
+        return square(beta);
+    }
+
+    public long divide(long a, long b) throws IllegalArgumentException {
+        return multiply(a, inverse(b));
+    }
+
+    public long power(long a, long exponent) {
+        long result = 1;
+        long base = a;
+        for (int bit = 63 - Long.numberOfLeadingZeros(exponent); bit >= 0; bit--) {
+            result = square(result);
+            if (((exponent >>> bit) & 1) != 0) {
+                result = multiply(result, base);
+            }
+        }
+        return result;
+    }
+
+    public void inverseAll(long[] values, long[] result) throws IllegalArgumentException {
+        inverseAll(values, 0, result, 0, values.length);
+    }
+
+    public void inverseAll(long[] values, int valuesOff, long[] result, int resultOff, int count)
+            throws IllegalArgumentException {
+        if (count == 0) {
+            return;
+        }
+
+        long acc = 1;
+        for (int i = 0; i < count; i++) {
+            long v = values[valuesOff + i];
+            if ((v & mask) == 0) {
+                throw new IllegalArgumentException("Zero has no inverse");
+            }
+            result[resultOff + i] = acc;
+            acc = multiply(acc, v);
+        }
+
+        long inv = inverse(acc);
+        for (int i = count - 1; i >= 0; i--) {
+            long v = values[valuesOff + i];
+            result[resultOff + i] = multiply(inv, result[resultOff + i]);
+            inv = multiply(inv, v);
+        }
+    }
+
+    public Multiplier multiplier(long a) {
+        return new Multiplier(a);
+    }
+
+    public final class Multiplier {
+        private final long[] tableLo = new long[1 << WINDOW];
+        private final long[] tableHi = new long[1 << WINDOW];
+
+        private Multiplier(long a) {
+            for (int u = 1; u < tableLo.length; u++) {
+                long lo = 0;
+                long hi = 0;
+                for (int bit = 0; bit < WINDOW; bit++) {
+                    if (((u >>> bit) & 1) != 0) {
+                        lo ^= a << bit;
+                        hi ^= bit == 0 ? 0 : a >>> (64 - bit);
+                    }
+                }
+                tableLo[u] = lo;
+                tableHi[u] = hi;
+            }
+        }
+
+        public long multiply(long b) {
+            long lo = 0;
+            long hi = 0;
+
+            for (int shift = 64 - WINDOW; shift >= 0; shift -= WINDOW) {
+                hi = (hi << WINDOW) | (lo >>> (64 - WINDOW));
+                lo <<= WINDOW;
+                int u = (int) (b >>> shift) & ((1 << WINDOW) - 1);
+                lo ^= tableLo[u];
+                hi ^= tableHi[u];
+            }
+
+            return reduce(hi, lo);
+        }
+    }
+
+    private long reduce(long hi, long lo) {
+        if (degree < 64) {
+            hi = (hi << (64 - degree)) | (lo >>> degree);
+            lo &= mask;
+        }
+
+        while (hi != 0) {
+            long nextHi = 0;
+            for (int k : terms) {
+                lo ^= hi << k;
+                if (k != 0) {
+                    nextHi ^= hi >>> (64 - k);
+                }
+            }
+            if (degree < 64) {
+                nextHi = (nextHi << (64 - degree)) | (lo >>> degree);
+                lo &= mask;
+            }
+            hi = nextHi;
+        }
+
+        return lo;
+    }
+
+    static long clmulLow(long x, long y) {
+        long x0 = x & 0x1111111111111111L;
+        long x1 = x & 0x2222222222222222L;
+        long x2 = x & 0x4444444444444444L;
+        long x3 = x & 0x8888888888888888L;
+        long y0 = y & 0x1111111111111111L;
+        long y1 = y & 0x2222222222222222L;
+        long y2 = y & 0x4444444444444444L;
+        long y3 = y & 0x8888888888888888L;
+
+        long z0 = (x0 * y0) ^ (x1 * y3) ^ (x2 * y2) ^ (x3 * y1);
+        long z1 = (x0 * y1) ^ (x1 * y0) ^ (x2 * y3) ^ (x3 * y2);
+        long z2 = (x0 * y2) ^ (x1 * y1) ^ (x2 * y0) ^ (x3 * y3);
+        long z3 = (x0 * y3) ^ (x1 * y2) ^ (x2 * y1) ^ (x3 * y0);
+
+        return (z0 & 0x1111111111111111L) | (z1 & 0x2222222222222222L)
+                | (z2 & 0x4444444444444444L) | (z3 & 0x8888888888888888L);
+    }
+
+    private static long spread(long x) {
+        x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x << 2)) & 0x3333333333333333L;
+        x = (x | (x << 1)) & 0x5555555555555555L;
+        return x;
+    }
+
+    private boolean isIrreducible() {
+        if (degree == 1) {
+            return true;
+        }
+        if ((lowTerms & 1) == 0) {
+            return false;
+        }
+        if (squareTimes(2, degree) != 2) {
+            return false;
+        }
+
+        for (int q = 2, n = degree; q <= n; q++) {
+            if (n % q != 0) {
+                continue;
+            }
+            while (n % q == 0) {
+                n /= q;
+            }
+            if (gcdWithModulus(squareTimes(2, degree / q) ^ 2) != 1) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    long gcdWithModulus(long g) {
+        if (g == 0) {
+            return 0;
+        }
+        long a;
+        int degG = 63 - Long.numberOfLeadingZeros(g);
+        if (degree == 64) {
+            a = lowTerms ^ (g << (64 - degG));
+        } else {
+            a = (mask + 1) ^ lowTerms ^ (g << (degree - degG));
+        }
+
+        long b = g;
+        while (b != 0) {
+            int degB = 63 - Long.numberOfLeadingZeros(b);
+            while (a != 0 && 63 - Long.numberOfLeadingZeros(a) >= degB) {
+                a ^= b << (63 - Long.numberOfLeadingZeros(a) - degB);
+            }
+            long t = a;
+            a = b;
+            b = t;
+        }
+        return a;
+    }
+}
@@ -1,87 +1,59 @@
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 public class GF256Service {
+    private static final boolean[] IRREDUCIBLE = computeIrreducible();
+    private static final List<Byte> IRREDUCIBLE_LIST = listIrreducible();
+    private static final AtomicReferenceArray<GF256Field> FIELDS = new AtomicReferenceArray<>(256);
 
     public static byte add(byte a, byte b) {
         return (byte) (a ^ b);
     }
 
-    public static byte multiply(byte a, byte modulus) throws IllegalArgumentException {
-        if (!isIrreducible((modulus & 0xFF) | 0x100)) {
-            throw new IllegalArgumentException("Modulus must be irreducible");
+    public static GF256Field field(byte modulus) throws IllegalArgumentException {
+        int index = modulus & 0xFF;
+        GF256Field field = FIELDS.get(index);
+        if (field == null) {
+            field = new GF256Field(modulus);
+            if (!FIELDS.compareAndSet(index, null, field)) {
+                field = FIELDS.get(index);
+            }
         }
-        return multiplyMod(a, a, modulus);
+        return field;
+    }
+
+    public static byte multiply(byte a, byte modulus) throws IllegalArgumentException {
+        return field(modulus).square(a);
     }
 
     public static byte multiplyMod(byte a, byte b, byte modulus) throws IllegalArgumentException {
-        if (!isIrreducible((modulus & 0xFF) | 0x100)) {
-            throw new IllegalArgumentException("Modulus must be irreducible");
-        }
-        
-        int result = 0;
-        int aInt = a & 0xFF;
-        int bInt = b & 0xFF;
-        int mod = (modulus & 0xFF) | 0x100;
-        
-        for (int i = 0; i < 8; i++) {
-            if ((bInt & 1) != 0) {
-                result ^= aInt;
-            }
-            
-            boolean highBitSet = (aInt & 0x80) != 0;
-            aInt <<= 1;
-            
-            if (highBitSet) {
-                aInt ^= mod;
-            }
-            
-            bInt >>= 1;
-        }
-        
-        return (byte) result;
+        return field(modulus).multiply(a, b);
     }
 
     public static byte inverse(byte a, byte modulus) throws IllegalArgumentException {
-        if (!isIrreducible((modulus & 0xFF) | 0x100)) {
-            throw new IllegalArgumentException("Modulus must be irreducible");
-        }
-        
-        if (a == 0) {
-            throw new IllegalArgumentException("Zero has no inverse");
-        }
-        
-        int t = 0;
-        int newT = 1;
-        int r = (modulus & 0xFF) | 0x100;
-        int newR = a & 0xFF;
-        
-        while (newR != 0) {
-            int quotient = divide(r, newR);
-            
-            int tempT = t;
-            t = newT;
-            newT = tempT ^ multiplyPoly(quotient, newT);
-            
-            int tempR = r;
-            r = newR;
-            newR = tempR ^ multiplyPoly(quotient, newR);
-        }
-        
-        if (r > 1) {
-            throw new IllegalArgumentException("Element is not invertible");
-        }
-        
-        return (byte) t;
+        return field(modulus).inverse(a);
+    }
+
+    public static byte divide(byte a, byte b, byte modulus) throws IllegalArgumentException {
+        return field(modulus).divide(a, b);
     }
 
     public static boolean isIrreducible(int poly) {
         int p = poly & 0x1FF;
-        
-        if (p < 0x100) {
-            return false;
+        return p >= 0x100 && IRREDUCIBLE[p & 0xFF];
+    }
+
+    private static boolean[] computeIrreducible() {
+        boolean[] result = new boolean[256];
+        for (int i = 0; i < 256; i++) {
+            result[i] = checkIrreducible(i | 0x100);
         }
-        
+        return result;
+    }
+
+    private static boolean checkIrreducible(int p) {
         int deg = degree(p);
         if (deg != 8) {
             return false;
@@ -120,6 +92,10 @@ public class GF256Service {
     }
 
     public static List<Byte> getAllIrreduciblePolynomials() {
+        return new ArrayList<>(IRREDUCIBLE_LIST);
+    }
+
+    private static List<Byte> listIrreducible() {
         List<Byte> result = new ArrayList<>();
         
         for (int i = 0x100; i <= 0x1FF; i++) {
@@ -128,42 +104,29 @@ public class GF256Service {
             }
         }
         
-        return result;
+        return Collections.unmodifiableList(result);
     }
 
     public static List<Byte> factorize(int poly) {
         List<Byte> factors = new ArrayList<>();
         
+        poly = poly & 0xFFFFFF;
+        
         if (poly == 0 || poly == 1) {
             return factors;
         }
         
-        poly = poly & 0xFFFFFF;
-        
-        List<Byte> irreducibles = getAllIrreduciblePolynomials();
-        
-        for (byte irreducible : irreducibles) {
-            int irr = (irreducible & 0xFF) | 0x100;
-            
-            while (poly != 0 && poly != 1) {
-                int remainder = modPoly(poly, irr);
-                if (remainder == 0) {
-                    factors.add(irreducible);
-                    poly = dividePoly(poly, irr);
-                } else {
-                    break;
-                }
-            }
-            
-            if (poly == 1) {
-                break;
+        GF2Polynomial rest = GF2Polynomial.ONE;
+        for (GF2Polynomial factor : FactorizationService.factor(GF2Polynomial.valueOf(poly))) {
+            if (factor.degree() == 8) {
+                factors.add((byte) factor.toLong());
+            } else {
+                rest = rest.multiply(factor);
             }
         }
         
-        if (poly > 1 && degree(poly) > 0) {
-            if (degree(poly) <= 8) {
-                factors.add((byte) poly);
-            }
+        if (rest.degree() > 0 && rest.degree() <= 8) {
+            factors.add((byte) rest.toLong());
         }
         
         return factors;
@@ -191,23 +154,6 @@ public class GF256Service {
         return result;
     }
 
-    private static int divide(int a, int b) {
-        if (b == 0) return 0;
-        
-        int quotient = 0;
-        int degA = degree(a);
-        int degB = degree(b);
-        
-        while (degA >= degB && a != 0) {
-            int shift = degA - degB;
-            quotient ^= (1 << shift);
-            a ^= (b << shift);
-            degA = degree(a);
-        }
-        
-        return quotient;
-    }
-
     private static int modPoly(int a, int b) {
         if (b == 0) return a;
         
@@ -223,23 +169,6 @@ public class GF256Service {
         return a;
     }
 
-    private static int dividePoly(int a, int b) {
-        if (b == 0) return 0;
-        
-        int quotient = 0;
-        int degA = degree(a);
-        int degB = degree(b);
-        
-        while (degA >= degB && a != 0) {
-            int shift = degA - degB;
-            quotient ^= (1 << shift);
-            a ^= (b << shift);
-            degA = degree(a);
-        }
-        
-        return quotient;
-    }
-
     private static int gcdPoly(int a, int b) {
         while (b != 0) {
             int temp = modPoly(a, b);
@@ -0,0 +1,316 @@
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+
+public final class GF2Polynomial implements Comparable<GF2Polynomial> {
+    public static final GF2Polynomial ZERO = new GF2Polynomial(new long[0]);
+    public static final GF2Polynomial ONE = new GF2Polynomial(new long[] {1});
+    public static final GF2Polynomial X = new GF2Polynomial(new long[] {2});
+
+    private static final long EVEN_BITS = 0x5555555555555555L;
+
+    private final long[] words;
+
+    private GF2Polynomial(long[] words) {
+        this.words = words;
+    }
+
+    public static GF2Polynomial valueOf(long coefficients) {
+        return of(new long[] {coefficients});
+    }
+
+    public static GF2Polynomial valueOf(BigInteger coefficients) throws IllegalArgumentException {
+        if (coefficients.signum() < 0) {
+            throw new IllegalArgumentException("Coefficients must be non-negative");
+        }
+        long[] words = new long[(coefficients.bitLength() + 63) / 64];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = coefficients.shiftRight(i * 64).longValue();
+        }
+        return of(words);
+    }
+
+    public static GF2Polynomial fromExponents(int... exponents) throws IllegalArgumentException {
+        int max = -1;
+        for (int e : exponents) {
+            if (e < 0) {
+                throw new IllegalArgumentException("Exponents must be non-negative");
+            }
+            max = Math.max(max, e);
+        }
+        long[] words = new long[max / 64 + 1];
+        for (int e : exponents) {
+            words[e >>> 6] ^= 1L << e;
+        }
+        return of(words);
+    }
+
+    static GF2Polynomial random(int degreeBound, Random random) {
+        long[] words = new long[(degreeBound + 63) / 64];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = random.nextLong();
+        }
+        if ((degreeBound & 63) != 0) {
+            words[words.length - 1] &= (1L << degreeBound) - 1;
+        }
+        return of(words);
+    }
+
+    private static GF2Polynomial of(long[] words) {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return new GF2Polynomial(length == words.length ? words : Arrays.copyOf(words, length));
+    }
+
+    public int degree() {
+        return degree(words, words.length);
+    }
+
+    public boolean isZero() {
+        return words.length == 0;
+    }
+
+    public boolean isOne() {
+        return words.length == 1 && words[0] == 1;
+    }
+
+    public boolean testBit(int exponent) {
+        int index = exponent >>> 6;
+        return index < words.length && ((words[index] >>> exponent) & 1) != 0;
+    }
+
+    public GF2Polynomial add(GF2Polynomial other) {
+        long[] longer = words.length >= other.words.length ? words : other.words;
+        long[] shorter = longer == words ? other.words : words;
+        long[] result = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            result[i] ^= shorter[i];
+        }
+        return of(result);
+    }
+
+    public GF2Polynomial multiply(GF2Polynomial other) {
+        if (isZero() || other.isZero()) {
+            return ZERO;
+        }
+        long[] result = new long[words.length + other.words.length];
+        for (int i = 0; i < words.length; i++) {
+            long a = words[i];
+            long ra = Long.reverse(a);
+            for (int j = 0; j < other.words.length; j++) {
+                long b = other.words[j];
+                result[i + j] ^= BinaryField.clmulLow(a, b);
+                result[i + j + 1] ^= Long.reverse(BinaryField.clmulLow(ra, Long.reverse(b))) >>> 1;
+            }
+        }
+        return of(result);
+    }
+
+    public GF2Polynomial square() {
+        return of(squareWords(words));
+    }
+
+    public GF2Polynomial mod(GF2Polynomial divisor) throws ArithmeticException {
+        if (divisor.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        }
+        if (degree() < divisor.degree()) {
+            return this;
+        }
+        long[] remainder = words.clone();
+        reduce(remainder, divisor.words, divisor.degree(), null);
+        return of(remainder);
+    }
+
+    public GF2Polynomial divide(GF2Polynomial divisor) throws ArithmeticException {
+        return divideAndRemainder(divisor)[0];
+    }
+
+    public GF2Polynomial[] divideAndRemainder(GF2Polynomial divisor) throws ArithmeticException {
+        if (divisor.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        }
+        int shift = degree() - divisor.degree();
+        if (shift < 0) {
+            return new GF2Polynomial[] {ZERO, this};
+        }
+        long[] remainder = words.clone();
+        long[] quotient = new long[shift / 64 + 1];
+        reduce(remainder, divisor.words, divisor.degree(), quotient);
+        return new GF2Polynomial[] {of(quotient), of(remainder)};
+    }
+
+    public GF2Polynomial gcd(GF2Polynomial other) {
+        if (degree() < other.degree()) {
+            return other.gcd(this);
+        }
+        if (other.isZero()) {
+            return this;
+        }
+
+        long[] a = words.clone();
+        long[] b = other.words.clone();
+        int degB = other.degree();
+        while (degB >= 0) {
+            reduce(a, b, degB, null);
+            long[] t = a;
+            a = b;
+            b = t;
+            degB = degree(b, b.length);
+        }
+        return of(a);
+    }
+
+    public GF2Polynomial derivative() {
+        long[] result = new long[words.length];
+        for (int i = 0; i < words.length; i++) {
+            result[i] = (words[i] >>> 1) & EVEN_BITS;
+        }
+        return of(result);
+    }
+
+    public GF2Polynomial squareRoot() throws ArithmeticException {
+        long[] result = new long[(words.length + 1) / 2];
+        for (int i = 0; i < words.length; i++) {
+            if ((words[i] & ~EVEN_BITS) != 0) {
+                throw new ArithmeticException("Polynomial is not a square");
+            }
+            result[i >>> 1] |= compact(words[i]) << ((i & 1) * 32);
+        }
+        return of(result);
+    }
+
+    public GF2Polynomial squareMod(GF2Polynomial modulus) {
+        long[] square = squareWords(words);
+        reduce(square, modulus.words, modulus.degree(), null);
+        return of(square);
+    }
+
+    public GF2Polynomial multiplyMod(GF2Polynomial other, GF2Polynomial modulus) {
+        return multiply(other).mod(modulus);
+    }
+
+    public long toLong() throws ArithmeticException {
+        if (words.length > 1) {
+            throw new ArithmeticException("Degree above 63");
+        }
+        return words.length == 0 ? 0 : words[0];
+    }
+
+    public BigInteger toBigInteger() {
+        BigInteger result = BigInteger.ZERO;
+        for (int i = words.length - 1; i >= 0; i--) {
+            result = result.shiftLeft(64).or(new BigInteger(Long.toUnsignedString(words[i])));
+        }
+        return result;
+    }
+
+    @Override
+    public int compareTo(GF2Polynomial other) {
+        if (words.length != other.words.length) {
+            return Integer.compare(words.length, other.words.length);
+        }
+        for (int i = words.length - 1; i >= 0; i--) {
+            if (words[i] != other.words[i]) {
+                return Long.compareUnsigned(words[i], other.words[i]);
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof GF2Polynomial && Arrays.equals(words, ((GF2Polynomial) o).words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        if (isZero()) {
+            return "0";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (int e = degree(); e >= 0; e--) {
+            if (!testBit(e)) {
+                continue;
+            }
+            if (sb.length() > 0) {
+                sb.append(" + ");
+            }
+            sb.append(e == 0 ? "1" : e == 1 ? "x" : "x^" + e);
+        }
+        return sb.toString();
+    }
+
+    private static int degree(long[] words, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (words[i] != 0) {
+                return i * 64 + 63 - Long.numberOfLeadingZeros(words[i]);
+            }
+        }
+        return -1;
+    }
+
+    private static void reduce(long[] remainder, long[] divisor, int divisorDegree, long[] quotient) {
+        int divisorWords = divisorDegree / 64 + 1;
+        for (int e = degree(remainder, remainder.length); e >= divisorDegree; e--) {
+            if (((remainder[e >>> 6] >>> e) & 1) == 0) {
+                continue;
+            }
+            int shift = e - divisorDegree;
+            int wordShift = shift >>> 6;
+            int bitShift = shift & 63;
+            if (bitShift == 0) {
+                for (int i = 0; i < divisorWords; i++) {
+                    remainder[i + wordShift] ^= divisor[i];
+                }
+            } else {
+                long carry = 0;
+                for (int i = 0; i < divisorWords; i++) {
+                    remainder[i + wordShift] ^= (divisor[i] << bitShift) | carry;
+                    carry = divisor[i] >>> (64 - bitShift);
+                }
+                if (carry != 0) {
+                    remainder[divisorWords + wordShift] ^= carry;
+                }
+            }
+            if (quotient != null) {
+                quotient[wordShift] |= 1L << bitShift;
+            }
+        }
+    }
+
+    private static long[] squareWords(long[] words) {
+        long[] result = new long[words.length * 2];
+        for (int i = 0; i < words.length; i++) {
+            result[2 * i] = spread(words[i] & 0xFFFFFFFFL);
+            result[2 * i + 1] = spread(words[i] >>> 32);
+        }
+        return result;
+    }
+
+    private static long spread(long x) {
+        x = (x | (x << 16)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x << 8)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x << 2)) & 0x3333333333333333L;
+        x = (x | (x << 1)) & EVEN_BITS;
+        return x;
+    }
+
+    private static long compact(long x) {
+        x &= EVEN_BITS;
+        x = (x | (x >>> 1)) & 0x3333333333333333L;
+        x = (x | (x >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        x = (x | (x >>> 4)) & 0x00FF00FF00FF00FFL;
+        x = (x | (x >>> 8)) & 0x0000FFFF0000FFFFL;
+        x = (x | (x >>> 16)) & 0x00000000FFFFFFFFL;
+        return x;
+    }
+}
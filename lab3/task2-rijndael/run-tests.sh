@@ -8,5 +8,10 @@ if [ ! -d "out/test" ]; then
 fi
 
 echo "Running tests..."
-java -cp out/production:out/test RijndaelTest
+JAVA_OPTS=""
+if java --list-modules 2>/dev/null | grep -q "^jdk.incubator.vector"; then
+    JAVA_OPTS="--add-modules jdk.incubator.vector"
+fi
+
+java $JAVA_OPTS -cp out/production:out/test RijndaelTest
 
@@ -0,0 +1,598 @@
+import java.util.Arrays;
+
+public class BitslicedRijndael implements BatchCipher {
+    public static final int LANES = 64;
+
+    private static final int BLOCK_SIZE = 16;
+    private static final int SLICES = BLOCK_SIZE * 8;
+    private static final byte AES_MODULUS = 0x1B;
+
+    private final int keySize;
+    private final int rounds;
+    private final byte modulus;
+    private final boolean aesField;
+    private final long[] reductionMasks = new long[8];
+    private final int[] squareMasks = new int[8];
+
+    private long[][] encryptionRoundKeys;
+    private long[][] decryptionRoundKeys;
+
+    public BitslicedRijndael(int keySizeBits, byte modulus) {
+        this.keySize = keySizeBits / 8;
+        this.rounds = keySize / 4 + 6;
+        this.modulus = modulus;
+        this.aesField = modulus == AES_MODULUS;
+
+        int mod = modulus & 0xFF;
+        for (int i = 0; i < 8; i++) {
+            reductionMasks[i] = -(long) ((mod >>> i) & 1);
+        }
+
+        for (int j = 0; j < 8; j++) {
+            byte bit = (byte) (1 << j);
+            int square = GF256Service.multiplyMod(bit, bit, modulus) & 0xFF;
+            for (int i = 0; i < 8; i++) {
+                if (((square >> i) & 1) != 0) {
+                    squareMasks[i] |= 1 << j;
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized void setEncryptionKey(byte[] key) {
+        encryptionRoundKeys = sliceRoundKeys(key);
+    }
+
+    @Override
+    public synchronized void setDecryptionKey(byte[] key) {
+        decryptionRoundKeys = sliceRoundKeys(key);
+    }
+
+    // FIPS-197 key expansion; SubWord goes through the bitsliced S-box, one byte per lane
+    private long[][] sliceRoundKeys(byte[] key) {
+        if (key.length != keySize) {
+            throw new IllegalArgumentException("Invalid key size");
+        }
+
+        int nk = keySize / 4;
+        int words = 4 * (rounds + 1);
+        byte[] w = Arrays.copyOf(key, 4 * words);
+        long[] slices = new long[8];
+        Scratch scratch = new Scratch();
+        int rcon = 0x01;
+
+        for (int i = nk; i < words; i++) {
+            byte[] temp = Arrays.copyOfRange(w, 4 * (i - 1), 4 * i);
+            if (i % nk == 0) {
+                temp = new byte[] {temp[1], temp[2], temp[3], temp[0]};
+                subBytes(temp, slices, scratch);
+                temp[0] ^= (byte) rcon;
+                rcon = ((rcon << 1) ^ ((rcon & 0x80) != 0 ? modulus & 0xFF : 0)) & 0xFF;
+            } else if (nk > 6 && i % nk == 4) {
+                subBytes(temp, slices, scratch);
+            }
+            for (int j = 0; j < 4; j++) {
+                w[4 * i + j] = (byte) (w[4 * (i - nk) + j] ^ temp[j]);
+            }
+        }
+
+        long[][] result = new long[rounds + 1][SLICES];
+        for (int round = 0; round <= rounds; round++) {
+            for (int pos = 0; pos < BLOCK_SIZE; pos++) {
+                int value = w[round * BLOCK_SIZE + pos] & 0xFF;
+                for (int bit = 0; bit < 8; bit++) {
+                    result[round][pos * 8 + bit] = -(long) ((value >>> bit) & 1);
+                }
+            }
+        }
+        Arrays.fill(w, (byte) 0);
+
+        return result;
+    }
+
+    private void subBytes(byte[] bytes, long[] slices, Scratch scratch) {
+        Arrays.fill(slices, 0L);
+        for (int lane = 0; lane < bytes.length; lane++) {
+            for (int bit = 0; bit < 8; bit++) {
+                slices[bit] |= (long) ((bytes[lane] >>> bit) & 1) << lane;
+            }
+        }
+        sBox(slices, 0, scratch);
+        for (int lane = 0; lane < bytes.length; lane++) {
+            int value = 0;
+            for (int bit = 0; bit < 8; bit++) {
+                value |= (int) ((slices[bit] >>> lane) & 1) << bit;
+            }
+            bytes[lane] = (byte) value;
+        }
+    }
+
+    @Override
+    public int batchSize() {
+        return LANES;
+    }
+
+    // Single blocks (CBC encryption, CFB, OFB, partial tails) run through the same circuit with one
+    // populated lane: 64 times the work per block, but no table is ever indexed with secret bytes
+    @Override
+    public byte[] encrypt(byte[] block) {
+        return encryptBatch(new byte[][] {block})[0];
+    }
+
+    @Override
+    public byte[] decrypt(byte[] block) {
+        return decryptBatch(new byte[][] {block})[0];
+    }
+
+    @Override
+    public byte[][] encryptBatch(byte[][] blocks) {
+        if (encryptionRoundKeys == null) {
+            throw new IllegalStateException("Encryption key not set");
+        }
+        return process(blocks, true);
+    }
+
+    @Override
+    public byte[][] decryptBatch(byte[][] blocks) {
+        if (decryptionRoundKeys == null) {
+            throw new IllegalStateException("Decryption key not set");
+        }
+        return process(blocks, false);
+    }
+
+    private byte[][] process(byte[][] blocks, boolean encrypt) {
+        byte[][] result = new byte[blocks.length][];
+        Scratch scratch = new Scratch();
+        long[] state = new long[SLICES];
+
+        for (int offset = 0; offset < blocks.length; offset += LANES) {
+            int lanes = Math.min(LANES, blocks.length - offset);
+            load(blocks, offset, lanes, state);
+
+            if (encrypt) {
+                encryptSlices(state, scratch);
+            } else {
+                decryptSlices(state, scratch);
+            }
+
+            store(state, result, offset, lanes);
+        }
+
+        return result;
+    }
+
+    private void encryptSlices(long[] state, Scratch scratch) {
+        long[][] rk = encryptionRoundKeys;
+        int Nr = rk.length - 1;
+
+        addRoundKey(state, rk[0]);
+
+        for (int round = 1; round < Nr; round++) {
+            subBytes(state, scratch);
+            shiftRows(state, scratch.state, false);
+            mixColumns(state, scratch);
+            addRoundKey(state, rk[round]);
+        }
+
+        subBytes(state, scratch);
+        shiftRows(state, scratch.state, false);
+        addRoundKey(state, rk[Nr]);
+    }
+
+    private void decryptSlices(long[] state, Scratch scratch) {
+        long[][] rk = decryptionRoundKeys;
+        int Nr = rk.length - 1;
+
+        addRoundKey(state, rk[Nr]);
+
+        for (int round = Nr - 1; round >= 1; round--) {
+            shiftRows(state, scratch.state, true);
+            invSubBytes(state, scratch);
+            addRoundKey(state, rk[round]);
+            invMixColumns(state, scratch);
+        }
+
+        shiftRows(state, scratch.state, true);
+        invSubBytes(state, scratch);
+        addRoundKey(state, rk[0]);
+    }
+
+    // Block bytes 0-7 and 8-15 of every lane become two 64x64 bit matrices; after the transpose
+    // row 8*p + b holds bit b of byte p of all lanes
+    private static void load(byte[][] blocks, int offset, int lanes, long[] state) {
+        Arrays.fill(state, 0L);
+        for (int lane = 0; lane < lanes; lane++) {
+            byte[] block = blocks[offset + lane];
+            if (block.length != BLOCK_SIZE) {
+                throw new IllegalArgumentException("Invalid block size");
+            }
+            state[lane] = getLong(block, 0);
+            state[LANES + lane] = getLong(block, 8);
+        }
+        transpose(state, 0);
+        transpose(state, LANES);
+    }
+
+    private static void store(long[] state, byte[][] result, int offset, int lanes) {
+        transpose(state, 0);
+        transpose(state, LANES);
+        for (int lane = 0; lane < lanes; lane++) {
+            byte[] block = new byte[BLOCK_SIZE];
+            putLong(block, 0, state[lane]);
+            putLong(block, 8, state[LANES + lane]);
+            result[offset + lane] = block;
+        }
+    }
+
+    // 64x64 bit matrix transpose in place with SWAPMOVE: six rounds that swap ever smaller
+    // off-diagonal blocks (32x32, 16x16, ..., 1x1)
+    private static void transpose(long[] a, int off) {
+        long mask = 0x00000000FFFFFFFFL;
+        for (int j = 32; j != 0; j >>>= 1, mask ^= mask << j) {
+            for (int k = 0; k < 64; k = ((k | j) + 1) & ~j) {
+                long t = ((a[off + k] >>> j) ^ a[off + (k | j)]) & mask;
+                a[off + k] ^= t << j;
+                a[off + (k | j)] ^= t;
+            }
+        }
+    }
+
+    private static long getLong(byte[] block, int offset) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (block[offset + i] & 0xFF);
+        }
+        return value;
+    }
+
+    private static void putLong(byte[] block, int offset, long value) {
+        for (int i = 0; i < 8; i++) {
+            block[offset + i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private static void addRoundKey(long[] state, long[] roundKey) {
+        for (int i = 0; i < SLICES; i++) {
+            state[i] ^= roundKey[i];
+        }
+    }
+
+    private void subBytes(long[] state, Scratch scratch) {
+        for (int pos = 0; pos < BLOCK_SIZE; pos++) {
+            sBox(state, pos * 8, scratch);
+        }
+    }
+
+    // S^-1(y) = A^-1(S(A^-1(y))) for the AES field: the inversion is S followed by A^-1
+    private void invSubBytes(long[] state, Scratch scratch) {
+        for (int pos = 0; pos < BLOCK_SIZE; pos++) {
+            inverseAffine(state, pos * 8);
+            if (aesField) {
+                aesSBox(state, pos * 8);
+                inverseAffine(state, pos * 8);
+            } else {
+                invert(state, pos * 8, scratch);
+            }
+        }
+    }
+
+    private void sBox(long[] s, int off, Scratch scratch) {
+        if (aesField) {
+            aesSBox(s, off);
+        } else {
+            invert(s, off, scratch);
+            affine(s, off, scratch.byteSlices);
+        }
+    }
+
+    // Boyar-Peralta S-box circuit for x^8 + x^4 + x^3 + x + 1: 113 gates (32 AND),
+    // top linear layer, shared tower-field inversion, bottom linear layer with the affine map.
+    // x0 is the most significant bit.
+    private static void aesSBox(long[] s, int off) {
+        long x0 = s[off + 7];
+        long x1 = s[off + 6];
+        long x2 = s[off + 5];
+        long x3 = s[off + 4];
+        long x4 = s[off + 3];
+        long x5 = s[off + 2];
+        long x6 = s[off + 1];
+        long x7 = s[off];
+
+        long y14 = x3 ^ x5;
+        long y13 = x0 ^ x6;
+        long y9 = x0 ^ x3;
+        long y8 = x0 ^ x5;
+        long t0 = x1 ^ x2;
+        long y1 = t0 ^ x7;
+        long y4 = y1 ^ x3;
+        long y12 = y13 ^ y14;
+        long y2 = y1 ^ x0;
+        long y5 = y1 ^ x6;
+        long y3 = y5 ^ y8;
+        long t1 = x4 ^ y12;
+        long y15 = t1 ^ x5;
+        long y20 = t1 ^ x1;
+        long y6 = y15 ^ x7;
+        long y10 = y15 ^ t0;
+        long y11 = y20 ^ y9;
+        long y7 = x7 ^ y11;
+        long y17 = y10 ^ y11;
+        long y19 = y10 ^ y8;
+        long y16 = t0 ^ y11;
+        long y21 = y13 ^ y16;
+        long y18 = x0 ^ y16;
+
+        long t2 = y12 & y15;
+        long t3 = y3 & y6;
+        long t4 = t3 ^ t2;
+        long t5 = y4 & x7;
+        long t6 = t5 ^ t2;
+        long t7 = y13 & y16;
+        long t8 = y5 & y1;
+        long t9 = t8 ^ t7;
+        long t10 = y2 & y7;
+        long t11 = t10 ^ t7;
+        long t12 = y9 & y11;
+        long t13 = y14 & y17;
+        long t14 = t13 ^ t12;
+        long t15 = y8 & y10;
+        long t16 = t15 ^ t12;
+        long t17 = t4 ^ t14;
+        long t18 = t6 ^ t16;
+        long t19 = t9 ^ t14;
+        long t20 = t11 ^ t16;
+        long t21 = t17 ^ y20;
+        long t22 = t18 ^ y19;
+        long t23 = t19 ^ y21;
+        long t24 = t20 ^ y18;
+        long t25 = t21 ^ t22;
+        long t26 = t21 & t23;
+        long t27 = t24 ^ t26;
+        long t28 = t25 & t27;
+        long t29 = t28 ^ t22;
+        long t30 = t23 ^ t24;
+        long t31 = t22 ^ t26;
+        long t32 = t31 & t30;
+        long t33 = t32 ^ t24;
+        long t34 = t23 ^ t33;
+        long t35 = t27 ^ t33;
+        long t36 = t24 & t35;
+        long t37 = t36 ^ t34;
+        long t38 = t27 ^ t36;
+        long t39 = t29 & t38;
+        long t40 = t25 ^ t39;
+        long t41 = t40 ^ t37;
+        long t42 = t29 ^ t33;
+        long t43 = t29 ^ t40;
+        long t44 = t33 ^ t37;
+        long t45 = t42 ^ t41;
+        long z0 = t44 & y15;
+        long z1 = t37 & y6;
+        long z2 = t33 & x7;
+        long z3 = t43 & y16;
+        long z4 = t40 & y1;
+        long z5 = t29 & y7;
+        long z6 = t42 & y11;
+        long z7 = t45 & y17;
+        long z8 = t41 & y10;
+        long z9 = t44 & y12;
+        long z10 = t37 & y3;
+        long z11 = t33 & y4;
+        long z12 = t43 & y13;
+        long z13 = t40 & y5;
+        long z14 = t29 & y2;
+        long z15 = t42 & y9;
+        long z16 = t45 & y14;
+        long z17 = t41 & y8;
+
+        long t46 = z15 ^ z16;
+        long t47 = z10 ^ z11;
+        long t48 = z5 ^ z13;
+        long t49 = z9 ^ z10;
+        long t50 = z2 ^ z12;
+        long t51 = z2 ^ z5;
+        long t52 = z7 ^ z8;
+        long t53 = z0 ^ z3;
+        long t54 = z6 ^ z7;
+        long t55 = z16 ^ z17;
+        long t56 = z12 ^ t48;
+        long t57 = t50 ^ t53;
+        long t58 = z4 ^ t46;
+        long t59 = z3 ^ t54;
+        long t60 = t46 ^ t57;
+        long t61 = z14 ^ t57;
+        long t62 = t52 ^ t58;
+        long t63 = t49 ^ t58;
+        long t64 = z4 ^ t59;
+        long t65 = t61 ^ t62;
+        long t66 = z1 ^ t63;
+        long t67 = t64 ^ t65;
+
+        long s3 = t53 ^ t66;
+        s[off + 7] = t59 ^ t63;
+        s[off + 6] = t64 ^ ~s3;
+        s[off + 5] = t55 ^ ~t67;
+        s[off + 4] = s3;
+        s[off + 3] = t51 ^ t66;
+        s[off + 2] = t47 ^ t65;
+        s[off + 1] = t56 ^ ~t62;
+        s[off] = t48 ^ ~t60;
+    }
+
+    private static void affine(long[] s, int off, long[] tmp) {
+        System.arraycopy(s, off, tmp, 0, 8);
+        for (int i = 0; i < 8; i++) {
+            long bit = tmp[i] ^ tmp[(i + 4) & 7] ^ tmp[(i + 5) & 7] ^ tmp[(i + 6) & 7] ^ tmp[(i + 7) & 7];
+            s[off + i] = ((0x63 >>> i) & 1) != 0 ? ~bit : bit;
+        }
+    }
+
+    private static void inverseAffine(long[] s, int off) {
+        long b0 = s[off];
+        long b1 = s[off + 1];
+        long b2 = s[off + 2];
+        long b3 = s[off + 3];
+        long b4 = s[off + 4];
+        long b5 = s[off + 5];
+        long b6 = s[off + 6];
+        long b7 = s[off + 7];
+        // bit i = b[i + 2] ^ b[i + 5] ^ b[i + 7] (indices mod 8) ^ bit i of 0x05
+        s[off] = ~(b2 ^ b5 ^ b7);
+        s[off + 1] = b3 ^ b6 ^ b0;
+        s[off + 2] = ~(b4 ^ b7 ^ b1);
+        s[off + 3] = b5 ^ b0 ^ b2;
+        s[off + 4] = b6 ^ b1 ^ b3;
+        s[off + 5] = b7 ^ b2 ^ b4;
+        s[off + 6] = b0 ^ b3 ^ b5;
+        s[off + 7] = b1 ^ b4 ^ b6;
+    }
+
+    private void invert(long[] s, int off, Scratch scratch) {
+        long[] w = scratch.words;
+        final int x2 = 0;
+        final int x3 = 8;
+        final int x12 = 16;
+        final int t = 24;
+
+        square(s, off, w, x2, scratch);
+        multiply(w, x2, s, off, w, x3, scratch);
+        square(w, x3, w, t, scratch);
+        square(w, t, w, x12, scratch);
+        multiply(w, x12, w, x3, w, t, scratch);
+        for (int i = 0; i < 4; i++) {
+            square(w, t, w, t, scratch);
+        }
+        multiply(w, t, w, x12, w, t, scratch);
+        multiply(w, t, w, x2, s, off, scratch);
+    }
+
+    private void multiply(long[] a, int aOff, long[] b, int bOff, long[] r, int rOff, Scratch scratch) {
+        long[] p = scratch.product;
+
+        for (int k = 0; k < 15; k++) {
+            p[k] = 0L;
+        }
+        for (int i = 0; i < 8; i++) {
+            long ai = a[aOff + i];
+            for (int j = 0; j < 8; j++) {
+                p[i + j] ^= ai & b[bOff + j];
+            }
+        }
+
+        for (int k = 14; k >= 8; k--) {
+            long high = p[k];
+            for (int i = 0; i < 8; i++) {
+                p[k - 8 + i] ^= high & reductionMasks[i];
+            }
+        }
+
+        System.arraycopy(p, 0, r, rOff, 8);
+    }
+
+    private void square(long[] a, int aOff, long[] r, int rOff, Scratch scratch) {
+        long[] tmp = scratch.byteSlices;
+        for (int i = 0; i < 8; i++) {
+            long bit = 0;
+            int mask = squareMasks[i];
+            for (int j = 0; j < 8; j++) {
+                if (((mask >>> j) & 1) != 0) {
+                    bit ^= a[aOff + j];
+                }
+            }
+            tmp[i] = bit;
+        }
+        System.arraycopy(tmp, 0, r, rOff, 8);
+    }
+
+    private static void shiftRows(long[] state, long[] tmp, boolean inverse) {
+        System.arraycopy(state, 0, tmp, 0, SLICES);
+        for (int col = 0; col < 4; col++) {
+            for (int row = 1; row < 4; row++) {
+                int source = inverse ? (col - row + 4) & 3 : (col + row) & 3;
+                System.arraycopy(tmp, (source * 4 + row) * 8, state, (col * 4 + row) * 8, 8);
+            }
+        }
+    }
+
+    private void mixColumns(long[] state, Scratch scratch) {
+        for (int col = 0; col < 4; col++) {
+            mixColumn(state, col * 32, scratch);
+        }
+    }
+
+    private void invMixColumns(long[] state, Scratch scratch) {
+        long[] u = scratch.words;
+        final int even = 0;
+        final int odd = 8;
+
+        for (int col = 0; col < 4; col++) {
+            int base = col * 32;
+            for (int i = 0; i < 8; i++) {
+                u[even + i] = state[base + i] ^ state[base + 16 + i];
+                u[odd + i] = state[base + 8 + i] ^ state[base + 24 + i];
+            }
+            xtime(u, even);
+            xtime(u, even);
+            xtime(u, odd);
+            xtime(u, odd);
+            for (int i = 0; i < 8; i++) {
+                state[base + i] ^= u[even + i];
+                state[base + 16 + i] ^= u[even + i];
+                state[base + 8 + i] ^= u[odd + i];
+                state[base + 24 + i] ^= u[odd + i];
+            }
+            mixColumn(state, base, scratch);
+        }
+    }
+
+    private void mixColumn(long[] s, int base, Scratch scratch) {
+        long[] w = scratch.words;
+
+        for (int i = 0; i < 8; i++) {
+            long a0 = s[base + i];
+            long a1 = s[base + 8 + i];
+            long a2 = s[base + 16 + i];
+            long a3 = s[base + 24 + i];
+            w[32 + i] = a0 ^ a1 ^ a2 ^ a3;
+            w[i] = a0 ^ a1;
+            w[8 + i] = a1 ^ a2;
+            w[16 + i] = a2 ^ a3;
+            w[24 + i] = a3 ^ a0;
+        }
+
+        for (int row = 0; row < 4; row++) {
+            xtime(w, row * 8);
+            for (int i = 0; i < 8; i++) {
+                s[base + row * 8 + i] ^= w[32 + i] ^ w[row * 8 + i];
+            }
+        }
+    }
+
+    private void xtime(long[] v, int off) {
+        long high = v[off + 7];
+        if (aesField) {
+            // x^8 = x^4 + x^3 + x + 1
+            v[off + 7] = v[off + 6];
+            v[off + 6] = v[off + 5];
+            v[off + 5] = v[off + 4];
+            v[off + 4] = v[off + 3] ^ high;
+            v[off + 3] = v[off + 2] ^ high;
+            v[off + 2] = v[off + 1];
+            v[off + 1] = v[off] ^ high;
+            v[off] = high;
+            return;
+        }
+        for (int i = 7; i > 0; i--) {
+            v[off + i] = v[off + i - 1] ^ (high & reductionMasks[i]);
+        }
+        v[off] = high & reductionMasks[0];
+    }
+
+    private static final class Scratch {
+        final long[] state = new long[SLICES];
+        final long[] words = new long[40];
+        final long[] product = new long[15];
+        final long[] byteSlices = new long[8];
+    }
+}
@@ -1,4 +1,13 @@
-public class Rijndael implements SymmetricCipher, KeySchedule {
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class Rijndael implements SymmetricCipher, KeySchedule, BatchCipher {
+    private static final int BATCH_SIZE = 64;
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_ENGINE = "VectorRijndael";
+    private static final int DEFAULT_KEY_CACHE_CAPACITY = 1;
+    
     private final int blockSize;
     private final int keySize;
     private final byte modulus;
@@ -8,9 +17,34 @@ public class Rijndael implements SymmetricCipher, KeySchedule {
     
     private byte[] sBox;
     private byte[] invSBox;
-    private byte[][] encryptionRoundKeys;
+    private final int[] rcon;
+    
+    private final GF256Matrix mixColumns;
+    private final int[] te0;
+    private final int[] te1;
+    private final int[] te2;
+    private final int[] te3;
+    private final int[] td0;
+    private final int[] td1;
+    private final int[] td2;
+    private final int[] td3;
+    
+    private final int[][] encShift;
+    private final int[][] decShift;
+    
+    private int[] encryptionRoundKeys;
+    private int[] decryptionRoundKeys;
+    
+    private final BatchCipher vectorEngine;
+    
+    private final Object keyCacheLock = new Object();
+    private Map<ByteBuffer, ExpandedKey> keyCache = createKeyCache(DEFAULT_KEY_CACHE_CAPACITY);
     
     public Rijndael(int blockSizeBits, int keySizeBits, byte modulus) {
+        this(blockSizeBits, keySizeBits, modulus, standardMixColumns(modulus));
+    }
+    
+    public Rijndael(int blockSizeBits, int keySizeBits, byte modulus, GF256Matrix mixColumns) {
         if (blockSizeBits != 128 && blockSizeBits != 192 && blockSizeBits != 256) {
             throw new IllegalArgumentException("Block size must be 128, 192, or 256 bits");
         }
@@ -25,7 +59,58 @@ public class Rijndael implements SymmetricCipher, KeySchedule {
         this.Nk = keySizeBits / 32;
         this.Nr = Math.max(Nb, Nk) + 6;
         
+        if (mixColumns.getRows() != 4 || mixColumns.getColumns() != 4) {
+            throw new IllegalArgumentException("MixColumns matrix must be 4x4");
+        }
+        if (mixColumns.getField().getModulus() != modulus) {
+            throw new IllegalArgumentException("MixColumns matrix must be over the cipher field");
+        }
+        this.mixColumns = mixColumns;
+        
         initializeSBoxes();
+        int[][] te = mixColumns.toIntTables(sBox);
+        int[][] td = mixColumns.inverse().toIntTables(invSBox);
+        te0 = te[0];
+        te1 = te[1];
+        te2 = te[2];
+        te3 = te[3];
+        td0 = td[0];
+        td1 = td[1];
+        td2 = td[2];
+        td3 = td[3];
+        rcon = initializeRcon();
+        
+        encShift = new int[4][Nb];
+        decShift = new int[4][Nb];
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < Nb; col++) {
+                encShift[row][col] = (col + row) % Nb;
+                decShift[row][col] = (col - row + Nb) % Nb;
+            }
+        }
+        
+        vectorEngine = createVectorEngine();
+    }
+    
+    private static GF256Matrix standardMixColumns(byte modulus) {
+        return GF256Matrix.circulant(GF256Service.field(modulus), (byte) 0x02, (byte) 0x03, (byte) 0x01, (byte) 0x01);
+    }
+    
+    private BatchCipher createVectorEngine() {
+        if (blockSize != 16 || !mixColumns.equals(standardMixColumns(modulus))
+                || !ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            return null;
+        }
+        try {
+            Class<?> engine = Class.forName(VECTOR_ENGINE);
+            boolean supported = (Boolean) engine.getMethod("isSupported").invoke(null);
+            if (!supported) {
+                return null;
+            }
+            return (BatchCipher) engine.getConstructor(Rijndael.class).newInstance(this);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
     }
     
     private void initializeSBoxes() {
@@ -62,82 +147,131 @@ public class Rijndael implements SymmetricCipher, KeySchedule {
         return (byte) result;
     }
     
+    private int[] initializeRcon() {
+        int[] result = new int[Nb * (Nr + 1) / Nk + 1];
+        int mod = modulus & 0xFF;
+        int value = 0x01;
+        
+        for (int i = 1; i < result.length; i++) {
+            result[i] = value << 24;
+            value = ((value << 1) ^ ((value & 0x80) != 0 ? mod : 0)) & 0xFF;
+        }
+        
+        return result;
+    }
+    
+    public void setKeyCacheCapacity(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Key cache capacity must be positive");
+        }
+        synchronized (keyCacheLock) {
+            Map<ByteBuffer, ExpandedKey> cache = createKeyCache(capacity);
+            cache.putAll(keyCache);
+            keyCache = cache;
+        }
+    }
+    
+    private static Map<ByteBuffer, ExpandedKey> createKeyCache(int capacity) {
+        return new LinkedHashMap<ByteBuffer, ExpandedKey>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, ExpandedKey> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+    
     @Override
     public void setEncryptionKey(byte[] key) {
-        if (key.length != keySize) {
-            throw new IllegalArgumentException("Invalid key size");
-        }
-        encryptionRoundKeys = expandKey(key);
+        encryptionRoundKeys = expandedKey(key).encryption;
     }
     
     @Override
     public void setDecryptionKey(byte[] key) {
-        setEncryptionKey(key);
+        ExpandedKey expanded = expandedKey(key);
+        int[] result = expanded.decryption;
+        if (result == null) {
+            result = toDecryptionKeys(expanded.encryption);
+            expanded.decryption = result;
+        }
+        decryptionRoundKeys = result;
     }
     
-    @Override
-    public byte[][] expandKey(byte[] key) {
-        int roundKeyCount = Nr + 1;
-        byte[][] roundKeys = new byte[roundKeyCount][blockSize];
-        
-        byte[][] w = new byte[Nb * roundKeyCount][4];
+    private ExpandedKey expandedKey(byte[] key) {
+        if (key.length != keySize) {
+            throw new IllegalArgumentException("Invalid key size");
+        }
         
-        for (int i = 0; i < Nk; i++) {
-            for (int j = 0; j < 4; j++) {
-                w[i][j] = key[4 * i + j];
+        ByteBuffer id = ByteBuffer.wrap(key.clone());
+        synchronized (keyCacheLock) {
+            ExpandedKey expanded = keyCache.get(id);
+            if (expanded == null) {
+                expanded = new ExpandedKey(expandKeyWords(key));
+                keyCache.put(id, expanded);
             }
+            return expanded;
         }
+    }
+    
+    private int[] toDecryptionKeys(int[] roundKeys) {
+        int[] result = new int[roundKeys.length];
         
-        for (int i = Nk; i < Nb * roundKeyCount; i++) {
-            byte[] temp = w[i - 1].clone();
-            
-            if (i % Nk == 0) {
-                temp = subWord(rotWord(temp));
-                temp[0] ^= rcon(i / Nk);
-            } else if (Nk > 6 && i % Nk == 4) {
-                temp = subWord(temp);
-            }
-            
-            for (int j = 0; j < 4; j++) {
-                w[i][j] = (byte) (w[i - Nk][j] ^ temp[j]);
+        System.arraycopy(roundKeys, Nr * Nb, result, 0, Nb);
+        for (int round = 1; round < Nr; round++) {
+            for (int col = 0; col < Nb; col++) {
+                result[round * Nb + col] = invMixColumn(roundKeys[(Nr - round) * Nb + col]);
             }
         }
+        System.arraycopy(roundKeys, 0, result, Nr * Nb, Nb);
         
-        for (int round = 0; round < roundKeyCount; round++) {
+        return result;
+    }
+    
+    @Override
+    public byte[][] expandKey(byte[] key) {
+        if (key.length != keySize) {
+            throw new IllegalArgumentException("Invalid key size");
+        }
+        
+        int[] w = expandKeyWords(key);
+        byte[][] roundKeys = new byte[Nr + 1][blockSize];
+            
+        for (int round = 0; round <= Nr; round++) {
             for (int col = 0; col < Nb; col++) {
-                for (int row = 0; row < 4; row++) {
-                    roundKeys[round][row * Nb + col] = w[round * Nb + col][row];
-                }
+                putColumn(roundKeys[round], col * 4, w[round * Nb + col]);
             }
         }
         
         return roundKeys;
     }
     
-    private byte[] rotWord(byte[] word) {
-        byte[] result = new byte[4];
-        result[0] = word[1];
-        result[1] = word[2];
-        result[2] = word[3];
-        result[3] = word[0];
-        return result;
-    }
+    private int[] expandKeyWords(byte[] key) {
+        int total = Nb * (Nr + 1);
+        int[] w = new int[total];
+        
+        for (int i = 0; i < Nk; i++) {
+            w[i] = getColumn(key, 4 * i);
+        }
     
-    private byte[] subWord(byte[] word) {
-        byte[] result = new byte[4];
-        for (int i = 0; i < 4; i++) {
-            result[i] = sBox[word[i] & 0xFF];
+        for (int i = Nk; i < total; i++) {
+            int temp = w[i - 1];
+            
+            if (i % Nk == 0) {
+                temp = subWord(Integer.rotateLeft(temp, 8)) ^ rcon[i / Nk];
+            } else if (Nk > 6 && i % Nk == 4) {
+                temp = subWord(temp);
+            }
+    
+            w[i] = w[i - Nk] ^ temp;
         }
-        return result;
+        
+        return w;
     }
     
-    private byte rcon(int i) {
-        if (i == 1) return 0x01;
-        byte result = 0x02;
-        for (int j = 1; j < i - 1; j++) {
-            result = GF256Service.multiplyMod(result, (byte) 0x02, modulus);
-        }
-        return result;
+    private int subWord(int word) {
+        return ((sBox[word >>> 24] & 0xFF) << 24)
+                | ((sBox[(word >>> 16) & 0xFF] & 0xFF) << 16)
+                | ((sBox[(word >>> 8) & 0xFF] & 0xFF) << 8)
+                | (sBox[word & 0xFF] & 0xFF);
     }
     
     @Override
@@ -145,32 +279,43 @@ public class Rijndael implements SymmetricCipher, KeySchedule {
         if (block.length != blockSize) {
             throw new IllegalArgumentException("Invalid block size");
         }
+        if (encryptionRoundKeys == null) {
+            throw new IllegalStateException("Encryption key not set");
+        }
+        
+        int[] rk = encryptionRoundKeys;
+        int[] s1 = encShift[1];
+        int[] s2 = encShift[2];
+        int[] s3 = encShift[3];
+        int[] state = new int[Nb];
+        int[] temp = new int[Nb];
         
-        byte[][] state = new byte[4][Nb];
         for (int col = 0; col < Nb; col++) {
-            for (int row = 0; row < 4; row++) {
-                state[row][col] = block[col * 4 + row];
-            }
+            state[col] = getColumn(block, col * 4) ^ rk[col];
         }
         
-        addRoundKey(state, encryptionRoundKeys[0]);
-        
         for (int round = 1; round < Nr; round++) {
-            subBytes(state);
-            shiftRows(state);
-            mixColumns(state);
-            addRoundKey(state, encryptionRoundKeys[round]);
+            int offset = round * Nb;
+            for (int col = 0; col < Nb; col++) {
+                temp[col] = te0[state[col] >>> 24]
+                        ^ te1[(state[s1[col]] >>> 16) & 0xFF]
+                        ^ te2[(state[s2[col]] >>> 8) & 0xFF]
+                        ^ te3[state[s3[col]] & 0xFF]
+                        ^ rk[offset + col];
+            }
+            int[] swap = state;
+            state = temp;
+            temp = swap;
         }
         
-        subBytes(state);
-        shiftRows(state);
-        addRoundKey(state, encryptionRoundKeys[Nr]);
-        
         byte[] result = new byte[blockSize];
+        int offset = Nr * Nb;
         for (int col = 0; col < Nb; col++) {
-            for (int row = 0; row < 4; row++) {
-                result[col * 4 + row] = state[row][col];
-            }
+            int word = ((sBox[state[col] >>> 24] & 0xFF) << 24)
+                    | ((sBox[(state[s1[col]] >>> 16) & 0xFF] & 0xFF) << 16)
+                    | ((sBox[(state[s2[col]] >>> 8) & 0xFF] & 0xFF) << 8)
+                    | (sBox[state[s3[col]] & 0xFF] & 0xFF);
+            putColumn(result, col * 4, word ^ rk[offset + col]);
         }
         
         return result;
@@ -181,176 +326,136 @@ public class Rijndael implements SymmetricCipher, KeySchedule {
         if (block.length != blockSize) {
             throw new IllegalArgumentException("Invalid block size");
         }
-        
-        byte[][] state = new byte[4][Nb];
-        for (int col = 0; col < Nb; col++) {
-            for (int row = 0; row < 4; row++) {
-                state[row][col] = block[col * 4 + row];
-            }
+        if (decryptionRoundKeys == null) {
+            throw new IllegalStateException("Decryption key not set");
         }
         
-        addRoundKey(state, encryptionRoundKeys[Nr]);
+        int[] dk = decryptionRoundKeys;
+        int[] s1 = decShift[1];
+        int[] s2 = decShift[2];
+        int[] s3 = decShift[3];
+        int[] state = new int[Nb];
+        int[] temp = new int[Nb];
         
-        for (int round = Nr - 1; round >= 1; round--) {
-            invShiftRows(state);
-            invSubBytes(state);
-            addRoundKey(state, encryptionRoundKeys[round]);
-            invMixColumns(state);
+        for (int col = 0; col < Nb; col++) {
+            state[col] = getColumn(block, col * 4) ^ dk[col];
         }
         
-        invShiftRows(state);
-        invSubBytes(state);
-        addRoundKey(state, encryptionRoundKeys[0]);
+        for (int round = 1; round < Nr; round++) {
+            int offset = round * Nb;
+            for (int col = 0; col < Nb; col++) {
+                temp[col] = td0[state[col] >>> 24]
+                        ^ td1[(state[s1[col]] >>> 16) & 0xFF]
+                        ^ td2[(state[s2[col]] >>> 8) & 0xFF]
+                        ^ td3[state[s3[col]] & 0xFF]
+                        ^ dk[offset + col];
+            }
+            int[] swap = state;
+            state = temp;
+            temp = swap;
+        }
         
         byte[] result = new byte[blockSize];
+        int offset = Nr * Nb;
         for (int col = 0; col < Nb; col++) {
-            for (int row = 0; row < 4; row++) {
-                result[col * 4 + row] = state[row][col];
-            }
+            int word = ((invSBox[state[col] >>> 24] & 0xFF) << 24)
+                    | ((invSBox[(state[s1[col]] >>> 16) & 0xFF] & 0xFF) << 16)
+                    | ((invSBox[(state[s2[col]] >>> 8) & 0xFF] & 0xFF) << 8)
+                    | (invSBox[state[s3[col]] & 0xFF] & 0xFF);
+            putColumn(result, col * 4, word ^ dk[offset + col]);
         }
         
         return result;
     }
     
-    private void subBytes(byte[][] state) {
-        for (int row = 0; row < 4; row++) {
-            for (int col = 0; col < Nb; col++) {
-                state[row][col] = sBox[state[row][col] & 0xFF];
-            }
-        }
+    @Override
+    public int batchSize() {
+        return BATCH_SIZE;
     }
     
-    private void invSubBytes(byte[][] state) {
-        for (int row = 0; row < 4; row++) {
-            for (int col = 0; col < Nb; col++) {
-                state[row][col] = invSBox[state[row][col] & 0xFF];
-            }
+    @Override
+    public byte[][] encryptBatch(byte[][] blocks) {
+        if (vectorEngine != null) {
+            return vectorEngine.encryptBatch(blocks);
+        }
+        byte[][] result = new byte[blocks.length][];
+        for (int i = 0; i < blocks.length; i++) {
+            result[i] = encrypt(blocks[i]);
         }
+        return result;
     }
     
-    private void shiftRows(byte[][] state) {
-        for (int row = 1; row < 4; row++) {
-            byte[] temp = new byte[Nb];
-            for (int col = 0; col < Nb; col++) {
-                temp[col] = state[row][(col + row) % Nb];
-            }
-            state[row] = temp;
+    @Override
+    public byte[][] decryptBatch(byte[][] blocks) {
+        if (vectorEngine != null) {
+            return vectorEngine.decryptBatch(blocks);
+        }
+        byte[][] result = new byte[blocks.length][];
+        for (int i = 0; i < blocks.length; i++) {
+            result[i] = decrypt(blocks[i]);
         }
+        return result;
     }
     
-    private void invShiftRows(byte[][] state) {
-        for (int row = 1; row < 4; row++) {
-            byte[] temp = new byte[Nb];
-            for (int col = 0; col < Nb; col++) {
-                temp[col] = state[row][(col - row + Nb) % Nb];
-            }
-            state[row] = temp;
-        }
+    boolean isVectorized() {
+        return vectorEngine != null;
     }
     
-    private void mixColumns(byte[][] state) {
-        for (int col = 0; col < Nb; col++) {
-            byte[] column = new byte[4];
-            for (int row = 0; row < 4; row++) {
-                column[row] = state[row][col];
-            }
-            
-            byte[] mixed = mixColumn(column);
-            
-            for (int row = 0; row < 4; row++) {
-                state[row][col] = mixed[row];
-            }
-        }
+    int getBlockSize() {
+        return blockSize;
     }
     
-    private byte[] mixColumn(byte[] column) {
-        byte[] result = new byte[4];
-        
-        result[0] = (byte) (
-            GF256Service.multiplyMod((byte) 0x02, column[0], modulus) ^
-            GF256Service.multiplyMod((byte) 0x03, column[1], modulus) ^
-            column[2] ^
-            column[3]
-        );
-        
-        result[1] = (byte) (
-            column[0] ^
-            GF256Service.multiplyMod((byte) 0x02, column[1], modulus) ^
-            GF256Service.multiplyMod((byte) 0x03, column[2], modulus) ^
-            column[3]
-        );
-        
-        result[2] = (byte) (
-            column[0] ^
-            column[1] ^
-            GF256Service.multiplyMod((byte) 0x02, column[2], modulus) ^
-            GF256Service.multiplyMod((byte) 0x03, column[3], modulus)
-        );
-        
-        result[3] = (byte) (
-            GF256Service.multiplyMod((byte) 0x03, column[0], modulus) ^
-            column[1] ^
-            column[2] ^
-            GF256Service.multiplyMod((byte) 0x02, column[3], modulus)
-        );
-        
-        return result;
+    byte getModulus() {
+        return modulus;
     }
     
-    private void invMixColumns(byte[][] state) {
-        for (int col = 0; col < Nb; col++) {
-            byte[] column = new byte[4];
-            for (int row = 0; row < 4; row++) {
-                column[row] = state[row][col];
-            }
-            
-            byte[] mixed = invMixColumn(column);
-            
-            for (int row = 0; row < 4; row++) {
-                state[row][col] = mixed[row];
-            }
-        }
+    GF256Matrix getMixColumns() {
+        return mixColumns;
     }
     
-    private byte[] invMixColumn(byte[] column) {
-        byte[] result = new byte[4];
-        
-        result[0] = (byte) (
-            GF256Service.multiplyMod((byte) 0x0E, column[0], modulus) ^
-            GF256Service.multiplyMod((byte) 0x0B, column[1], modulus) ^
-            GF256Service.multiplyMod((byte) 0x0D, column[2], modulus) ^
-            GF256Service.multiplyMod((byte) 0x09, column[3], modulus)
-        );
-        
-        result[1] = (byte) (
-            GF256Service.multiplyMod((byte) 0x09, column[0], modulus) ^
-            GF256Service.multiplyMod((byte) 0x0E, column[1], modulus) ^
-            GF256Service.multiplyMod((byte) 0x0B, column[2], modulus) ^
-            GF256Service.multiplyMod((byte) 0x0D, column[3], modulus)
-        );
-        
-        result[2] = (byte) (
-            GF256Service.multiplyMod((byte) 0x0D, column[0], modulus) ^
-            GF256Service.multiplyMod((byte) 0x09, column[1], modulus) ^
-            GF256Service.multiplyMod((byte) 0x0E, column[2], modulus) ^
-            GF256Service.multiplyMod((byte) 0x0B, column[3], modulus)
-        );
-        
-        result[3] = (byte) (
-            GF256Service.multiplyMod((byte) 0x0B, column[0], modulus) ^
-            GF256Service.multiplyMod((byte) 0x0D, column[1], modulus) ^
-            GF256Service.multiplyMod((byte) 0x09, column[2], modulus) ^
-            GF256Service.multiplyMod((byte) 0x0E, column[3], modulus)
-        );
-        
-        return result;
+    byte[] getSBox() {
+        return sBox;
     }
     
-    private void addRoundKey(byte[][] state, byte[] roundKey) {
-        for (int col = 0; col < Nb; col++) {
-            for (int row = 0; row < 4; row++) {
-                state[row][col] ^= roundKey[col * 4 + row];
-            }
+    byte[] getInvSBox() {
+        return invSBox;
+    }
+    
+    int[] getEncryptionRoundKeys() {
+        return encryptionRoundKeys;
+    }
+    
+    int[] getDecryptionRoundKeys() {
+        return decryptionRoundKeys;
+    }
+    
+    private int invMixColumn(int column) {
+        return td0[sBox[column >>> 24] & 0xFF]
+                ^ td1[sBox[(column >>> 16) & 0xFF] & 0xFF]
+                ^ td2[sBox[(column >>> 8) & 0xFF] & 0xFF]
+                ^ td3[sBox[column & 0xFF] & 0xFF];
+    }
+    
+    private static int getColumn(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 24)
+                | ((data[offset + 1] & 0xFF) << 16)
+                | ((data[offset + 2] & 0xFF) << 8)
+                | (data[offset + 3] & 0xFF);
+    }
+    
+    private static void putColumn(byte[] data, int offset, int column) {
+        data[offset] = (byte) (column >>> 24);
+        data[offset + 1] = (byte) (column >>> 16);
+        data[offset + 2] = (byte) (column >>> 8);
+        data[offset + 3] = (byte) column;
+    }
+    
+    private static final class ExpandedKey {
+        final int[] encryption;
+        volatile int[] decryption;
+        
+        ExpandedKey(int[] encryption) {
+            this.encryption = encryption;
         }
     }
 }
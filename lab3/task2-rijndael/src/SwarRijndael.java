@@ -0,0 +1,142 @@
+public class SwarRijndael implements SymmetricCipher, BatchCipher {
+    private static final int BATCH_SIZE = 64;
+
+    private final Rijndael keySchedule;
+    private final byte modulus;
+    private final int blockSize;
+    private final int Nb;
+    private final byte[] sBox;
+    private final byte[] invSBox;
+    private final int[][] encShift;
+    private final int[][] decShift;
+
+    private int[] encryptionRoundKeys;
+    private int[] decryptionRoundKeys;
+
+    public SwarRijndael(int blockSizeBits, int keySizeBits, byte modulus) {
+        this.keySchedule = new Rijndael(blockSizeBits, keySizeBits, modulus);
+        this.modulus = modulus;
+        this.blockSize = blockSizeBits / 8;
+        this.Nb = blockSizeBits / 32;
+        this.sBox = keySchedule.getSBox();
+        this.invSBox = keySchedule.getInvSBox();
+
+        encShift = new int[4][Nb];
+        decShift = new int[4][Nb];
+        for (int row = 0; row < 4; row++) {
+            for (int col = 0; col < Nb; col++) {
+                encShift[row][col] = (col + row) % Nb;
+                decShift[row][col] = (col - row + Nb) % Nb;
+            }
+        }
+    }
+
+    @Override
+    public void setEncryptionKey(byte[] key) {
+        keySchedule.setEncryptionKey(key);
+        encryptionRoundKeys = keySchedule.getEncryptionRoundKeys();
+    }
+
+    @Override
+    public void setDecryptionKey(byte[] key) {
+        keySchedule.setDecryptionKey(key);
+        decryptionRoundKeys = keySchedule.getDecryptionRoundKeys();
+    }
+
+    @Override
+    public byte[] encrypt(byte[] block) {
+        if (block.length != blockSize) {
+            throw new IllegalArgumentException("Invalid block size");
+        }
+        if (encryptionRoundKeys == null) {
+            throw new IllegalStateException("Encryption key not set");
+        }
+        return process(block, encryptionRoundKeys, sBox, encShift, true);
+    }
+
+    @Override
+    public byte[] decrypt(byte[] block) {
+        if (block.length != blockSize) {
+            throw new IllegalArgumentException("Invalid block size");
+        }
+        if (decryptionRoundKeys == null) {
+            throw new IllegalStateException("Decryption key not set");
+        }
+        return process(block, decryptionRoundKeys, invSBox, decShift, false);
+    }
+
+    private byte[] process(byte[] block, int[] rk, byte[] box, int[][] shift, boolean encrypt) {
+        int Nr = rk.length / Nb - 1;
+        int[] s1 = shift[1];
+        int[] s2 = shift[2];
+        int[] s3 = shift[3];
+        int[] state = new int[Nb];
+        int[] temp = new int[Nb];
+
+        for (int col = 0; col < Nb; col++) {
+            state[col] = getColumn(block, col * 4) ^ rk[col];
+        }
+
+        for (int round = 1; round <= Nr; round++) {
+            for (int col = 0; col < Nb; col++) {
+                temp[col] = ((box[state[col] >>> 24] & 0xFF) << 24)
+                        | ((box[(state[s1[col]] >>> 16) & 0xFF] & 0xFF) << 16)
+                        | ((box[(state[s2[col]] >>> 8) & 0xFF] & 0xFF) << 8)
+                        | (box[state[s3[col]] & 0xFF] & 0xFF);
+            }
+
+            int offset = round * Nb;
+            for (int col = 0; col < Nb; col += 2) {
+                long pair = ((long) temp[col] << 32) | (temp[col + 1] & 0xFFFFFFFFL);
+                if (round < Nr) {
+                    pair = encrypt ? GF256Swar.mixColumns(pair, modulus) : GF256Swar.invMixColumns(pair, modulus);
+                }
+                state[col] = (int) (pair >>> 32) ^ rk[offset + col];
+                state[col + 1] = (int) pair ^ rk[offset + col + 1];
+            }
+        }
+
+        byte[] result = new byte[blockSize];
+        for (int col = 0; col < Nb; col++) {
+            putColumn(result, col * 4, state[col]);
+        }
+        return result;
+    }
+
+    @Override
+    public int batchSize() {
+        return BATCH_SIZE;
+    }
+
+    @Override
+    public byte[][] encryptBatch(byte[][] blocks) {
+        byte[][] result = new byte[blocks.length][];
+        for (int i = 0; i < blocks.length; i++) {
+            result[i] = encrypt(blocks[i]);
+        }
+        return result;
+    }
+
+    @Override
+    public byte[][] decryptBatch(byte[][] blocks) {
+        byte[][] result = new byte[blocks.length][];
+        for (int i = 0; i < blocks.length; i++) {
+            result[i] = decrypt(blocks[i]);
+        }
+        return result;
+    }
+
+    private static int getColumn(byte[] data, int offset) {
+        return ((data[offset] & 0xFF) << 24)
+                | ((data[offset + 1] & 0xFF) << 16)
+                | ((data[offset + 2] & 0xFF) << 8)
+                | (data[offset + 3] & 0xFF);
+    }
+
+    private static void putColumn(byte[] data, int offset, int column) {
+        data[offset] = (byte) (column >>> 24);
+        data[offset + 1] = (byte) (column >>> 16);
+        data[offset + 2] = (byte) (column >>> 8);
+        data[offset + 3] = (byte) column;
+    }
+}
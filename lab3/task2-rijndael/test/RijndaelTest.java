@@ -13,7 +13,16 @@ public class RijndaelTest {
         testAES256();
         testRijndaelVariants();
         testKeyReuse();
+        testKeyCache();
         testCustomModulus();
+        testSeparateDecryptionKey();
+        testMissingKey();
+        testBitslicedMatchesTables();
+        testBatchMatchesSingleBlock();
+        testFips197KnownAnswers();
+        testJdkAesBackend();
+        testCustomMixColumns();
+        testSwarMatchesTables();
         
         System.out.println("\n=== Test Results ===");
         System.out.println("Passed: " + passed);
@@ -157,6 +166,61 @@ public class RijndaelTest {
         }
     }
     
+    private static void testKeyCache() {
+        System.out.println("\nTesting key schedule cache...");
+        
+        int[][] configs = {{128, 128}, {128, 256}, {192, 192}, {256, 128}};
+        
+        for (int[] config : configs) {
+            Rijndael cached = new Rijndael(config[0], config[1], (byte) 0x1B);
+            cached.setKeyCacheCapacity(2);
+            
+            byte[][] keys = new byte[4][config[1] / 8];
+            for (int k = 0; k < keys.length; k++) {
+                for (int i = 0; i < keys[k].length; i++) {
+                    keys[k][i] = (byte) (k * 31 + i * 7);
+                }
+            }
+            
+            byte[] plaintext = new byte[config[0] / 8];
+            for (int i = 0; i < plaintext.length; i++) {
+                plaintext[i] = (byte) (i * 13);
+            }
+            
+            boolean match = true;
+            for (int round = 0; round < 12; round++) {
+                byte[] key = keys[(round * 3) % keys.length];
+                Rijndael fresh = new Rijndael(config[0], config[1], (byte) 0x1B);
+                fresh.setEncryptionKey(key);
+                cached.setEncryptionKey(key);
+                cached.setDecryptionKey(key);
+                
+                byte[] expected = fresh.encrypt(plaintext);
+                byte[] ciphertext = cached.encrypt(plaintext);
+                match &= Arrays.equals(expected, ciphertext);
+                match &= Arrays.equals(plaintext, cached.decrypt(ciphertext));
+                key[0] ^= 0x5A;
+            }
+            
+            assertTrue(match, String.format("Rijndael-%d/%d with alternating keys matches fresh instances",
+                config[0], config[1]));
+        }
+        
+        Rijndael cipher = new Rijndael(128, 128, (byte) 0x1B);
+        try {
+            cipher.setKeyCacheCapacity(0);
+            fail("Zero key cache capacity should throw");
+        } catch (IllegalArgumentException e) {
+            pass("Zero key cache capacity throws exception");
+        }
+        try {
+            cipher.setEncryptionKey(new byte[24]);
+            fail("Wrong key size should throw");
+        } catch (IllegalArgumentException e) {
+            pass("Wrong key size throws exception");
+        }
+    }
+    
     private static void testCustomModulus() {
         System.out.println("\nTesting custom moduli...");
         
@@ -182,6 +246,388 @@ public class RijndaelTest {
         }
     }
     
+    private static void testSeparateDecryptionKey() {
+        System.out.println("\nTesting separate encryption/decryption instances...");
+        
+        int[][] configs = {
+            {128, 128}, {128, 256}, {192, 192}, {256, 128}, {256, 256}
+        };
+        byte[] moduli = {(byte) 0x1B, (byte) 0x4D};
+        
+        for (byte modulus : moduli) {
+            for (int[] config : configs) {
+                Rijndael encryptor = new Rijndael(config[0], config[1], modulus);
+                Rijndael decryptor = new Rijndael(config[0], config[1], modulus);
+                
+                byte[] key = new byte[config[1] / 8];
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = (byte) (i * 11 + 7);
+                }
+                
+                encryptor.setEncryptionKey(key);
+                decryptor.setDecryptionKey(key);
+                
+                boolean allMatch = true;
+                for (int n = 0; n < 8; n++) {
+                    byte[] plaintext = new byte[config[0] / 8];
+                    for (int i = 0; i < plaintext.length; i++) {
+                        plaintext[i] = (byte) (n * 31 + i * 7);
+                    }
+                    byte[] decrypted = decryptor.decrypt(encryptor.encrypt(plaintext));
+                    allMatch &= Arrays.equals(plaintext, decrypted);
+                }
+                
+                assertTrue(allMatch, String.format("Rijndael-%d/%d modulus 0x%02X with decryption-only key",
+                    config[0], config[1], (modulus & 0xFF) | 0x100));
+            }
+        }
+    }
+    
+    private static void testMissingKey() {
+        System.out.println("\nTesting missing key...");
+        
+        Rijndael cipher = new Rijndael(128, 128, (byte) 0x1B);
+        cipher.setEncryptionKey(new byte[16]);
+        
+        try {
+            cipher.decrypt(new byte[16]);
+            fail("decrypt without decryption key should throw");
+        } catch (IllegalStateException e) {
+            pass("decrypt without decryption key throws exception");
+        }
+    }
+    
+    private static void testBitslicedMatchesTables() {
+        System.out.println("\nTesting bitsliced Rijndael...");
+        
+        byte[] moduli = {(byte) 0x1B, (byte) 0x1D, (byte) 0x4D};
+        int[] keySizes = {128, 192, 256};
+        
+        for (byte modulus : moduli) {
+            for (int keySize : keySizes) {
+                Rijndael reference = new Rijndael(128, keySize, modulus);
+                BitslicedRijndael bitsliced = new BitslicedRijndael(keySize, modulus);
+                
+                byte[] key = new byte[keySize / 8];
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = (byte) (i * 13 + modulus);
+                }
+                reference.setEncryptionKey(key);
+                reference.setDecryptionKey(key);
+                bitsliced.setEncryptionKey(key);
+                bitsliced.setDecryptionKey(key);
+                
+                byte[][] blocks = new byte[BitslicedRijndael.LANES + 7][16];
+                for (int b = 0; b < blocks.length; b++) {
+                    for (int i = 0; i < 16; i++) {
+                        blocks[b][i] = (byte) (b * 17 + i * 29);
+                    }
+                }
+                
+                byte[][] encrypted = bitsliced.encryptBatch(blocks);
+                byte[][] decrypted = bitsliced.decryptBatch(encrypted);
+                
+                boolean encryptMatch = true;
+                boolean decryptMatch = true;
+                for (int b = 0; b < blocks.length; b++) {
+                    encryptMatch &= Arrays.equals(reference.encrypt(blocks[b]), encrypted[b]);
+                    decryptMatch &= Arrays.equals(blocks[b], decrypted[b]);
+                }
+                encryptMatch &= Arrays.equals(reference.encrypt(blocks[3]), bitsliced.encrypt(blocks[3]));
+                decryptMatch &= Arrays.equals(blocks[3], bitsliced.decrypt(encrypted[3]));
+                
+                String name = String.format("Bitsliced Rijndael-128/%d modulus 0x%02X", keySize, (modulus & 0xFF) | 0x100);
+                assertTrue(encryptMatch, name + " matches table implementation");
+                assertTrue(decryptMatch, name + " batch decryption");
+            }
+        }
+    }
+    
+    private static void testBatchMatchesSingleBlock() {
+        System.out.println("\nTesting batch processing...");
+        
+        byte[] moduli = {(byte) 0x1B, (byte) 0x2B};
+        int[][] configs = {{128, 128}, {128, 256}, {256, 128}};
+        
+        for (byte modulus : moduli) {
+            for (int[] config : configs) {
+                Rijndael cipher = new Rijndael(config[0], config[1], modulus);
+                
+                byte[] key = new byte[config[1] / 8];
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = (byte) (i * 3 + 1);
+                }
+                cipher.setEncryptionKey(key);
+                cipher.setDecryptionKey(key);
+                
+                byte[][] blocks = new byte[cipher.batchSize() + 5][config[0] / 8];
+                for (int b = 0; b < blocks.length; b++) {
+                    for (int i = 0; i < blocks[b].length; i++) {
+                        blocks[b][i] = (byte) (b * 19 + i);
+                    }
+                }
+                
+                byte[][] encrypted = cipher.encryptBatch(blocks);
+                byte[][] decrypted = cipher.decryptBatch(encrypted);
+                
+                boolean encryptMatch = true;
+                boolean decryptMatch = true;
+                for (int b = 0; b < blocks.length; b++) {
+                    encryptMatch &= Arrays.equals(cipher.encrypt(blocks[b]), encrypted[b]);
+                    decryptMatch &= Arrays.equals(blocks[b], decrypted[b]);
+                }
+                
+                String name = String.format("Rijndael-%d/%d modulus 0x%02X batch (%s)", config[0], config[1],
+                    (modulus & 0xFF) | 0x100, cipher.isVectorized() ? "vector" : "scalar");
+                assertTrue(encryptMatch, name + " encryption matches single blocks");
+                assertTrue(decryptMatch, name + " decryption");
+            }
+        }
+    }
+    
+    private static void testFips197KnownAnswers() {
+        System.out.println("\nTesting FIPS-197 known answers...");
+        
+        String plaintext = "00112233445566778899aabbccddeeff";
+        String[][] vectors = {
+            {"000102030405060708090a0b0c0d0e0f", "69c4e0d86a7b0430d8cdb78070b4c55a"},
+            {"000102030405060708090a0b0c0d0e0f1011121314151617", "dda97ca4864cdfe06eaf70a0ec0d7191"},
+            {"000102030405060708090a0b0c0d0e0f101112131415161718191a1b1c1d1e1f", "8ea2b7ca516745bfeafc49904b496089"}
+        };
+        
+        for (String[] vector : vectors) {
+            byte[] key = fromHex(vector[0]);
+            Rijndael cipher = new Rijndael(128, key.length * 8, (byte) 0x1B);
+            cipher.setEncryptionKey(key);
+            cipher.setDecryptionKey(key);
+            
+            byte[] ciphertext = cipher.encrypt(fromHex(plaintext));
+            assertTrue(Arrays.equals(fromHex(vector[1]), ciphertext),
+                String.format("AES-%d FIPS-197 encryption", key.length * 8));
+            assertTrue(Arrays.equals(fromHex(plaintext), cipher.decrypt(ciphertext)),
+                String.format("AES-%d FIPS-197 decryption", key.length * 8));
+        }
+    }
+    
+    private static void testJdkAesBackend() {
+        System.out.println("\nTesting JDK AES backend...");
+        
+        int[][] configs = {{128, 128, 0x1B}, {128, 256, 0x1B}, {128, 128, 0x1D}, {256, 128, 0x1B}};
+        
+        for (int[] config : configs) {
+            byte modulus = (byte) config[2];
+            JdkAesRijndael backend = new JdkAesRijndael(config[0], config[1], modulus);
+            Rijndael reference = new Rijndael(config[0], config[1], modulus);
+            
+            byte[] key = new byte[config[1] / 8];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = (byte) (i * 9 + 2);
+            }
+            backend.setEncryptionKey(key);
+            backend.setDecryptionKey(key);
+            reference.setEncryptionKey(key);
+            reference.setDecryptionKey(key);
+            
+            byte[][] blocks = new byte[10][config[0] / 8];
+            for (int b = 0; b < blocks.length; b++) {
+                for (int i = 0; i < blocks[b].length; i++) {
+                    blocks[b][i] = (byte) (b * 5 + i * 3);
+                }
+            }
+            
+            byte[][] encrypted = backend.encryptBatch(blocks);
+            byte[][] decrypted = backend.decryptBatch(encrypted);
+            boolean match = true;
+            for (int b = 0; b < blocks.length; b++) {
+                match &= Arrays.equals(reference.encrypt(blocks[b]), backend.encrypt(blocks[b]));
+                match &= Arrays.equals(reference.encrypt(blocks[b]), encrypted[b]);
+                match &= Arrays.equals(blocks[b], backend.decrypt(encrypted[b]));
+                match &= Arrays.equals(blocks[b], decrypted[b]);
+            }
+            
+            boolean standard = config[0] == 128 && config[2] == 0x1B;
+            String name = String.format("Rijndael-%d/%d modulus 0x%02X", config[0], config[1], config[2] | 0x100);
+            assertTrue(match, name + " backend matches pure-Java engine");
+            assertTrue(backend.isAccelerated() == standard,
+                name + (standard ? " uses JDK AES" : " falls back to pure-Java engine"));
+        }
+        
+        JdkAesRijndael backend = new JdkAesRijndael(128, 128, (byte) 0x1B);
+        backend.setEncryptionKey(new byte[16]);
+        try {
+            backend.encrypt(new byte[15]);
+            fail("JDK backend with wrong block size should throw");
+        } catch (IllegalArgumentException e) {
+            pass("JDK backend with wrong block size throws exception");
+        }
+        try {
+            backend.decrypt(new byte[16]);
+            fail("JDK backend decrypt without key should throw");
+        } catch (IllegalStateException e) {
+            pass("JDK backend decrypt without key throws exception");
+        }
+        try {
+            backend.setEncryptionKey(new byte[24]);
+            fail("JDK backend with wrong key size should throw");
+        } catch (IllegalArgumentException e) {
+            pass("JDK backend with wrong key size throws exception");
+        }
+    }
+    
+    private static void testCustomMixColumns() {
+        System.out.println("\nTesting custom MixColumns matrices...");
+        
+        GF256Field aesField = GF256Service.field((byte) 0x1B);
+        GF256Matrix standard = GF256Matrix.circulant(aesField, (byte) 0x02, (byte) 0x03, (byte) 0x01, (byte) 0x01);
+        byte[] key = new byte[16];
+        for (int i = 0; i < key.length; i++) {
+            key[i] = (byte) (i * 13 + 1);
+        }
+        byte[] block = new byte[16];
+        Rijndael aes = new Rijndael(128, 128, (byte) 0x1B);
+        Rijndael explicit = new Rijndael(128, 128, (byte) 0x1B, standard);
+        aes.setEncryptionKey(key);
+        explicit.setEncryptionKey(key);
+        assertTrue(Arrays.equals(aes.encrypt(block), explicit.encrypt(block)),
+            "explicit AES matrix gives standard ciphertext");
+        
+        GF256Field field4D = GF256Service.field((byte) 0x4D);
+        GF256Matrix[] matrices = {
+            standard.transpose(),
+            GF256Matrix.circulant(field4D, (byte) 0x01, (byte) 0x02, (byte) 0x04, (byte) 0x06)
+        };
+        int[][] configs = {{128, 128}, {192, 256}, {256, 192}};
+        
+        for (GF256Matrix matrix : matrices) {
+            byte modulus = matrix.getField().getModulus();
+            for (int[] config : configs) {
+                Rijndael encryptor = new Rijndael(config[0], config[1], modulus, matrix);
+                Rijndael decryptor = new Rijndael(config[0], config[1], modulus, matrix);
+                byte[] cipherKey = Arrays.copyOf(key, config[1] / 8);
+                encryptor.setEncryptionKey(cipherKey);
+                decryptor.setDecryptionKey(cipherKey);
+                
+                boolean match = true;
+                for (int n = 0; n < 8; n++) {
+                    byte[] plaintext = new byte[config[0] / 8];
+                    for (int i = 0; i < plaintext.length; i++) {
+                        plaintext[i] = (byte) (n * 29 + i * 5);
+                    }
+                    byte[] ciphertext = encryptor.encrypt(plaintext);
+                    match &= Arrays.equals(ciphertext, referenceEncrypt(encryptor, matrix, cipherKey, plaintext));
+                    match &= Arrays.equals(plaintext, decryptor.decrypt(ciphertext));
+                }
+                
+                assertTrue(match && !encryptor.isVectorized(), String.format(
+                    "Rijndael-%d/%d modulus 0x%02X, MixColumns row %s matches byte-wise reference",
+                    config[0], config[1], (modulus & 0xFF) | 0x100, matrix.toString().split("\n")[0]));
+            }
+        }
+        
+        GF256Matrix[] invalid = {
+            GF256Matrix.circulant(aesField, (byte) 0x01, (byte) 0x01, (byte) 0x01, (byte) 0x01),
+            GF256Matrix.identity(aesField, 3),
+            GF256Matrix.circulant(field4D, (byte) 0x02, (byte) 0x03, (byte) 0x01, (byte) 0x01)
+        };
+        String[] reasons = {"singular", "3x3", "foreign-field"};
+        for (int i = 0; i < invalid.length; i++) {
+            try {
+                new Rijndael(128, 128, (byte) 0x1B, invalid[i]);
+                fail(reasons[i] + " MixColumns matrix should throw");
+            } catch (IllegalArgumentException e) {
+                pass(reasons[i] + " MixColumns matrix throws exception");
+            }
+        }
+    }
+    
+    private static void testSwarMatchesTables() {
+        System.out.println("\nTesting SWAR engine...");
+        
+        int[][] configs = {{128, 128, 0x1B}, {128, 256, 0x1D}, {192, 192, 0x1B}, {256, 128, 0x4D}, {256, 256, 0x1B}};
+        
+        for (int[] config : configs) {
+            byte modulus = (byte) config[2];
+            SwarRijndael swar = new SwarRijndael(config[0], config[1], modulus);
+            Rijndael reference = new Rijndael(config[0], config[1], modulus);
+            
+            byte[] key = new byte[config[1] / 8];
+            for (int i = 0; i < key.length; i++) {
+                key[i] = (byte) (i * 17 + 4);
+            }
+            swar.setEncryptionKey(key);
+            swar.setDecryptionKey(key);
+            reference.setEncryptionKey(key);
+            
+            byte[][] blocks = new byte[20][config[0] / 8];
+            for (int b = 0; b < blocks.length; b++) {
+                for (int i = 0; i < blocks[b].length; i++) {
+                    blocks[b][i] = (byte) (b * 7 + i * 13);
+                }
+            }
+            
+            byte[][] encrypted = swar.encryptBatch(blocks);
+            byte[][] decrypted = swar.decryptBatch(encrypted);
+            boolean match = true;
+            for (int b = 0; b < blocks.length; b++) {
+                match &= Arrays.equals(reference.encrypt(blocks[b]), encrypted[b]);
+                match &= Arrays.equals(blocks[b], decrypted[b]);
+            }
+            
+            assertTrue(match, String.format("Rijndael-%d/%d modulus 0x%02X SWAR engine matches T-tables",
+                config[0], config[1], config[2] | 0x100));
+        }
+        
+        byte[] key = fromHex("000102030405060708090a0b0c0d0e0f");
+        SwarRijndael aes = new SwarRijndael(128, 128, (byte) 0x1B);
+        aes.setEncryptionKey(key);
+        assertTrue(Arrays.equals(aes.encrypt(fromHex("00112233445566778899aabbccddeeff")),
+            fromHex("69c4e0d86a7b0430d8cdb78070b4c55a")), "SWAR AES-128 matches FIPS-197 C.1");
+        
+        try {
+            aes.decrypt(new byte[16]);
+            fail("SWAR decrypt without key should throw");
+        } catch (IllegalStateException e) {
+            pass("SWAR decrypt without key throws exception");
+        }
+    }
+    
+    private static byte[] referenceEncrypt(Rijndael cipher, GF256Matrix matrix, byte[] key, byte[] plaintext) {
+        byte[][] roundKeys = cipher.expandKey(key);
+        byte[] sBox = cipher.getSBox();
+        int nb = plaintext.length / 4;
+        int rounds = roundKeys.length - 1;
+        byte[] state = plaintext.clone();
+        
+        for (int i = 0; i < state.length; i++) {
+            state[i] ^= roundKeys[0][i];
+        }
+        for (int round = 1; round <= rounds; round++) {
+            byte[] next = new byte[state.length];
+            for (int col = 0; col < nb; col++) {
+                byte[] column = new byte[4];
+                for (int row = 0; row < 4; row++) {
+                    column[row] = sBox[state[((col + row) % nb) * 4 + row] & 0xFF];
+                }
+                if (round < rounds) {
+                    column = matrix.multiply(column);
+                }
+                for (int row = 0; row < 4; row++) {
+                    next[col * 4 + row] = (byte) (column[row] ^ roundKeys[round][col * 4 + row]);
+                }
+            }
+            state = next;
+        }
+        return state;
+    }
+    
+    private static byte[] fromHex(String hex) {
+        byte[] result = new byte[hex.length() / 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return result;
+    }
+    
     private static void assertTrue(boolean condition, String message) {
         if (condition) {
             pass(message);
@@ -0,0 +1,220 @@
+import java.util.Arrays;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+public class VectorRijndael implements BatchCipher {
+    private static final VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+    private static final int BLOCK_SIZE = 16;
+    private static final int BLOCKS_PER_VECTOR = SPECIES.length() / BLOCK_SIZE;
+    private static final int BATCH_SIZE = 64;
+
+    private final Rijndael rijndael;
+    private final byte reduction;
+    private final ByteVector[] sBoxRows = new ByteVector[16];
+    private final ByteVector[] invSBoxRows = new ByteVector[16];
+
+    private final VectorShuffle<Byte> shiftRows;
+    private final VectorShuffle<Byte> invShiftRows;
+    private final VectorShuffle<Byte> rotate1;
+    private final VectorShuffle<Byte> rotate2;
+    private final VectorShuffle<Byte> rotate3;
+
+    public static boolean isSupported() {
+        return BLOCKS_PER_VECTOR > 0 && SPECIES.length() % BLOCK_SIZE == 0;
+    }
+
+    public VectorRijndael(Rijndael rijndael) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("Vector length is smaller than one block");
+        }
+        if (rijndael.getBlockSize() != BLOCK_SIZE) {
+            throw new IllegalArgumentException("Only 128-bit blocks are supported");
+        }
+
+        this.rijndael = rijndael;
+        this.reduction = rijndael.getModulus();
+
+        byte[] sBox = rijndael.getSBox();
+        byte[] invSBox = rijndael.getInvSBox();
+        byte[] row = new byte[SPECIES.length()];
+        for (int high = 0; high < 16; high++) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] = sBox[high * 16 + i % 16];
+            }
+            sBoxRows[high] = ByteVector.fromArray(SPECIES, row, 0);
+            for (int i = 0; i < row.length; i++) {
+                row[i] = invSBox[high * 16 + i % 16];
+            }
+            invSBoxRows[high] = ByteVector.fromArray(SPECIES, row, 0);
+        }
+
+        shiftRows = shuffle(0, 1);
+        invShiftRows = shuffle(0, -1);
+        rotate1 = shuffle(1, 0);
+        rotate2 = shuffle(2, 0);
+        rotate3 = shuffle(3, 0);
+    }
+
+    private static VectorShuffle<Byte> shuffle(int rowShift, int columnShift) {
+        int[] indexes = new int[SPECIES.length()];
+        for (int i = 0; i < indexes.length; i++) {
+            int block = i / BLOCK_SIZE;
+            int col = (i % BLOCK_SIZE) / 4;
+            int row = i % 4;
+            int sourceCol = (col + columnShift * row + 4) % 4;
+            int sourceRow = (row + rowShift) % 4;
+            indexes[i] = block * BLOCK_SIZE + sourceCol * 4 + sourceRow;
+        }
+        return VectorShuffle.fromArray(SPECIES, indexes, 0);
+    }
+
+    @Override
+    public void setEncryptionKey(byte[] key) {
+        rijndael.setEncryptionKey(key);
+    }
+
+    @Override
+    public void setDecryptionKey(byte[] key) {
+        rijndael.setDecryptionKey(key);
+    }
+
+    @Override
+    public byte[] encrypt(byte[] block) {
+        return rijndael.encrypt(block);
+    }
+
+    @Override
+    public byte[] decrypt(byte[] block) {
+        return rijndael.decrypt(block);
+    }
+
+    @Override
+    public int batchSize() {
+        return BATCH_SIZE;
+    }
+
+    @Override
+    public byte[][] encryptBatch(byte[][] blocks) {
+        int[] roundKeys = rijndael.getEncryptionRoundKeys();
+        if (roundKeys == null) {
+            throw new IllegalStateException("Encryption key not set");
+        }
+        return process(blocks, roundKeyVectors(roundKeys), true);
+    }
+
+    @Override
+    public byte[][] decryptBatch(byte[][] blocks) {
+        int[] roundKeys = rijndael.getDecryptionRoundKeys();
+        if (roundKeys == null) {
+            throw new IllegalStateException("Decryption key not set");
+        }
+        return process(blocks, roundKeyVectors(roundKeys), false);
+    }
+
+    private static ByteVector[] roundKeyVectors(int[] roundKeys) {
+        int rounds = roundKeys.length / 4;
+        ByteVector[] result = new ByteVector[rounds];
+        byte[] buffer = new byte[SPECIES.length()];
+
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < buffer.length; i++) {
+                int word = roundKeys[round * 4 + (i % BLOCK_SIZE) / 4];
+                buffer[i] = (byte) (word >>> (24 - 8 * (i % 4)));
+            }
+            result[round] = ByteVector.fromArray(SPECIES, buffer, 0);
+        }
+
+        return result;
+    }
+
+    private byte[][] process(byte[][] blocks, ByteVector[] keys, boolean encrypt) {
+        byte[][] result = new byte[blocks.length][];
+        byte[] buffer = new byte[SPECIES.length()];
+
+        for (int offset = 0; offset < blocks.length; offset += BLOCKS_PER_VECTOR) {
+            int count = Math.min(BLOCKS_PER_VECTOR, blocks.length - offset);
+            for (int i = 0; i < BLOCKS_PER_VECTOR; i++) {
+                if (i < count) {
+                    byte[] block = blocks[offset + i];
+                    if (block.length != BLOCK_SIZE) {
+                        throw new IllegalArgumentException("Invalid block size");
+                    }
+                    System.arraycopy(block, 0, buffer, i * BLOCK_SIZE, BLOCK_SIZE);
+                } else {
+                    Arrays.fill(buffer, i * BLOCK_SIZE, (i + 1) * BLOCK_SIZE, (byte) 0);
+                }
+            }
+
+            ByteVector state = ByteVector.fromArray(SPECIES, buffer, 0);
+            state = encrypt ? encryptVector(state, keys) : decryptVector(state, keys);
+            state.intoArray(buffer, 0);
+
+            for (int i = 0; i < count; i++) {
+                byte[] block = new byte[BLOCK_SIZE];
+                System.arraycopy(buffer, i * BLOCK_SIZE, block, 0, BLOCK_SIZE);
+                result[offset + i] = block;
+            }
+        }
+
+        return result;
+    }
+
+    private ByteVector encryptVector(ByteVector state, ByteVector[] keys) {
+        int Nr = keys.length - 1;
+
+        state = state.lanewise(VectorOperators.XOR, keys[0]);
+        for (int round = 1; round < Nr; round++) {
+            state = subBytes(state, sBoxRows).rearrange(shiftRows);
+            state = mixColumns(state).lanewise(VectorOperators.XOR, keys[round]);
+        }
+        state = subBytes(state, sBoxRows).rearrange(shiftRows);
+        return state.lanewise(VectorOperators.XOR, keys[Nr]);
+    }
+
+    private ByteVector decryptVector(ByteVector state, ByteVector[] keys) {
+        int Nr = keys.length - 1;
+
+        state = state.lanewise(VectorOperators.XOR, keys[0]);
+        for (int round = 1; round < Nr; round++) {
+            state = subBytes(state, invSBoxRows).rearrange(invShiftRows);
+            state = invMixColumns(state).lanewise(VectorOperators.XOR, keys[round]);
+        }
+        state = subBytes(state, invSBoxRows).rearrange(invShiftRows);
+        return state.lanewise(VectorOperators.XOR, keys[Nr]);
+    }
+
+    private static ByteVector subBytes(ByteVector state, ByteVector[] rows) {
+        ByteVector low = state.and((byte) 0x0F);
+        ByteVector high = state.lanewise(VectorOperators.LSHR, 4);
+        ByteVector result = ByteVector.zero(SPECIES);
+
+        for (int h = 0; h < 16; h++) {
+            result = result.blend(low.selectFrom(rows[h]), high.eq((byte) h));
+        }
+
+        return result;
+    }
+
+    private ByteVector xtime(ByteVector v) {
+        // Arithmetic shift spreads the top bit over the byte: 0x00 or 0xFF, masked to the reduction
+        ByteVector carry = v.lanewise(VectorOperators.ASHR, 7).and(reduction);
+        return v.lanewise(VectorOperators.LSHL, 1).lanewise(VectorOperators.XOR, carry);
+    }
+
+    private ByteVector mixColumns(ByteVector a) {
+        ByteVector r1 = a.rearrange(rotate1);
+        ByteVector r2 = a.rearrange(rotate2);
+        ByteVector r3 = a.rearrange(rotate3);
+        return xtime(a.lanewise(VectorOperators.XOR, r1))
+                .lanewise(VectorOperators.XOR, r1)
+                .lanewise(VectorOperators.XOR, r2)
+                .lanewise(VectorOperators.XOR, r3);
+    }
+
+    private ByteVector invMixColumns(ByteVector a) {
+        ByteVector u = xtime(xtime(a.lanewise(VectorOperators.XOR, a.rearrange(rotate2))));
+        return mixColumns(a.lanewise(VectorOperators.XOR, u));
+    }
+}
@@ -10,6 +10,16 @@ if [ $? -ne 0 ]; then
     exit 1
 fi
 
+if java --list-modules 2>/dev/null | grep -q "^jdk.incubator.vector"; then
+    echo "Compiling vector library files..."
+    javac --add-modules jdk.incubator.vector -cp out/production -d out/production vector-src/*.java
+
+    if [ $? -ne 0 ]; then
+        echo "Vector library compilation failed!"
+        exit 1
+    fi
+fi
+
 echo "Compiling source files..."
 javac -cp out/production -d out/production src/*.java
 
@@ -0,0 +1,5 @@
+public interface BatchCipher extends SymmetricCipher {
+    int batchSize();
+    byte[][] encryptBatch(byte[][] blocks);
+    byte[][] decryptBatch(byte[][] blocks);
+}
@@ -0,0 +1,118 @@
+/**
+ * CMAC (NIST SP 800-38B, RFC 4493) для 64- и 128-битных блочных шифров.
+ *
+ * CBC-MAC с нулевым IV, в котором последний блок перед шифрованием складывается с подключом:
+ * K1 = L * x для полного блока, K2 = L * x^2 для неполного блока с набивкой 10*, где L = E(0^n).
+ * Каждый блок зависит от предыдущего, поэтому вычисление последовательное;
+ * для параллельной обработки больших данных предназначен Pmac.
+ */
+public class Cmac implements Mac {
+    private final SymmetricCipher cipher;
+    private final int blockSize;
+    private final byte[] k1;
+    private final byte[] k2;
+
+    /**
+     * @param cipher отдельный экземпляр шифра (ключ шифрования будет установлен)
+     * @param key ключ MAC
+     * @param blockSize размер блока шифра: 8 или 16 байт
+     */
+    public Cmac(SymmetricCipher cipher, byte[] key, int blockSize) {
+        this.cipher = cipher;
+        this.blockSize = blockSize;
+        byte[] l = init(cipher, key, blockSize, "CMAC");
+        this.k1 = doubled(l);
+        this.k2 = doubled(k1);
+    }
+
+    @Override
+    public int macLength() {
+        return blockSize;
+    }
+
+    @Override
+    public byte[] compute(byte[] data, int offset, int length) {
+        checkRegion(data, offset, length);
+        int blocks = Math.max(1, (length + blockSize - 1) / blockSize);
+        byte[] state = new byte[blockSize];
+        for (int i = 0; i < blocks - 1; i++) {
+            xorInto(state, data, offset + i * blockSize, blockSize);
+            state = cipher.encrypt(state);
+        }
+
+        int position = offset + (blocks - 1) * blockSize;
+        int tail = offset + length - position;
+        xorInto(state, data, position, tail);
+        if (tail == blockSize) {
+            xorInto(state, k1, 0, blockSize);
+        } else {
+            state[tail] ^= (byte) 0x80;
+            xorInto(state, k2, 0, blockSize);
+        }
+        return cipher.encrypt(state);
+    }
+
+    // Общая проверка параметров Cmac и Pmac; возвращает L = E(0^n)
+    static byte[] init(SymmetricCipher cipher, byte[] key, int blockSize, String name) {
+        if (cipher == null) {
+            throw new IllegalArgumentException("Cipher cannot be null");
+        }
+        if (key == null || key.length == 0) {
+            throw new IllegalArgumentException("Key cannot be null or empty");
+        }
+        if (blockSize != 8 && blockSize != 16) {
+            throw new IllegalArgumentException(name + " requires a 64-bit or 128-bit block cipher");
+        }
+        cipher.setEncryptionKey(key);
+        byte[] l = cipher.encrypt(new byte[blockSize]);
+        if (l.length != blockSize) {
+            throw new IllegalArgumentException("Block size does not match the cipher");
+        }
+        return l;
+    }
+
+    static void checkRegion(byte[] data, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException("Region out of bounds");
+        }
+    }
+
+    static void xorInto(byte[] target, byte[] source, int position, int length) {
+        for (int j = 0; j < length; j++) {
+            target[j] ^= source[position + j];
+        }
+    }
+
+    // Умножение на x в GF(2^n): R = x^64 + x^4 + x^3 + x + 1 или x^128 + x^7 + x^2 + x + 1 (big-endian)
+    static byte[] doubled(byte[] block) {
+        int n = block.length;
+        byte[] result = new byte[n];
+        for (int i = 0; i < n - 1; i++) {
+            result[i] = (byte) ((block[i] << 1) | ((block[i + 1] & 0xFF) >>> 7));
+        }
+        result[n - 1] = (byte) (block[n - 1] << 1);
+        if ((block[0] & 0x80) != 0) {
+            result[n - 1] ^= (byte) (n == 8 ? 0x1B : 0x87);
+        }
+        return result;
+    }
+
+    // Умножение на x^-1: при единичном младшем бите сначала прибавляется R, затем сдвиг вправо
+    static byte[] halved(byte[] block) {
+        int n = block.length;
+        byte[] value = block.clone();
+        boolean odd = (value[n - 1] & 1) != 0;
+        if (odd) {
+            value[n - 1] ^= (byte) (n == 8 ? 0x1B : 0x87);
+        }
+        byte[] result = new byte[n];
+        for (int i = n - 1; i > 0; i--) {
+            result[i] = (byte) (((value[i] & 0xFF) >>> 1) | (value[i - 1] << 7));
+        }
+        result[0] = (byte) ((value[0] & 0xFF) >>> 1);
+        if (odd) {
+            result[0] |= (byte) 0x80;
+        }
+        return result;
+    }
+}
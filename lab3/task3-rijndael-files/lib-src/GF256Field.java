@@ -0,0 +1,130 @@
+public final class GF256Field {
+    private final byte modulus;
+    private final int generator;
+    private final byte[] mulTable = new byte[256 * 256];
+    private final byte[] invTable = new byte[256];
+    private final int[] logTable = new int[256];
+    private final byte[] expTable = new byte[2 * 255];
+
+    public GF256Field(byte modulus) throws IllegalArgumentException {
+        if (!GF256Service.isIrreducible((modulus & 0xFF) | 0x100)) {
+            throw new IllegalArgumentException("Modulus must be irreducible");
+        }
+
+        this.modulus = modulus;
+        this.generator = findGenerator(modulus & 0xFF);
+
+        int value = 1;
+        for (int i = 0; i < 255; i++) {
+            expTable[i] = (byte) value;
+            expTable[i + 255] = (byte) value;
+            logTable[value] = i;
+            value = multiplySlow(value, generator, modulus & 0xFF);
+        }
+        logTable[0] = -1;
+
+        for (int a = 1; a < 256; a++) {
+            invTable[a] = expTable[(255 - logTable[a]) % 255];
+            int logA = logTable[a];
+            for (int b = 1; b < 256; b++) {
+                mulTable[(a << 8) | b] = expTable[logA + logTable[b]];
+            }
+        }
+    }
+
+    public byte getModulus() {
+        return modulus;
+    }
+
+    public byte getGenerator() {
+        return (byte) generator;
+    }
+
+    public byte multiply(byte a, byte b) {
+        return mulTable[((a & 0xFF) << 8) | (b & 0xFF)];
+    }
+
+    public byte square(byte a) {
+        return mulTable[((a & 0xFF) << 8) | (a & 0xFF)];
+    }
+
+    public byte inverse(byte a) throws IllegalArgumentException {
+        if (a == 0) {
+            throw new IllegalArgumentException("Zero has no inverse");
+        }
+        return invTable[a & 0xFF];
+    }
+
+    public byte divide(byte a, byte b) throws IllegalArgumentException {
+        if (b == 0) {
+            throw new IllegalArgumentException("Division by zero");
+        }
+        return mulTable[((a & 0xFF) << 8) | (invTable[b & 0xFF] & 0xFF)];
+    }
+
+    public byte power(byte a, int exponent) throws IllegalArgumentException {
+        if (a == 0) {
+            if (exponent < 0) {
+                throw new IllegalArgumentException("Zero has no inverse");
+            }
+            return (byte) (exponent == 0 ? 1 : 0);
+        }
+        return expTable[(int) Math.floorMod((long) logTable[a & 0xFF] * exponent, 255L)];
+    }
+
+    public int log(byte a) throws IllegalArgumentException {
+        if (a == 0) {
+            throw new IllegalArgumentException("Zero has no logarithm");
+        }
+        return logTable[a & 0xFF];
+    }
+
+    public byte exp(int e) {
+        return expTable[Math.floorMod(e, 255)];
+    }
+
+    byte[] multiplicationTable() {
+        return mulTable;
+    }
+
+    byte[] nibbleTables(byte c) {
+        byte[] tables = new byte[32];
+        int row = (c & 0xFF) << 8;
+        for (int i = 0; i < 16; i++) {
+            tables[i] = mulTable[row | i];
+            tables[16 + i] = mulTable[row | (i << 4)];
+        }
+        return tables;
+    }
+
+    private static int findGenerator(int mod) {
+        for (int candidate = 2; candidate < 256; candidate++) {
+            int value = candidate;
+            int order = 1;
+            while (value != 1) {
+                value = multiplySlow(value, candidate, mod);
+                order++;
+            }
+            if (order == 255) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("No generator found");
+    }
+
+    private static int multiplySlow(int a, int b, int mod) {
+        int result = 0;
+        for (int i = 0; i < 8; i++) {
+            if ((b & 1) != 0) {
+                result ^= a;
+            }
+            boolean highBitSet = (a & 0x80) != 0;
+            a = (a << 1) & 0xFF;
+            if (highBitSet) {
+                a ^= mod;
+            }
+            b >>= 1;
+        }
+        return result;
+    }
+}
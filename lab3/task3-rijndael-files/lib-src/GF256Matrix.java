@@ -0,0 +1,319 @@
+import java.util.Arrays;
+
+public final class GF256Matrix {
+    private final GF256Field field;
+    private final byte[][] entries;
+    private final int rows;
+    private final int columns;
+
+    public GF256Matrix(GF256Field field, byte[][] entries) throws IllegalArgumentException {
+        if (entries.length == 0 || entries[0].length == 0) {
+            throw new IllegalArgumentException("Matrix must not be empty");
+        }
+        this.field = field;
+        this.rows = entries.length;
+        this.columns = entries[0].length;
+        this.entries = new byte[rows][];
+        for (int i = 0; i < rows; i++) {
+            if (entries[i].length != columns) {
+                throw new IllegalArgumentException("Matrix rows must have equal length");
+            }
+            this.entries[i] = entries[i].clone();
+        }
+    }
+
+    public static GF256Matrix identity(GF256Field field, int size) {
+        byte[][] entries = new byte[size][size];
+        for (int i = 0; i < size; i++) {
+            entries[i][i] = 1;
+        }
+        return new GF256Matrix(field, entries);
+    }
+
+    public static GF256Matrix circulant(GF256Field field, byte... firstRow) {
+        int n = firstRow.length;
+        byte[][] entries = new byte[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                entries[i][j] = firstRow[Math.floorMod(j - i, n)];
+            }
+        }
+        return new GF256Matrix(field, entries);
+    }
+
+    public GF256Field getField() {
+        return field;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public byte get(int row, int column) {
+        return entries[row][column];
+    }
+
+    public byte[][] toArray() {
+        byte[][] copy = new byte[rows][];
+        for (int i = 0; i < rows; i++) {
+            copy[i] = entries[i].clone();
+        }
+        return copy;
+    }
+
+    public GF256Matrix multiply(GF256Matrix other) throws IllegalArgumentException {
+        checkField(other);
+        if (columns != other.rows) {
+            throw new IllegalArgumentException("Matrix dimensions do not match");
+        }
+
+        byte[][] result = new byte[rows][other.columns];
+        for (int i = 0; i < rows; i++) {
+            for (int k = 0; k < columns; k++) {
+                byte a = entries[i][k];
+                if (a == 0) {
+                    continue;
+                }
+                for (int j = 0; j < other.columns; j++) {
+                    result[i][j] ^= field.multiply(a, other.entries[k][j]);
+                }
+            }
+        }
+        return new GF256Matrix(field, result);
+    }
+
+    public byte[] multiply(byte[] vector) throws IllegalArgumentException {
+        if (vector.length != columns) {
+            throw new IllegalArgumentException("Vector length must equal column count");
+        }
+
+        byte[] result = new byte[rows];
+        for (int i = 0; i < rows; i++) {
+            byte sum = 0;
+            for (int j = 0; j < columns; j++) {
+                sum ^= field.multiply(entries[i][j], vector[j]);
+            }
+            result[i] = sum;
+        }
+        return result;
+    }
+
+    public GF256Matrix transpose() {
+        byte[][] result = new byte[columns][rows];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                result[j][i] = entries[i][j];
+            }
+        }
+        return new GF256Matrix(field, result);
+    }
+
+    public GF256Matrix inverse() throws IllegalArgumentException {
+        checkSquare();
+
+        int n = rows;
+        byte[][] work = toArray();
+        byte[][] result = identity(field, n).entries;
+
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            while (pivot < n && work[pivot][col] == 0) {
+                pivot++;
+            }
+            if (pivot == n) {
+                throw new IllegalArgumentException("Matrix is singular");
+            }
+            swap(work, col, pivot);
+            swap(result, col, pivot);
+
+            byte scale = field.inverse(work[col][col]);
+            scaleRow(work[col], scale);
+            scaleRow(result[col], scale);
+
+            for (int row = 0; row < n; row++) {
+                byte factor = work[row][col];
+                if (row != col && factor != 0) {
+                    addScaledRow(work[row], work[col], factor);
+                    addScaledRow(result[row], result[col], factor);
+                }
+            }
+        }
+
+        return new GF256Matrix(field, result);
+    }
+
+    public byte determinant() throws IllegalArgumentException {
+        checkSquare();
+        int[] all = new int[rows];
+        for (int i = 0; i < rows; i++) {
+            all[i] = i;
+        }
+        return determinant(all, all);
+    }
+
+    public boolean isInvertible() {
+        return rows == columns && determinant() != 0;
+    }
+
+    public boolean isMds() throws IllegalArgumentException {
+        if (rows > 16 || columns > 16) {
+            throw new IllegalArgumentException("MDS check supports at most 16 rows and columns");
+        }
+
+        int n = Math.min(rows, columns);
+        for (int size = 1; size <= n; size++) {
+            for (int rowMask = 0; rowMask < (1 << rows); rowMask++) {
+                if (Integer.bitCount(rowMask) != size) {
+                    continue;
+                }
+                int[] rowSet = indices(rowMask, size);
+                for (int colMask = 0; colMask < (1 << columns); colMask++) {
+                    if (Integer.bitCount(colMask) == size && determinant(rowSet, indices(colMask, size)) == 0) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    public int[][] toIntTables(byte[] substitution) throws IllegalArgumentException {
+        if (rows > 4) {
+            throw new IllegalArgumentException("Int tables need at most 4 rows");
+        }
+
+        int[][] tables = new int[columns][256];
+        for (int j = 0; j < columns; j++) {
+            for (int x = 0; x < 256; x++) {
+                byte s = substitution == null ? (byte) x : substitution[x];
+                int word = 0;
+                for (int i = 0; i < rows; i++) {
+                    word = (word << 8) | (field.multiply(entries[i][j], s) & 0xFF);
+                }
+                tables[j][x] = word;
+            }
+        }
+        return tables;
+    }
+
+    public long[][] toLongTables(byte[] substitution) throws IllegalArgumentException {
+        if (rows > 8) {
+            throw new IllegalArgumentException("Long tables need at most 8 rows");
+        }
+
+        long[][] tables = new long[columns][256];
+        for (int j = 0; j < columns; j++) {
+            for (int x = 0; x < 256; x++) {
+                byte s = substitution == null ? (byte) x : substitution[x];
+                long word = 0;
+                for (int i = 0; i < rows; i++) {
+                    word = (word << 8) | (field.multiply(entries[i][j], s) & 0xFF);
+                }
+                tables[j][x] = word;
+            }
+        }
+        return tables;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof GF256Matrix)) {
+            return false;
+        }
+        GF256Matrix other = (GF256Matrix) o;
+        return field.getModulus() == other.field.getModulus() && Arrays.deepEquals(entries, other.entries);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * field.getModulus() + Arrays.deepHashCode(entries);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (byte[] row : entries) {
+            for (int j = 0; j < columns; j++) {
+                sb.append(j == 0 ? "" : " ").append(String.format("%02X", row[j] & 0xFF));
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private byte determinant(int[] rowSet, int[] colSet) {
+        int n = rowSet.length;
+        byte[][] work = new byte[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                work[i][j] = entries[rowSet[i]][colSet[j]];
+            }
+        }
+
+        byte det = 1;
+        for (int col = 0; col < n; col++) {
+            int pivot = col;
+            while (pivot < n && work[pivot][col] == 0) {
+                pivot++;
+            }
+            if (pivot == n) {
+                return 0;
+            }
+            swap(work, col, pivot);
+            det = field.multiply(det, work[col][col]);
+
+            byte scale = field.inverse(work[col][col]);
+            for (int row = col + 1; row < n; row++) {
+                byte factor = work[row][col];
+                if (factor != 0) {
+                    addScaledRow(work[row], work[col], field.multiply(factor, scale));
+                }
+            }
+        }
+        return det;
+    }
+
+    private void scaleRow(byte[] row, byte scale) {
+        for (int j = 0; j < row.length; j++) {
+            row[j] = field.multiply(row[j], scale);
+        }
+    }
+
+    private void addScaledRow(byte[] target, byte[] source, byte factor) {
+        for (int j = 0; j < target.length; j++) {
+            target[j] ^= field.multiply(factor, source[j]);
+        }
+    }
+
+    private void checkField(GF256Matrix other) {
+        if (field.getModulus() != other.field.getModulus()) {
+            throw new IllegalArgumentException("Matrices must share a field");
+        }
+    }
+
+    private void checkSquare() {
+        if (rows != columns) {
+            throw new IllegalArgumentException("Matrix must be square");
+        }
+    }
+
+    private static int[] indices(int mask, int size) {
+        int[] result = new int[size];
+        for (int i = 0, n = 0; n < size; i++) {
+            if (((mask >>> i) & 1) != 0) {
+                result[n++] = i;
+            }
+        }
+        return result;
+    }
+
+    private static void swap(byte[][] rows, int a, int b) {
+        byte[] temp = rows[a];
+        rows[a] = rows[b];
+        rows[b] = temp;
+    }
+}
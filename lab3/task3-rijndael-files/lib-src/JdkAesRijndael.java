@@ -0,0 +1,192 @@
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+
+public class JdkAesRijndael implements SymmetricCipher, BatchCipher {
+    private static final byte AES_MODULUS = (byte) 0x1B;
+    private static final int BLOCK_SIZE = 16;
+    private static final String TRANSFORMATION = "AES/ECB/NoPadding";
+    private static final boolean SELF_CHECK_PASSED = runSelfCheck();
+
+    private final Rijndael fallback;
+    private final boolean accelerated;
+    private final int keySize;
+
+    private volatile SecretKeySpec encryptionKey;
+    private volatile SecretKeySpec decryptionKey;
+
+    private final ThreadLocal<KeyedCipher> encryptors = ThreadLocal.withInitial(KeyedCipher::new);
+    private final ThreadLocal<KeyedCipher> decryptors = ThreadLocal.withInitial(KeyedCipher::new);
+
+    public JdkAesRijndael(int blockSizeBits, int keySizeBits, byte modulus) {
+        this.fallback = new Rijndael(blockSizeBits, keySizeBits, modulus);
+        this.accelerated = blockSizeBits == 128 && modulus == AES_MODULUS && SELF_CHECK_PASSED;
+        this.keySize = keySizeBits / 8;
+    }
+
+    public boolean isAccelerated() {
+        return accelerated;
+    }
+
+    @Override
+    public void setEncryptionKey(byte[] key) {
+        if (!accelerated) {
+            fallback.setEncryptionKey(key);
+            return;
+        }
+        checkKeySize(key);
+        encryptionKey = new SecretKeySpec(key, "AES");
+    }
+
+    @Override
+    public void setDecryptionKey(byte[] key) {
+        if (!accelerated) {
+            fallback.setDecryptionKey(key);
+            return;
+        }
+        checkKeySize(key);
+        decryptionKey = new SecretKeySpec(key, "AES");
+    }
+
+    private void checkKeySize(byte[] key) {
+        // The fallback engine is never keyed on the JDK path, so it cannot validate the key for us
+        if (key.length != keySize) {
+            throw new IllegalArgumentException("Invalid key size");
+        }
+    }
+
+    @Override
+    public byte[] encrypt(byte[] block) {
+        if (!accelerated) {
+            return fallback.encrypt(block);
+        }
+        if (block.length != BLOCK_SIZE) {
+            throw new IllegalArgumentException("Invalid block size");
+        }
+        return transform(encryptors.get(), Cipher.ENCRYPT_MODE, encryptionKey, block, "Encryption key not set");
+    }
+
+    @Override
+    public byte[] decrypt(byte[] block) {
+        if (!accelerated) {
+            return fallback.decrypt(block);
+        }
+        if (block.length != BLOCK_SIZE) {
+            throw new IllegalArgumentException("Invalid block size");
+        }
+        return transform(decryptors.get(), Cipher.DECRYPT_MODE, decryptionKey, block, "Decryption key not set");
+    }
+
+    @Override
+    public int batchSize() {
+        return fallback.batchSize();
+    }
+
+    @Override
+    public byte[][] encryptBatch(byte[][] blocks) {
+        if (!accelerated) {
+            return fallback.encryptBatch(blocks);
+        }
+        byte[] joined = join(blocks);
+        byte[] output = transform(encryptors.get(), Cipher.ENCRYPT_MODE, encryptionKey, joined, "Encryption key not set");
+        return split(output, blocks.length);
+    }
+
+    @Override
+    public byte[][] decryptBatch(byte[][] blocks) {
+        if (!accelerated) {
+            return fallback.decryptBatch(blocks);
+        }
+        byte[] joined = join(blocks);
+        byte[] output = transform(decryptors.get(), Cipher.DECRYPT_MODE, decryptionKey, joined, "Decryption key not set");
+        return split(output, blocks.length);
+    }
+
+    private static byte[] transform(KeyedCipher keyed, int mode, SecretKeySpec key, byte[] data, String missingKey) {
+        if (key == null) {
+            throw new IllegalStateException(missingKey);
+        }
+        try {
+            if (keyed.key != key) {
+                keyed.cipher.init(mode, key);
+                keyed.key = key;
+            }
+            return keyed.cipher.doFinal(data);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JDK AES failed: " + e.getMessage(), e);
+        }
+    }
+
+    private static byte[] join(byte[][] blocks) {
+        byte[] joined = new byte[blocks.length * BLOCK_SIZE];
+        for (int i = 0; i < blocks.length; i++) {
+            if (blocks[i].length != BLOCK_SIZE) {
+                throw new IllegalArgumentException("Invalid block size");
+            }
+            System.arraycopy(blocks[i], 0, joined, i * BLOCK_SIZE, BLOCK_SIZE);
+        }
+        return joined;
+    }
+
+    private static byte[][] split(byte[] data, int count) {
+        byte[][] blocks = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            blocks[i] = Arrays.copyOfRange(data, i * BLOCK_SIZE, (i + 1) * BLOCK_SIZE);
+        }
+        return blocks;
+    }
+
+    private static boolean runSelfCheck() {
+        try {
+            for (int keySizeBits : new int[] {128, 192, 256}) {
+                byte[] key = new byte[keySizeBits / 8];
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = (byte) (i * 37 + keySizeBits);
+                }
+                byte[] data = new byte[4 * BLOCK_SIZE];
+                for (int i = 0; i < data.length; i++) {
+                    data[i] = (byte) (i * 11 + 5);
+                }
+
+                Rijndael reference = new Rijndael(128, keySizeBits, AES_MODULUS);
+                reference.setEncryptionKey(key);
+                reference.setDecryptionKey(key);
+
+                Cipher jdk = Cipher.getInstance(TRANSFORMATION);
+                jdk.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(key, "AES"));
+                byte[] encrypted = jdk.doFinal(data);
+                jdk.init(Cipher.DECRYPT_MODE, new SecretKeySpec(key, "AES"));
+                byte[] decrypted = jdk.doFinal(encrypted);
+
+                if (!Arrays.equals(data, decrypted)) {
+                    return false;
+                }
+                for (int offset = 0; offset < data.length; offset += BLOCK_SIZE) {
+                    byte[] block = Arrays.copyOfRange(data, offset, offset + BLOCK_SIZE);
+                    byte[] expected = Arrays.copyOfRange(encrypted, offset, offset + BLOCK_SIZE);
+                    if (!Arrays.equals(reference.encrypt(block), expected)
+                            || !Arrays.equals(reference.decrypt(expected), block)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        } catch (GeneralSecurityException | RuntimeException e) {
+            return false;
+        }
+    }
+
+    private static final class KeyedCipher {
+        final Cipher cipher;
+        SecretKeySpec key;
+
+        KeyedCipher() {
+            try {
+                cipher = Cipher.getInstance(TRANSFORMATION);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("JDK AES is not available: " + e.getMessage(), e);
+            }
+        }
+    }
+}
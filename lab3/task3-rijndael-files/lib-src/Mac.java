@@ -0,0 +1,24 @@
+import java.security.MessageDigest;
+
+/**
+ * Код аутентификации сообщения на основе блочного шифра (режимы CMAC и PMAC).
+ */
+public interface Mac {
+    int macLength();
+
+    /**
+     * @return MAC байтов data[offset, offset + length)
+     */
+    byte[] compute(byte[] data, int offset, int length);
+
+    default byte[] compute(byte[] data) {
+        return compute(data, 0, data.length);
+    }
+
+    /**
+     * Сравнение за время, не зависящее от позиции первого несовпадающего байта.
+     */
+    default boolean verify(byte[] data, int offset, int length, byte[] tag) {
+        return MessageDigest.isEqual(compute(data, offset, length), tag);
+    }
+}
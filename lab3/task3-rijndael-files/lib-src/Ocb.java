@@ -0,0 +1,268 @@
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Режим OCB (RFC 7253, OCB3) для 128-битных блочных шифров: шифрование и аутентификация за один проход,
+ * по одному вызову шифра на блок.
+ *
+ * Блок i шифруется как C_i = Offset_i XOR E(P_i XOR Offset_i), Offset_i = Offset_{i-1} XOR L_{ntz(i)};
+ * тег - шифр от XOR всех блоков открытого текста. Значения L_k = L_$ * x^(k+1) (удвоение в GF(2^128))
+ * вычисляются заранее, а Offset_i выражается через код Грея i, поэтому диапазоны по CHUNK_BLOCKS блоков
+ * и при шифровании, и при дешифровании обрабатываются параллельно независимо друг от друга.
+ */
+public class Ocb implements AuthenticatedCipher {
+    public static final int BLOCK_SIZE = 16;
+    public static final int TAG_LENGTH = 16;
+
+    private static final int CHUNK_BLOCKS = 1024;
+
+    private final SymmetricCipher cipher;
+    private final byte[] lStar;
+    private final byte[] lDollar;
+    // L_k как пары long (байты 0-7 и 8-15, big-endian); номер блока int, поэтому ntz(i) < 32
+    private final long[] lHi = new long[32];
+    private final long[] lLo = new long[32];
+
+    /**
+     * @param cipher 128-битный блочный шифр с установленными ключами шифрования и дешифрования
+     */
+    public Ocb(SymmetricCipher cipher) {
+        byte[] zero = cipher.encrypt(new byte[BLOCK_SIZE]);
+        if (zero.length != BLOCK_SIZE) {
+            throw new IllegalArgumentException("OCB requires a 128-bit block cipher");
+        }
+        this.cipher = cipher;
+        this.lStar = zero;
+        this.lDollar = doubled(lStar);
+        byte[] value = lDollar;
+        for (int k = 0; k < lHi.length; k++) {
+            value = doubled(value);
+            lHi[k] = getLong(value, 0);
+            lLo[k] = getLong(value, 8);
+        }
+    }
+
+    @Override
+    public int tagLength() {
+        return TAG_LENGTH;
+    }
+
+    @Override
+    public byte[] encrypt(byte[] iv, byte[] associatedData, byte[] plaintext, byte[] tag) {
+        if (tag.length != TAG_LENGTH) {
+            throw new IllegalArgumentException("Tag must be " + TAG_LENGTH + " bytes");
+        }
+        byte[] ciphertext = new byte[plaintext.length];
+        byte[] computed = process(iv, associatedData, plaintext, ciphertext, true);
+        System.arraycopy(computed, 0, tag, 0, TAG_LENGTH);
+        return ciphertext;
+    }
+
+    @Override
+    public byte[] decrypt(byte[] iv, byte[] associatedData, byte[] ciphertext, byte[] tag) {
+        byte[] plaintext = new byte[ciphertext.length];
+        byte[] computed = process(iv, associatedData, ciphertext, plaintext, false);
+        if (!MessageDigest.isEqual(computed, tag)) {
+            Arrays.fill(plaintext, (byte) 0);
+            throw new IllegalArgumentException("Invalid authentication tag");
+        }
+        return plaintext;
+    }
+
+    private byte[] process(byte[] iv, byte[] associatedData, byte[] input, byte[] output, boolean encrypt) {
+        byte[] offset = initialOffset(iv);
+        int fullBlocks = input.length / BLOCK_SIZE;
+        int chunkCount = (fullBlocks + CHUNK_BLOCKS - 1) / CHUNK_BLOCKS;
+        byte[][] partial = new byte[chunkCount][];
+
+        IntStream.range(0, chunkCount)
+                .parallel()
+                .forEach(c -> {
+                    int from = c * CHUNK_BLOCKS;
+                    int to = Math.min(from + CHUNK_BLOCKS, fullBlocks);
+                    long[] offsets = offsets(offset, from, to);
+                    byte[][] blocks = new byte[to - from][];
+                    for (int i = 0; i < blocks.length; i++) {
+                        int position = (from + i) * BLOCK_SIZE;
+                        blocks[i] = Arrays.copyOfRange(input, position, position + BLOCK_SIZE);
+                        xorLongs(blocks[i], offsets[2 * i], offsets[2 * i + 1]);
+                    }
+
+                    byte[][] transformed = CipherMode.transformRange(blocks, cipher, encrypt);
+                    byte[] plain = encrypt ? input : output;
+                    long sumHi = 0;
+                    long sumLo = 0;
+                    for (int i = 0; i < blocks.length; i++) {
+                        int position = (from + i) * BLOCK_SIZE;
+                        xorLongs(transformed[i], offsets[2 * i], offsets[2 * i + 1]);
+                        System.arraycopy(transformed[i], 0, output, position, BLOCK_SIZE);
+                        sumHi ^= getLong(plain, position);
+                        sumLo ^= getLong(plain, position + 8);
+                    }
+                    byte[] checksum = new byte[BLOCK_SIZE];
+                    xorLongs(checksum, sumHi, sumLo);
+                    partial[c] = checksum;
+                });
+
+        byte[] checksum = new byte[BLOCK_SIZE];
+        for (byte[] sum : partial) {
+            xorInto(checksum, sum, 0);
+        }
+        byte[] last = offsetAt(offset, fullBlocks);
+
+        int tail = input.length - fullBlocks * BLOCK_SIZE;
+        if (tail > 0) {
+            xorInto(last, lStar, 0);
+            byte[] pad = cipher.encrypt(last);
+            int position = fullBlocks * BLOCK_SIZE;
+            for (int j = 0; j < tail; j++) {
+                output[position + j] = (byte) (input[position + j] ^ pad[j]);
+            }
+            byte[] plain = encrypt ? input : output;
+            for (int j = 0; j < tail; j++) {
+                checksum[j] ^= plain[position + j];
+            }
+            checksum[tail] ^= (byte) 0x80;
+        }
+
+        xorInto(checksum, last, 0);
+        xorInto(checksum, lDollar, 0);
+        byte[] tag = cipher.encrypt(checksum);
+        xorInto(tag, hash(associatedData != null ? associatedData : new byte[0]), 0);
+        return tag;
+    }
+
+    // HASH(K, A): сумма E(A_i XOR Offset_i), смещения начинаются с нуля; блоки независимы
+    private byte[] hash(byte[] data) {
+        int fullBlocks = data.length / BLOCK_SIZE;
+        int chunkCount = (fullBlocks + CHUNK_BLOCKS - 1) / CHUNK_BLOCKS;
+        byte[] zero = new byte[BLOCK_SIZE];
+        byte[][] partial = new byte[chunkCount][];
+
+        IntStream.range(0, chunkCount)
+                .parallel()
+                .forEach(c -> {
+                    int from = c * CHUNK_BLOCKS;
+                    int to = Math.min(from + CHUNK_BLOCKS, fullBlocks);
+                    long[] offsets = offsets(zero, from, to);
+                    byte[][] blocks = new byte[to - from][];
+                    for (int i = 0; i < blocks.length; i++) {
+                        int position = (from + i) * BLOCK_SIZE;
+                        blocks[i] = Arrays.copyOfRange(data, position, position + BLOCK_SIZE);
+                        xorLongs(blocks[i], offsets[2 * i], offsets[2 * i + 1]);
+                    }
+                    byte[] sum = new byte[BLOCK_SIZE];
+                    for (byte[] encrypted : CipherMode.transformRange(blocks, cipher, true)) {
+                        xorInto(sum, encrypted, 0);
+                    }
+                    partial[c] = sum;
+                });
+
+        byte[] sum = new byte[BLOCK_SIZE];
+        for (byte[] chunkSum : partial) {
+            xorInto(sum, chunkSum, 0);
+        }
+        int tail = data.length - fullBlocks * BLOCK_SIZE;
+        if (tail > 0) {
+            byte[] block = offsetAt(zero, fullBlocks);
+            xorInto(block, lStar, 0);
+            for (int j = 0; j < tail; j++) {
+                block[j] ^= data[fullBlocks * BLOCK_SIZE + j];
+            }
+            block[tail] ^= (byte) 0x80;
+            xorInto(sum, cipher.encrypt(block), 0);
+        }
+        return sum;
+    }
+
+    // Offset_0 по nonce: Ktop = E(nonce без 6 младших битов), Stretch = Ktop || (Ktop[0..7] XOR Ktop[1..8]),
+    // Offset_0 = Stretch со сдвигом на bottom битов
+    private byte[] initialOffset(byte[] iv) {
+        if (iv == null || iv.length == 0 || iv.length >= BLOCK_SIZE) {
+            throw new IllegalArgumentException("Nonce must be 1 to 15 bytes for OCB mode");
+        }
+        byte[] nonce = new byte[BLOCK_SIZE];
+        System.arraycopy(iv, 0, nonce, BLOCK_SIZE - iv.length, iv.length);
+        nonce[BLOCK_SIZE - 1 - iv.length] |= 1;
+        int bottom = nonce[BLOCK_SIZE - 1] & 0x3F;
+        nonce[BLOCK_SIZE - 1] &= (byte) 0xC0;
+
+        byte[] ktop = cipher.encrypt(nonce);
+        byte[] stretch = Arrays.copyOf(ktop, BLOCK_SIZE + 8);
+        for (int i = 0; i < 8; i++) {
+            stretch[BLOCK_SIZE + i] = (byte) (ktop[i] ^ ktop[i + 1]);
+        }
+
+        int bytes = bottom / 8;
+        int bits = bottom % 8;
+        byte[] offset = new byte[BLOCK_SIZE];
+        for (int i = 0; i < BLOCK_SIZE; i++) {
+            int value = ((stretch[i + bytes] & 0xFF) << 8) | (stretch[i + bytes + 1] & 0xFF);
+            offset[i] = (byte) (value >>> (8 - bits));
+        }
+        return offset;
+    }
+
+    // Offset после index блоков: XOR L_k по единичным битам кода Грея index ^ (index >>> 1)
+    private byte[] offsetAt(byte[] initial, int index) {
+        byte[] offset = Arrays.copyOf(initial, BLOCK_SIZE);
+        int gray = index ^ (index >>> 1);
+        for (int k = 0; gray != 0; k++, gray >>>= 1) {
+            if ((gray & 1) != 0) {
+                xorLongs(offset, lHi[k], lLo[k]);
+            }
+        }
+        return offset;
+    }
+
+    // Смещения блоков с номерами (с нуля) from..to-1 парами long
+    private long[] offsets(byte[] initial, int from, int to) {
+        long[] offsets = new long[2 * (to - from)];
+        byte[] start = offsetAt(initial, from);
+        long hi = getLong(start, 0);
+        long lo = getLong(start, 8);
+        for (int i = from; i < to; i++) {
+            int k = Integer.numberOfTrailingZeros(i + 1);
+            hi ^= lHi[k];
+            lo ^= lLo[k];
+            offsets[2 * (i - from)] = hi;
+            offsets[2 * (i - from) + 1] = lo;
+        }
+        return offsets;
+    }
+
+    private static void xorInto(byte[] target, byte[] source, int position) {
+        for (int j = 0; j < BLOCK_SIZE; j++) {
+            target[j] ^= source[position + j];
+        }
+    }
+
+    private static void xorLongs(byte[] block, long hi, long lo) {
+        for (int j = 0; j < 8; j++) {
+            block[j] ^= (byte) (hi >>> (56 - 8 * j));
+            block[8 + j] ^= (byte) (lo >>> (56 - 8 * j));
+        }
+    }
+
+    private static long getLong(byte[] data, int position) {
+        long result = 0;
+        for (int j = 0; j < 8; j++) {
+            result = (result << 8) | (data[position + j] & 0xFF);
+        }
+        return result;
+    }
+
+    // Удвоение в GF(2^128) по модулю x^128 + x^7 + x^2 + x + 1 (big-endian)
+    private static byte[] doubled(byte[] block) {
+        byte[] result = new byte[BLOCK_SIZE];
+        for (int i = 0; i < BLOCK_SIZE - 1; i++) {
+            result[i] = (byte) ((block[i] << 1) | ((block[i + 1] & 0xFF) >>> 7));
+        }
+        result[BLOCK_SIZE - 1] = (byte) (block[BLOCK_SIZE - 1] << 1);
+        if ((block[0] & 0x80) != 0) {
+            result[BLOCK_SIZE - 1] ^= (byte) 0x87;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,192 @@
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+public class ShamirSecretSharing {
+    private static final int PARALLEL_SLICE = 64 * 1024;
+    private static final int SEED_SIZE = 32;
+
+    private final int threshold;
+    private final GF256Field field;
+    private final SecureRandom random;
+
+    public ShamirSecretSharing(int threshold, byte modulus) throws IllegalArgumentException {
+        this(threshold, modulus, new SecureRandom());
+    }
+
+    public ShamirSecretSharing(int threshold, byte modulus, SecureRandom random) throws IllegalArgumentException {
+        if (threshold < 1 || threshold > 255) {
+            throw new IllegalArgumentException("Threshold must be between 1 and 255");
+        }
+        this.threshold = threshold;
+        this.field = GF256Service.field(modulus);
+        this.random = random;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public Share[] split(byte[] secret, int shareCount) throws IllegalArgumentException {
+        if (shareCount < threshold || shareCount > 255) {
+            throw new IllegalArgumentException("Share count must be between threshold and 255");
+        }
+
+        byte[][] powers = new byte[shareCount][threshold];
+        byte[][] outputs = new byte[shareCount][secret.length];
+        for (int i = 0; i < shareCount; i++) {
+            byte x = (byte) (i + 1);
+            powers[i][0] = 1;
+            for (int j = 1; j < threshold; j++) {
+                powers[i][j] = field.multiply(powers[i][j - 1], x);
+            }
+        }
+
+        byte[] seed = new byte[SEED_SIZE];
+        random.nextBytes(seed);
+
+        int slices = (secret.length + PARALLEL_SLICE - 1) / PARALLEL_SLICE;
+        IntStream.range(0, slices).parallel().forEach(slice -> {
+            int start = slice * PARALLEL_SLICE;
+            int count = Math.min(PARALLEL_SLICE, secret.length - start);
+
+            byte[][] sources = new byte[threshold][];
+            sources[0] = Arrays.copyOfRange(secret, start, start + count);
+            byte[] coefficients = keystream(seed, slice, (threshold - 1) * count);
+            for (int j = 1; j < threshold; j++) {
+                sources[j] = Arrays.copyOfRange(coefficients, (j - 1) * count, j * count);
+            }
+            Arrays.fill(coefficients, (byte) 0);
+
+            for (int i = 0; i < shareCount; i++) {
+                GF256Region.dotProduct(field, powers[i], sources, 0, outputs[i], start, count);
+            }
+            for (byte[] source : sources) {
+                Arrays.fill(source, (byte) 0);
+            }
+        });
+        Arrays.fill(seed, (byte) 0);
+
+        Share[] shares = new Share[shareCount];
+        for (int i = 0; i < shareCount; i++) {
+            shares[i] = new Share(i + 1, outputs[i]);
+        }
+        return shares;
+    }
+
+    public byte[] combine(Share... shares) throws IllegalArgumentException {
+        Share[] chosen = choose(shares);
+        byte[] basis = lagrangeBasis(chosen);
+
+        int length = chosen[0].data.length;
+        byte[][] sources = new byte[threshold][];
+        for (int i = 0; i < threshold; i++) {
+            sources[i] = chosen[i].data;
+        }
+
+        byte[] secret = new byte[length];
+        int slices = (length + PARALLEL_SLICE - 1) / PARALLEL_SLICE;
+        IntStream.range(0, slices).parallel().forEach(slice -> {
+            int start = slice * PARALLEL_SLICE;
+            int count = Math.min(PARALLEL_SLICE, length - start);
+            GF256Region.dotProduct(field, basis, sources, start, secret, start, count);
+        });
+        return secret;
+    }
+
+    private Share[] choose(Share[] shares) {
+        Share[] chosen = new Share[threshold];
+        boolean[] seen = new boolean[256];
+        int count = 0;
+        for (Share share : shares) {
+            if (count == threshold) {
+                break;
+            }
+            if (seen[share.x]) {
+                continue;
+            }
+            if (count > 0 && share.data.length != chosen[0].data.length) {
+                throw new IllegalArgumentException("Shares must have equal length");
+            }
+            seen[share.x] = true;
+            chosen[count++] = share;
+        }
+        if (count < threshold) {
+            throw new IllegalArgumentException("Not enough shares to combine: " + count + " of " + threshold);
+        }
+        return chosen;
+    }
+
+    private byte[] lagrangeBasis(Share[] shares) {
+        byte[] basis = new byte[shares.length];
+        for (int i = 0; i < shares.length; i++) {
+            byte numerator = 1;
+            byte denominator = 1;
+            byte xi = (byte) shares[i].x;
+            for (int j = 0; j < shares.length; j++) {
+                if (j != i) {
+                    byte xj = (byte) shares[j].x;
+                    numerator = field.multiply(numerator, xj);
+                    denominator = field.multiply(denominator, (byte) (xj ^ xi));
+                }
+            }
+            basis[i] = field.divide(numerator, denominator);
+        }
+        return basis;
+    }
+
+    private static byte[] keystream(byte[] seed, int slice, int length) {
+        byte[] iv = new byte[16];
+        iv[0] = (byte) (slice >>> 24);
+        iv[1] = (byte) (slice >>> 16);
+        iv[2] = (byte) (slice >>> 8);
+        iv[3] = (byte) slice;
+
+        try {
+            Cipher cipher = Cipher.getInstance("AES/CTR/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, new SecretKeySpec(seed, "AES"), new IvParameterSpec(iv));
+            return cipher.doFinal(new byte[length]);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES-CTR is not available", e);
+        }
+    }
+
+    public static final class Share {
+        private final int x;
+        private final byte[] data;
+
+        public Share(int x, byte[] data) throws IllegalArgumentException {
+            if (x < 1 || x > 255) {
+                throw new IllegalArgumentException("Share index must be between 1 and 255");
+            }
+            this.x = x;
+            this.data = data;
+        }
+
+        public static Share fromBytes(byte[] encoded) throws IllegalArgumentException {
+            if (encoded.length < 1) {
+                throw new IllegalArgumentException("Encoded share is empty");
+            }
+            return new Share(encoded[0] & 0xFF, Arrays.copyOfRange(encoded, 1, encoded.length));
+        }
+
+        public int getX() {
+            return x;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        public byte[] toBytes() {
+            byte[] encoded = new byte[data.length + 1];
+            encoded[0] = (byte) x;
+            System.arraycopy(data, 0, encoded, 1, data.length);
+            return encoded;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Режим XTS (IEEE 1619) для шифрования секторов с произвольным доступом.
+ *
+ * Ключ состоит из двух половин: K1 шифрует данные, K2 - номер сектора (tweak).
+ * Tweak блока j сектора i: T_j = E_K2(i) * alpha^j, умножение на alpha - удвоение в GF(2^128)
+ * по модулю x^128 + x^7 + x^2 + x + 1 (little-endian). Неполный последний блок сектора
+ * обрабатывается кражей шифртекста, поэтому длина сектора не меняется.
+ * Секторы независимы и обрабатываются параллельно; шифрование выполняется на месте.
+ */
+public class Xts {
+    public static final int BLOCK_SIZE = 16;
+
+    private static final int WINDOW_SIZE = 16 * 1024 * 1024;
+
+    private final SymmetricCipher dataCipher;
+    private final SymmetricCipher tweakCipher;
+    private final int sectorSize;
+
+    /**
+     * @param dataCipher экземпляр 128-битного шифра для данных
+     * @param tweakCipher второй экземпляр того же шифра для tweak
+     * @param key ключ K1 || K2 (две половины равной длины)
+     * @param sectorSize размер сектора в байтах (не меньше размера блока)
+     */
+    public Xts(SymmetricCipher dataCipher, SymmetricCipher tweakCipher, byte[] key, int sectorSize) {
+        if (dataCipher == null || tweakCipher == null || dataCipher == tweakCipher) {
+            throw new IllegalArgumentException("Two distinct cipher instances are required");
+        }
+        if (key == null || key.length == 0 || key.length % 2 != 0) {
+            throw new IllegalArgumentException("Key must consist of two halves of equal length");
+        }
+        if (sectorSize < BLOCK_SIZE) {
+            throw new IllegalArgumentException("Sector size must be at least " + BLOCK_SIZE + " bytes");
+        }
+
+        int half = key.length / 2;
+        dataCipher.setEncryptionKey(Arrays.copyOfRange(key, 0, half));
+        dataCipher.setDecryptionKey(Arrays.copyOfRange(key, 0, half));
+        tweakCipher.setEncryptionKey(Arrays.copyOfRange(key, half, key.length));
+        if (tweakCipher.encrypt(new byte[BLOCK_SIZE]).length != BLOCK_SIZE) {
+            throw new IllegalArgumentException("XTS requires a 128-bit block cipher");
+        }
+
+        this.dataCipher = dataCipher;
+        this.tweakCipher = tweakCipher;
+        this.sectorSize = sectorSize;
+    }
+
+    public int getSectorSize() {
+        return sectorSize;
+    }
+
+    /**
+     * Шифрование на месте секторов data[offset, offset + length), первый из которых имеет номер firstSector.
+     * Последний сектор может быть короче sectorSize, но не короче блока.
+     */
+    public void encrypt(byte[] data, int offset, int length, long firstSector) {
+        process(data, offset, length, firstSector, true);
+    }
+
+    public void decrypt(byte[] data, int offset, int length, long firstSector) {
+        process(data, offset, length, firstSector, false);
+    }
+
+    /**
+     * Шифрование на месте секторов [firstSector, firstSector + sectorCount) файла;
+     * остальная часть файла не читается и не изменяется.
+     */
+    public void encryptFile(Path file, long firstSector, long sectorCount) throws IOException {
+        processFile(file, firstSector, sectorCount, true);
+    }
+
+    public void decryptFile(Path file, long firstSector, long sectorCount) throws IOException {
+        processFile(file, firstSector, sectorCount, false);
+    }
+
+    private void process(byte[] data, int offset, int length, long firstSector, boolean encrypt) {
+        if (offset < 0 || length < 0 || offset > data.length - length) {
+            throw new IndexOutOfBoundsException("Region out of bounds");
+        }
+        int sectors = (length + sectorSize - 1) / sectorSize;
+        if (sectors > 0 && length - (sectors - 1) * sectorSize < BLOCK_SIZE) {
+            throw new IllegalArgumentException("Last sector is shorter than one block");
+        }
+
+        IntStream.range(0, sectors)
+                .parallel()
+                .forEach(s -> {
+                    int start = offset + s * sectorSize;
+                    int size = Math.min(sectorSize, offset + length - start);
+                    processSector(data, start, size, firstSector + s, encrypt);
+                });
+    }
+
+    private void processFile(Path file, long firstSector, long sectorCount, boolean encrypt) throws IOException {
+        if (firstSector < 0 || sectorCount < 0) {
+            throw new IllegalArgumentException("Sector range must be non-negative");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long start = firstSector * sectorSize;
+            long end = Math.min(channel.size(), start + sectorCount * sectorSize);
+            if (sectorCount > 0 && start >= channel.size()) {
+                throw new IllegalArgumentException("Sector range is beyond the end of file");
+            }
+
+            int window = Math.max(1, WINDOW_SIZE / sectorSize) * sectorSize;
+            byte[] buffer = new byte[(int) Math.min(window, Math.max(0, end - start))];
+            for (long position = start; position < end; position += window) {
+                int length = (int) Math.min(window, end - position);
+                ByteBuffer view = ByteBuffer.wrap(buffer, 0, length);
+                while (view.hasRemaining()) {
+                    if (channel.read(view, position + view.position()) < 0) {
+                        throw new IOException("Unexpected end of file");
+                    }
+                }
+
+                process(buffer, 0, length, position / sectorSize, encrypt);
+
+                view = ByteBuffer.wrap(buffer, 0, length);
+                while (view.hasRemaining()) {
+                    channel.write(view, position + view.position());
+                }
+            }
+        }
+    }
+
+    private void processSector(byte[] data, int offset, int length, long sector, boolean encrypt) {
+        byte[] initial = new byte[BLOCK_SIZE];
+        putLittleEndian(initial, 0, sector);
+        byte[] tweak = tweakCipher.encrypt(initial);
+        long tLo = getLittleEndian(tweak, 0);
+        long tHi = getLittleEndian(tweak, 8);
+
+        int tail = length % BLOCK_SIZE;
+        int regular = length / BLOCK_SIZE - (tail == 0 ? 0 : 1);
+
+        // Все блоки сектора, кроме участвующих в краже шифртекста, независимы: один пакет на сектор
+        long[] tweaks = new long[2 * (regular + 2)];
+        byte[][] blocks = new byte[regular][];
+        for (int j = 0; j < regular + 2; j++) {
+            tweaks[2 * j] = tLo;
+            tweaks[2 * j + 1] = tHi;
+            if (j < regular) {
+                blocks[j] = Arrays.copyOfRange(data, offset + j * BLOCK_SIZE, offset + (j + 1) * BLOCK_SIZE);
+                xorTweak(blocks[j], 0, tLo, tHi);
+            }
+            long carry = tHi >> 63;
+            tHi = (tHi << 1) | (tLo >>> 63);
+            tLo = (tLo << 1) ^ (carry & 0x87);
+        }
+
+        byte[][] transformed = CipherMode.transformRange(blocks, dataCipher, encrypt);
+        for (int j = 0; j < regular; j++) {
+            xorTweak(transformed[j], 0, tweaks[2 * j], tweaks[2 * j + 1]);
+            System.arraycopy(transformed[j], 0, data, offset + j * BLOCK_SIZE, BLOCK_SIZE);
+        }
+        if (tail == 0) {
+            return;
+        }
+
+        // Кража шифртекста: последний полный блок m и неполный хвост
+        int m = offset + regular * BLOCK_SIZE;
+        int first = encrypt ? regular : regular + 1;
+        int second = encrypt ? regular + 1 : regular;
+
+        byte[] block = transformBlock(Arrays.copyOfRange(data, m, m + BLOCK_SIZE), tweaks, first, encrypt);
+        byte[] stolen = Arrays.copyOf(block, BLOCK_SIZE);
+        System.arraycopy(data, m + BLOCK_SIZE, stolen, 0, tail);
+        System.arraycopy(block, 0, data, m + BLOCK_SIZE, tail);
+        System.arraycopy(transformBlock(stolen, tweaks, second, encrypt), 0, data, m, BLOCK_SIZE);
+    }
+
+    private byte[] transformBlock(byte[] block, long[] tweaks, int index, boolean encrypt) {
+        xorTweak(block, 0, tweaks[2 * index], tweaks[2 * index + 1]);
+        byte[] result = encrypt ? dataCipher.encrypt(block) : dataCipher.decrypt(block);
+        xorTweak(result, 0, tweaks[2 * index], tweaks[2 * index + 1]);
+        return result;
+    }
+
+    private static void xorTweak(byte[] block, int offset, long lo, long hi) {
+        for (int i = 0; i < 8; i++) {
+            block[offset + i] ^= (byte) (lo >>> (8 * i));
+            block[offset + 8 + i] ^= (byte) (hi >>> (8 * i));
+        }
+    }
+
+    private static long getLittleEndian(byte[] data, int offset) {
+        long result = 0;
+        for (int i = 7; i >= 0; i--) {
+            result = (result << 8) | (data[offset + i] & 0xFF);
+        }
+        return result;
+    }
+
+    private static void putLittleEndian(byte[] data, int offset, long value) {
+        for (int i = 0; i < 8; i++) {
+            data[offset + i] = (byte) (value >>> (8 * i));
+        }
+    }
+}